@@ -0,0 +1,44 @@
+package co.com.crediya.config.metrics;
+
+import co.com.crediya.model.rol.gateways.RolGateway;
+import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import co.com.crediya.r2dbc.repository.rol.CachedRolGateway;
+import co.com.crediya.r2dbc.repository.usuario.FilteredUsuarioGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Wraps the outermost gateway of each chain with a timing decorator, so that every use case and every nested
+ * gateway call is timed, including the rol lookups made by the usuario adapter.
+ */
+@Configuration
+public class GatewayMetricsConfig {
+
+    /**
+     * Creates the usuario gateway injected everywhere.
+     *
+     * @param delegate the usuario gateway chain to time
+     * @param registry the registry of the timers
+     * @return the timed usuario gateway
+     */
+    @Bean
+    @Primary
+    public UsuarioGateway meteredUsuarioGateway(FilteredUsuarioGateway delegate, MeterRegistry registry) {
+        return new MeteredUsuarioGateway(delegate, registry);
+    }
+
+    /**
+     * Creates the rol gateway injected everywhere.
+     *
+     * @param delegate the rol gateway chain to time
+     * @param registry the registry of the timers
+     * @return the timed rol gateway
+     */
+    @Bean
+    @Primary
+    public RolGateway meteredRolGateway(CachedRolGateway delegate, MeterRegistry registry) {
+        return new MeteredRolGateway(delegate, registry);
+    }
+}
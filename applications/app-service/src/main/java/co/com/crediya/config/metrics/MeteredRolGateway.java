@@ -0,0 +1,63 @@
+package co.com.crediya.config.metrics;
+
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.model.rol.gateways.RolGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Decorator for {@link RolGateway} that times every operation, see {@link OperationTimer}.
+ */
+public class MeteredRolGateway implements RolGateway {
+    private static final String GATEWAY = "rol";
+
+    private final RolGateway delegate;
+    private final OperationTimer save;
+    private final OperationTimer findAll;
+    private final OperationTimer findById;
+    private final OperationTimer findAllById;
+    private final OperationTimer deleteById;
+
+    /**
+     * Constructor for the MeteredRolGateway.
+     *
+     * @param delegate the gateway to time
+     * @param registry the registry of the timers
+     */
+    public MeteredRolGateway(RolGateway delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.save = new OperationTimer(registry, GATEWAY, "save");
+        this.findAll = new OperationTimer(registry, GATEWAY, "findAll");
+        this.findById = new OperationTimer(registry, GATEWAY, "findById");
+        this.findAllById = new OperationTimer(registry, GATEWAY, "findAllById");
+        this.deleteById = new OperationTimer(registry, GATEWAY, "deleteById");
+    }
+
+    @Override
+    public Mono<Rol> save(Rol rol) {
+        return save.time(delegate.save(rol));
+    }
+
+    @Override
+    public Flux<Rol> findAll() {
+        return findAll.time(delegate.findAll());
+    }
+
+    @Override
+    public Mono<Rol> findById(Long id) {
+        return findById.time(delegate.findById(id));
+    }
+
+    @Override
+    public Flux<Rol> findAllById(Collection<Long> ids) {
+        return findAllById.time(delegate.findAllById(ids));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return deleteById.time(delegate.deleteById(id));
+    }
+}
@@ -0,0 +1,153 @@
+package co.com.crediya.config.metrics;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.model.usuario.UsuarioSort;
+import co.com.crediya.model.usuario.VersionedUsuario;
+import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decorator for {@link UsuarioGateway} that times every operation, see {@link OperationTimer}.
+ */
+public class MeteredUsuarioGateway implements UsuarioGateway {
+    private static final String GATEWAY = "usuario";
+
+    private final UsuarioGateway delegate;
+    private final OperationTimer save;
+    private final OperationTimer create;
+    private final OperationTimer createAll;
+    private final OperationTimer update;
+    private final OperationTimer patch;
+    private final OperationTimer findAll;
+    private final OperationTimer findPage;
+    private final OperationTimer findById;
+    private final OperationTimer findVersionById;
+    private final OperationTimer findVersionedById;
+    private final OperationTimer findExistingIds;
+    private final OperationTimer deleteById;
+    private final OperationTimer findByEmail;
+    private final OperationTimer findCredentialsByEmail;
+    private final OperationTimer findByDocumentoIdentidad;
+    private final OperationTimer existsByEmail;
+    private final OperationTimer existsByDocumentoIdentidad;
+
+    /**
+     * Constructor for the MeteredUsuarioGateway.
+     *
+     * @param delegate the gateway to time
+     * @param registry the registry of the timers
+     */
+    public MeteredUsuarioGateway(UsuarioGateway delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.save = new OperationTimer(registry, GATEWAY, "save");
+        this.create = new OperationTimer(registry, GATEWAY, "create");
+        this.createAll = new OperationTimer(registry, GATEWAY, "createAll");
+        this.update = new OperationTimer(registry, GATEWAY, "update");
+        this.patch = new OperationTimer(registry, GATEWAY, "patch");
+        this.findAll = new OperationTimer(registry, GATEWAY, "findAll");
+        this.findPage = new OperationTimer(registry, GATEWAY, "findPage");
+        this.findById = new OperationTimer(registry, GATEWAY, "findById");
+        this.findVersionById = new OperationTimer(registry, GATEWAY, "findVersionById");
+        this.findVersionedById = new OperationTimer(registry, GATEWAY, "findVersionedById");
+        this.findExistingIds = new OperationTimer(registry, GATEWAY, "findExistingIds");
+        this.deleteById = new OperationTimer(registry, GATEWAY, "deleteById");
+        this.findByEmail = new OperationTimer(registry, GATEWAY, "findByEmail");
+        this.findCredentialsByEmail = new OperationTimer(registry, GATEWAY, "findCredentialsByEmail");
+        this.findByDocumentoIdentidad = new OperationTimer(registry, GATEWAY, "findByDocumentoIdentidad");
+        this.existsByEmail = new OperationTimer(registry, GATEWAY, "existsByEmail");
+        this.existsByDocumentoIdentidad = new OperationTimer(registry, GATEWAY, "existsByDocumentoIdentidad");
+    }
+
+    @Override
+    public Mono<Usuario> save(Usuario usuario) {
+        return save.time(delegate.save(usuario));
+    }
+
+    @Override
+    public Mono<Usuario> create(Usuario usuario) {
+        return create.time(delegate.create(usuario));
+    }
+
+    @Override
+    public Flux<UsuarioImportResult> createAll(List<Usuario> usuarios) {
+        return createAll.time(delegate.createAll(usuarios));
+    }
+
+    @Override
+    public Mono<Usuario> update(Usuario usuario) {
+        return update.time(delegate.update(usuario));
+    }
+
+    @Override
+    public Mono<Usuario> patch(UsuarioPatch patch) {
+        return this.patch.time(delegate.patch(patch));
+    }
+
+    @Override
+    public Flux<Usuario> findAll() {
+        return findAll.time(delegate.findAll());
+    }
+
+    @Override
+    public Flux<Usuario> findPage(UsuarioCursor after, int limit, UsuarioSort sort) {
+        return findPage.time(delegate.findPage(after, limit, sort));
+    }
+
+    @Override
+    public Mono<Usuario> findById(Long id) {
+        return findById.time(delegate.findById(id));
+    }
+
+    @Override
+    public Mono<String> findVersionById(Long id) {
+        return findVersionById.time(delegate.findVersionById(id));
+    }
+
+    @Override
+    public Mono<VersionedUsuario> findVersionedById(Long id) {
+        return findVersionedById.time(delegate.findVersionedById(id));
+    }
+
+    @Override
+    public Flux<Long> findExistingIds(Collection<Long> ids) {
+        return findExistingIds.time(delegate.findExistingIds(ids));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return deleteById.time(delegate.deleteById(id));
+    }
+
+    @Override
+    public Mono<Usuario> findByEmail(String email) {
+        return findByEmail.time(delegate.findByEmail(email));
+    }
+
+    @Override
+    public Mono<Usuario> findCredentialsByEmail(String email) {
+        return findCredentialsByEmail.time(delegate.findCredentialsByEmail(email));
+    }
+
+    @Override
+    public Mono<Usuario> findByDocumentoIdentidad(String documentoIdentidad) {
+        return findByDocumentoIdentidad.time(delegate.findByDocumentoIdentidad(documentoIdentidad));
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return existsByEmail.time(delegate.existsByEmail(email));
+    }
+
+    @Override
+    public Mono<Boolean> existsByDocumentoIdentidad(String documentoIdentidad) {
+        return existsByDocumentoIdentidad.time(delegate.existsByDocumentoIdentidad(documentoIdentidad));
+    }
+}
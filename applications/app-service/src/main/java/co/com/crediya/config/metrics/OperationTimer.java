@@ -0,0 +1,92 @@
+package co.com.crediya.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the calls to one gateway method as {@code gateway.operations}, tagged with the gateway, the method and
+ * the outcome: {@code success} when it produced a value, {@code empty} when it completed without one,
+ * {@code cancelled} when its subscriber cancelled it first, as on a timeout or a client disconnect, and
+ * {@code error} with the simple name of the exception class otherwise. The success, empty and cancelled timers
+ * are registered up front and the error timers once per exception class, so a call never allocates tags.
+ * A Flux is timed until it terminates or is cancelled, and every call is recorded once.
+ */
+final class OperationTimer {
+    private static final String NAME = "gateway.operations";
+
+    private final MeterRegistry registry;
+    private final String gateway;
+    private final String method;
+    private final Timer success;
+    private final Timer empty;
+    private final Timer cancelled;
+    private final Map<Class<?>, Timer> errors = new ConcurrentHashMap<>();
+
+    OperationTimer(MeterRegistry registry, String gateway, String method) {
+        this.registry = registry;
+        this.gateway = gateway;
+        this.method = method;
+        this.success = timer("success", "none");
+        this.empty = timer("empty", "none");
+        this.cancelled = timer("cancelled", "none");
+    }
+
+    <T> Mono<T> time(Mono<T> call) {
+        return Mono.defer(() -> {
+            Observation observation = new Observation();
+            return call
+                    .doOnSuccess(value -> observation.record(value != null ? success : empty))
+                    .doOnError(error -> observation.record(error(error)))
+                    .doOnCancel(() -> observation.record(cancelled));
+        });
+    }
+
+    <T> Flux<T> time(Flux<T> call) {
+        return Flux.defer(() -> {
+            Observation observation = new Observation();
+            return call
+                    .doOnNext(value -> observation.produced = true)
+                    .doOnComplete(() -> observation.record(observation.produced ? success : empty))
+                    .doOnError(error -> observation.record(error(error)))
+                    .doOnCancel(() -> observation.record(cancelled));
+        });
+    }
+
+    private Timer error(Throwable error) {
+        Timer timer = errors.get(error.getClass());
+        return timer != null ? timer : errors.computeIfAbsent(error.getClass(), type -> timer("error", type.getSimpleName()));
+    }
+
+    private Timer timer(String outcome, String exception) {
+        return Timer.builder(NAME)
+                .tag("gateway", gateway)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .description("Time taken by the gateway operations")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static final class Observation {
+        private final long start = System.nanoTime();
+        private boolean produced;
+        private boolean recorded;
+
+        /**
+         * Records the call, unless it already was: a call that completes and is then cancelled is only a success.
+         */
+        void record(Timer timer) {
+            if (!recorded) {
+                recorded = true;
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
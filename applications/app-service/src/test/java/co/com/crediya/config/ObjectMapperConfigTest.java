@@ -1,21 +0,0 @@
-package co.com.crediya.config;
-
-import org.junit.jupiter.api.Test;
-import org.reactivecommons.utils.ObjectMapper;
-import org.reactivecommons.utils.ObjectMapperImp;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
-
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-
-class ObjectMapperConfigTest {
-
-    @Test
-    void testObjectMapperBean() {
-        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ObjectMapperConfig.class);
-        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
-        assertNotNull(objectMapper);
-        assertInstanceOf(ObjectMapperImp.class, objectMapper);
-        context.close();
-    }
-}
\ No newline at end of file
@@ -1,6 +1,11 @@
 package co.com.crediya.config;
 
+import co.com.crediya.model.token.gateways.IntrospectionCacheGateway;
+import co.com.crediya.model.token.gateways.TokenGateway;
+import co.com.crediya.model.usuario.gateways.PasswordHasherGateway;
 import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import co.com.crediya.usecase.login.LoginUseCase;
+import co.com.crediya.usecase.token.TokenUseCase;
 import co.com.crediya.usecase.usuario.UsuarioUseCase;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -17,6 +22,8 @@ class UseCasesConfigTest {
     void testUseCaseBeansExist() {
         try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
             assertNotNull(context.getBean(UsuarioUseCase.class));
+            assertNotNull(context.getBean(LoginUseCase.class));
+            assertNotNull(context.getBean(TokenUseCase.class));
         }
     }
 
@@ -27,5 +34,20 @@ class UseCasesConfigTest {
         public UsuarioGateway usuarioRepository() {
             return Mockito.mock(UsuarioGateway.class);
         }
+
+        @Bean
+        public PasswordHasherGateway passwordHasher() {
+            return Mockito.mock(PasswordHasherGateway.class);
+        }
+
+        @Bean
+        public TokenGateway tokenGateway() {
+            return Mockito.mock(TokenGateway.class);
+        }
+
+        @Bean
+        public IntrospectionCacheGateway introspectionCacheGateway() {
+            return Mockito.mock(IntrospectionCacheGateway.class);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package co.com.crediya.config.metrics;
+
+import co.com.crediya.model.exceptions.RepositoryException;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeteredUsuarioGatewayTest {
+
+    private UsuarioGateway delegate;
+    private SimpleMeterRegistry registry;
+    private MeteredUsuarioGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(UsuarioGateway.class);
+        registry = new SimpleMeterRegistry();
+        gateway = new MeteredUsuarioGateway(delegate, registry);
+    }
+
+    @Test
+    @DisplayName("Debe registrar el resultado exitoso y vacío de cada operación por separado")
+    void shouldTimeSuccessAndEmptyOutcomes() {
+        // Arrange
+        when(delegate.findByEmail("jane.doe@example.com")).thenReturn(Mono.just(new Usuario()));
+        when(delegate.findByEmail("nadie@example.com")).thenReturn(Mono.empty());
+
+        // Act
+        StepVerifier.create(gateway.findByEmail("jane.doe@example.com")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(gateway.findByEmail("nadie@example.com")).verifyComplete();
+        StepVerifier.create(gateway.findByEmail("nadie@example.com")).verifyComplete();
+
+        // Assert
+        assertEquals(1, timer("findByEmail", "success", "none").count());
+        assertEquals(2, timer("findByEmail", "empty", "none").count());
+        assertEquals(0, timer("findByDocumentoIdentidad", "success", "none").count());
+    }
+
+    @Test
+    @DisplayName("Debe etiquetar los errores con la clase de la excepción")
+    void shouldTagErrorsWithExceptionClass() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Mono.error(new RepositoryException("Error de BD")));
+
+        // Act
+        StepVerifier.create(gateway.findById(1L)).expectError(RepositoryException.class).verify();
+
+        // Assert
+        assertEquals(1, timer("findById", "error", "RepositoryException").count());
+    }
+
+    @Test
+    @DisplayName("Debe medir los flujos hasta que terminan")
+    void shouldTimeFluxesUntilTheyTerminate() {
+        // Arrange
+        when(delegate.findAll()).thenReturn(Flux.just(new Usuario(), new Usuario()), Flux.empty());
+
+        // Act
+        StepVerifier.create(gateway.findAll()).expectNextCount(2).verifyComplete();
+        StepVerifier.create(gateway.findAll()).verifyComplete();
+
+        // Assert
+        assertEquals(1, timer("findAll", "success", "none").count());
+        assertEquals(1, timer("findAll", "empty", "none").count());
+    }
+
+    @Test
+    @DisplayName("Debe registrar como canceladas las operaciones que se cancelan antes de terminar")
+    void shouldTimeCancelledOperations() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Mono.never());
+        when(delegate.findAll()).thenReturn(Flux.just(new Usuario(), new Usuario()));
+
+        // Act
+        StepVerifier.create(gateway.findById(1L)).thenCancel().verify();
+        StepVerifier.create(gateway.findById(1L).timeout(Duration.ofMillis(10))).expectError(TimeoutException.class).verify();
+        StepVerifier.create(gateway.findAll().take(1)).expectNextCount(1).verifyComplete();
+
+        // Assert
+        assertEquals(2, timer("findById", "cancelled", "none").count());
+        assertEquals(1, timer("findAll", "cancelled", "none").count());
+        assertEquals(0, timer("findAll", "success", "none").count());
+    }
+
+    private Timer timer(String method, String outcome, String exception) {
+        return registry.get("gateway.operations")
+                .tag("gateway", "usuario")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .timer();
+    }
+}
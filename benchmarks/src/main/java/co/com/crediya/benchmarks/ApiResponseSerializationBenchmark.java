@@ -0,0 +1,72 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.ApiResponse;
+import co.com.crediya.model.usuario.Usuario;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the JSON serialization of the response envelopes, with a Jackson mapper configured the way
+ * Spring Boot configures the one used by WebFlux.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ApiResponse<Usuario> single = ApiResponse.<Usuario>builder()
+            .codigo(200)
+            .mensaje("Usuario obtenido exitosamente")
+            .body(BenchmarkData.usuario(1))
+            .build();
+
+    @Benchmark
+    public byte[] serializeUsuario() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeUsuarioList(UsuarioList usuarios) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(usuarios.response);
+    }
+
+    /**
+     * The list envelope, for each list size.
+     */
+    @State(Scope.Benchmark)
+    public static class UsuarioList {
+        @Param({"20", "100"})
+        private int size;
+
+        private ApiResponse<List<Usuario>> response;
+
+        @Setup
+        public void setUp() {
+            response = ApiResponse.<List<Usuario>>builder()
+                    .codigo(200)
+                    .mensaje("Usuarios obtenidos exitosamente")
+                    .body(IntStream.rangeClosed(1, size).mapToObj(BenchmarkData::usuario).toList())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.rol.RolDTO;
+import co.com.crediya.api.dto.usuario.UsuarioDTO;
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.r2dbc.entity.UsuarioEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Sample data shared by the benchmarks, shaped like a typical registration request.
+ */
+final class BenchmarkData {
+
+    private static final Date FECHA_NACIMIENTO = Date.from(LocalDate.of(1995, 5, 10).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    private static final LocalDateTime DATE_CREATED = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private BenchmarkData() {
+    }
+
+    static UsuarioDTO usuarioDTO() {
+        return new UsuarioDTO(
+                null,
+                "Jane",
+                "Doe",
+                FECHA_NACIMIENTO,
+                "jane.doe@example.com",
+                "987654321",
+                "3109876543",
+                "Calle Falsa 123",
+                new BigDecimal("6000000"),
+                new RolDTO(1, "CLIENTE", "Rol para clientes"),
+                null);
+    }
+
+    static Usuario usuario(int id) {
+        return Usuario.builder()
+                .id(id)
+                .nombres("Jane")
+                .apellidos("Doe")
+                .fechaNacimiento(FECHA_NACIMIENTO)
+                .email("jane.doe" + id + "@example.com")
+                .documentoIdentidad(String.valueOf(987654321 + id))
+                .telefono("3109876543")
+                .direccion("Calle Falsa 123")
+                .salarioBase(new BigDecimal("6000000"))
+                .rol(Rol.builder().id(1).nombre("CLIENTE").descripcion("Rol para clientes").build())
+                .createdBy("admin")
+                .dateCreated(DATE_CREATED)
+                .build();
+    }
+
+    static UsuarioEntity usuarioEntity(int id) {
+        return UsuarioEntity.builder()
+                .id(id)
+                .nombres("Jane")
+                .apellidos("Doe")
+                .fechaNacimiento(FECHA_NACIMIENTO)
+                .email("jane.doe" + id + "@example.com")
+                .documentoIdentidad(String.valueOf(987654321 + id))
+                .telefono("3109876543")
+                .direccion("Calle Falsa 123")
+                .salarioBase(new BigDecimal("6000000"))
+                .idRol(1)
+                .createdBy("admin")
+                .modifiedBy("admin")
+                .dateCreated(DATE_CREATED)
+                .dateModified(DATE_CREATED)
+                .build();
+    }
+}
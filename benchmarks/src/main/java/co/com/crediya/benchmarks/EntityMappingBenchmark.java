@@ -0,0 +1,97 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.r2dbc.entity.RolEntity;
+import co.com.crediya.r2dbc.entity.UsuarioEntity;
+import co.com.crediya.r2dbc.mapper.RolEntityMapper;
+import co.com.crediya.r2dbc.mapper.UsuarioEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivecommons.utils.ObjectMapper;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written entity mappers of the r2dbc adapter with the reflection based
+ * {@link ObjectMapperImp} they replaced. The reflection benchmarks reproduce what the adapters used to do,
+ * including setting the rol from {@code idRol} after mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityMappingBenchmark {
+
+    private final ObjectMapper reflectionMapper = new ObjectMapperImp();
+    private final UsuarioEntityMapper usuarioEntityMapper = new UsuarioEntityMapper();
+    private final RolEntityMapper rolEntityMapper = new RolEntityMapper();
+
+    private UsuarioEntity usuarioEntity;
+    private Usuario usuario;
+    private RolEntity rolEntity;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        usuarioEntity = BenchmarkData.usuarioEntity(1);
+        usuario = usuarioEntityMapper.toModel(usuarioEntity);
+        rolEntity = RolEntity.builder()
+                .id(1)
+                .nombre("CLIENTE")
+                .descripcion("Rol para clientes")
+                .createdBy("admin")
+                .dateCreated(now)
+                .build();
+    }
+
+    @Benchmark
+    public Usuario usuarioToModelReflection() {
+        Usuario mapped = reflectionMapper.map(usuarioEntity, Usuario.class);
+        if (usuarioEntity.getIdRol() != null) {
+            mapped.setRol(Rol.builder().id(usuarioEntity.getIdRol()).build());
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public Usuario usuarioToModelMapper() {
+        return usuarioEntityMapper.toModel(usuarioEntity);
+    }
+
+    @Benchmark
+    public UsuarioEntity usuarioToEntityReflection() {
+        UsuarioEntity mapped = reflectionMapper.map(usuario, UsuarioEntity.class);
+        if (usuario.getRol() != null && usuario.getRol().getId() != null) {
+            mapped.setIdRol(usuario.getRol().getId());
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public UsuarioEntity usuarioToEntityMapper() {
+        return usuarioEntityMapper.toEntity(usuario);
+    }
+
+    @Benchmark
+    public Rol rolToModelReflection() {
+        return reflectionMapper.map(rolEntity, Rol.class);
+    }
+
+    @Benchmark
+    public Rol rolToModelMapper() {
+        return rolEntityMapper.toModel(rolEntity);
+    }
+}
@@ -0,0 +1,73 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.r2dbc.entity.UsuarioEntity;
+import co.com.crediya.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.crediya.r2dbc.mapper.UsuarioEntityMapper;
+import co.com.crediya.r2dbc.repository.usuario.UsuarioReactiveRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the entity mapping and reactive plumbing that {@link ReactiveAdapterOperations} adds around the
+ * repository calls, against a repository that answers immediately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactiveAdapterOperationsBenchmark {
+
+    private static final int ROWS = 100;
+
+    private Operations operations;
+    private Usuario usuario;
+
+    @Setup
+    public void setUp() {
+        List<UsuarioEntity> rows = IntStream.rangeClosed(1, ROWS).mapToObj(BenchmarkData::usuarioEntity).toList();
+        UsuarioReactiveRepository repository = (UsuarioReactiveRepository) Proxy.newProxyInstance(
+                UsuarioReactiveRepository.class.getClassLoader(),
+                new Class<?>[]{UsuarioReactiveRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> Mono.just(args[0]);
+                    case "findAll" -> Flux.fromIterable(rows);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        operations = new Operations(repository, new UsuarioEntityMapper());
+        usuario = BenchmarkData.usuario(1);
+    }
+
+    @Benchmark
+    public Usuario save() {
+        return operations.save(usuario).block();
+    }
+
+    @Benchmark
+    public List<Usuario> findAll() {
+        return operations.findAll().collectList().block();
+    }
+
+    private static final class Operations extends ReactiveAdapterOperations<Usuario, UsuarioEntity, Integer, UsuarioReactiveRepository> {
+        private Operations(UsuarioReactiveRepository repository, UsuarioEntityMapper mapper) {
+            super(repository, mapper::toEntity, mapper::toModel);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.usuario.UsuarioDTO;
+import co.com.crediya.api.validator.RequestValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Bean Validation of a {@link UsuarioDTO}, for a valid body and for one that breaks several
+ * constraints, which also pays for building the violation messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestValidatorBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private RequestValidator requestValidator;
+    private UsuarioDTO valid;
+    private UsuarioDTO invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        requestValidator = new RequestValidator(validatorFactory.getValidator());
+        valid = BenchmarkData.usuarioDTO();
+        invalid = new UsuarioDTO(null, "Jane123", "", valid.fechaNacimiento(), "no-es-un-correo", "12",
+                valid.telefono(), valid.direccion(), valid.salarioBase(), valid.rol(), null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public void validateValid(Blackhole blackhole) {
+        requestValidator.validate(valid).subscribe(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public void validateInvalid(Blackhole blackhole) {
+        requestValidator.validate(invalid).subscribe(blackhole::consume, blackhole::consume);
+    }
+
+    @Benchmark
+    public Map<String, String> findViolationsInvalid() {
+        return requestValidator.findViolations(invalid);
+    }
+}
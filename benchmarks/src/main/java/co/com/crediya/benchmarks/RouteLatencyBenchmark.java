@@ -0,0 +1,50 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.config.RouteLatencyHistograms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost the latency filter adds to every request: recording its latency in the histogram of its
+ * route, from one thread and from several threads recording the same route at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteLatencyBenchmark {
+
+    private RouteLatencyHistograms histograms;
+    private long latency;
+
+    @Setup
+    public void setUp() {
+        histograms = new RouteLatencyHistograms(Duration.ofSeconds(10));
+        latency = TimeUnit.MILLISECONDS.toNanos(12);
+    }
+
+    @Benchmark
+    public void record() {
+        histograms.record("GET", "/api/v1/usuarios/{id}", 200, latency);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        histograms.record("GET", "/api/v1/usuarios/{id}", 200, latency);
+    }
+}
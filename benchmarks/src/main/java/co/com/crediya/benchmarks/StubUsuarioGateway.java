@@ -0,0 +1,107 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioImportStatus;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.model.usuario.UsuarioSort;
+import co.com.crediya.model.usuario.VersionedUsuario;
+import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Gateway that answers immediately: it echoes the written usuario back, as the database would, and tells that
+ * every usuario asked about exists.
+ */
+final class StubUsuarioGateway implements UsuarioGateway {
+    @Override
+    public Mono<Usuario> save(Usuario usuario) {
+        return Mono.just(usuario);
+    }
+
+    @Override
+    public Mono<Usuario> create(Usuario usuario) {
+        return Mono.just(usuario);
+    }
+
+    @Override
+    public Flux<UsuarioImportResult> createAll(List<Usuario> usuarios) {
+        return Flux.fromIterable(usuarios)
+                .map(usuario -> new UsuarioImportResult(UsuarioImportStatus.CREATED, usuario));
+    }
+
+    @Override
+    public Mono<Usuario> update(Usuario usuario) {
+        return Mono.just(usuario);
+    }
+
+    @Override
+    public Mono<Usuario> patch(UsuarioPatch patch) {
+        return Mono.just(patch.getChanges());
+    }
+
+    @Override
+    public Flux<Usuario> findAll() {
+        return Flux.empty();
+    }
+
+    @Override
+    public Flux<Usuario> findPage(UsuarioCursor after, int limit, UsuarioSort sort) {
+        return Flux.empty();
+    }
+
+    @Override
+    public Mono<Usuario> findById(Long id) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<String> findVersionById(Long id) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<VersionedUsuario> findVersionedById(Long id) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Flux<Long> findExistingIds(Collection<Long> ids) {
+        return Flux.fromIterable(ids);
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Usuario> findByEmail(String email) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Usuario> findCredentialsByEmail(String email) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Usuario> findByDocumentoIdentidad(String documentoIdentidad) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return Mono.just(false);
+    }
+
+    @Override
+    public Mono<Boolean> existsByDocumentoIdentidad(String documentoIdentidad) {
+        return Mono.just(false);
+    }
+}
@@ -0,0 +1,85 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.model.token.TokenIntrospection;
+import co.com.crediya.security.config.IntrospectionCacheProperties;
+import co.com.crediya.security.config.JwtProperties;
+import co.com.crediya.security.token.IntrospectionCacheAdapter;
+import co.com.crediya.security.token.JwtTokenAdapter;
+import co.com.crediya.usecase.token.TokenUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many tokens a single thread introspects per second, in full batches of distinct tokens:
+ * {@code cached} answers every token from the introspection cache, as for a gateway that keeps sending the
+ * tokens of its active sessions, while {@code verified} keeps nothing, so every token has its signature
+ * checked and its usuario looked up, against a gateway that answers immediately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class TokenIntrospectionBenchmark {
+
+    private static final int BATCH = TokenUseCase.MAX_INTROSPECTION_BATCH;
+
+    private JwtTokenAdapter tokenAdapter;
+    private TokenUseCase cachingUseCase;
+    private TokenUseCase verifyingUseCase;
+    private List<String> tokens;
+
+    @Setup
+    public void setUp() {
+        // Keeps the claims of a single verified token, so a batch of distinct tokens checks every signature
+        tokenAdapter = new JwtTokenAdapter(new JwtProperties(null, null, null, null, null, 1, null, null),
+                new SimpleMeterRegistry());
+        cachingUseCase = new TokenUseCase(tokenAdapter,
+                new IntrospectionCacheAdapter(new IntrospectionCacheProperties(null, Duration.ofHours(1))),
+                new StubUsuarioGateway());
+        verifyingUseCase = new TokenUseCase(tokenAdapter,
+                new IntrospectionCacheAdapter(new IntrospectionCacheProperties(null, Duration.ZERO)),
+                new StubUsuarioGateway());
+        tokens = new ArrayList<>(BATCH);
+        for (int i = 1; i <= BATCH; i++) {
+            tokens.add(tokenAdapter.issue(BenchmarkData.usuario(i)).block().getValue());
+        }
+        cachingUseCase.introspect(tokens).block();
+    }
+
+    @TearDown
+    public void tearDown() {
+        tokenAdapter.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<TokenIntrospection> cached() {
+        return cachingUseCase.introspect(tokens).block();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<TokenIntrospection> verified() {
+        return verifyingUseCase.introspect(tokens).block();
+    }
+}
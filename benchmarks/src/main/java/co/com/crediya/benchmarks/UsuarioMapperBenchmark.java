@@ -0,0 +1,42 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.api.dto.usuario.UsuarioDTO;
+import co.com.crediya.api.mapper.usuario.UsuarioMapper;
+import co.com.crediya.model.usuario.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion between the request DTO and the domain model done by every write request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UsuarioMapperBenchmark {
+
+    private final UsuarioMapper usuarioMapper = new UsuarioMapper();
+    private final UsuarioDTO usuarioDTO = BenchmarkData.usuarioDTO();
+    private final Usuario usuario = BenchmarkData.usuario(1);
+
+    @Benchmark
+    public Usuario toModel() {
+        return usuarioMapper.toModel(usuarioDTO);
+    }
+
+    @Benchmark
+    public UsuarioDTO toDTO() {
+        return usuarioMapper.toDTO(usuario);
+    }
+}
@@ -0,0 +1,58 @@
+package co.com.crediya.benchmarks;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.gateways.PasswordHasherGateway;
+import co.com.crediya.usecase.usuario.UsuarioUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the reactive chains of the usuario write use cases against a gateway that answers immediately,
+ * which isolates the cost the use case layer adds to each request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UsuarioUseCaseBenchmark {
+
+    private final UsuarioUseCase usuarioUseCase = new UsuarioUseCase(new StubUsuarioGateway(), new StubPasswordHasher());
+    private final Usuario usuario = BenchmarkData.usuario(1);
+
+    @Benchmark
+    public Usuario saveUsuario() {
+        return usuarioUseCase.saveUsuario(usuario).block();
+    }
+
+    @Benchmark
+    public Usuario updateUsuario() {
+        return usuarioUseCase.updateUsuario(usuario).block();
+    }
+
+    /**
+     * A hasher that is never called by the measured methods.
+     */
+    private static final class StubPasswordHasher implements PasswordHasherGateway {
+        @Override
+        public Mono<String> hash(String password) {
+            return Mono.just(password);
+        }
+
+        @Override
+        public Mono<Boolean> matches(String password, String hash) {
+            return Mono.just(password.equals(hash));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package co.com.crediya.model.caller;
+
+/**
+ * The Reactor context entry that identifies the client calling a gateway operation. The entry point puts an
+ * opaque id of the client under {@link #KEY}, and the adapters read it to tell the operations of one client
+ * apart, as the r2dbc adapter does to keep the reads of a client on the primary database right after it writes.
+ */
+public final class CallerContext {
+    /**
+     * The Reactor context key of the id of the caller, a String.
+     */
+    public static final String KEY = "crediya.caller";
+
+    private CallerContext() {
+    }
+}
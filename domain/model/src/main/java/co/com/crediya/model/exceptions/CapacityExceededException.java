@@ -0,0 +1,25 @@
+package co.com.crediya.model.exceptions;
+
+import java.time.Duration;
+
+/**
+ * A request was shed because the resource it needs is saturated. It is raised under load, so it skips capturing
+ * its stack trace.
+ */
+public class CapacityExceededException extends InfrastructureException {
+    private final Duration retryAfter;
+
+    public CapacityExceededException(String message, Duration retryAfter) {
+        super(message, false);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Gets how long the client should wait before retrying.
+     *
+     * @return the time to wait before retrying
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
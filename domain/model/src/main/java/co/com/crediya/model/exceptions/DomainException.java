@@ -1,7 +1,12 @@
 package co.com.crediya.model.exceptions;
 
+/**
+ * Base of the exceptions for expected business outcomes, such as registering an email twice. They are part of
+ * the normal flow of a request rather than a fault, so they skip capturing their stack trace and do not keep
+ * suppressed exceptions, which makes rejecting a request about as cheap as accepting it.
+ */
 public class DomainException extends RuntimeException {
     public DomainException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
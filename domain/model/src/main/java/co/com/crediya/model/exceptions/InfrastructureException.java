@@ -8,4 +8,12 @@ public class InfrastructureException extends RuntimeException {
     public InfrastructureException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Creates an exception that does not capture its stack trace, for faults that are expected to be raised
+     * often, such as shedding load.
+     */
+    protected InfrastructureException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,7 @@
+package co.com.crediya.model.exceptions;
+
+public class InvalidCredentialsException extends DomainException {
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package co.com.crediya.model.exceptions;
+
+public class InvalidTokenException extends DomainException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,8 @@ import co.com.crediya.model.rol.Rol;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
  * Interface for the repository of roles.
  */
@@ -31,6 +33,14 @@ public interface RolGateway {
      */
     Mono<Rol> findById(Long id);
 
+    /**
+     * Gets the roles matching the given IDs.
+     *
+     * @param ids the IDs of the roles to get
+     * @return a Flux containing the roles found, in no particular order
+     */
+    Flux<Rol> findAllById(Collection<Long> ids);
+
     /**
      * Deletes a rol by its ID.
      *
@@ -0,0 +1,20 @@
+package co.com.crediya.model.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A signed token that proves the identity of a usuario until it expires.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class AccessToken {
+    private String value;
+    private Instant expiresAt;
+}
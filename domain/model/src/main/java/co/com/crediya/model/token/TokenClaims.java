@@ -0,0 +1,26 @@
+package co.com.crediya.model.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * What a valid token says about the usuario it was issued to.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TokenClaims {
+    private Integer usuarioId;
+    private String email;
+    /**
+     * The name of the rol of the usuario when the token was issued.
+     */
+    private String rol;
+    private Instant issuedAt;
+    private Instant expiresAt;
+}
@@ -0,0 +1,26 @@
+package co.com.crediya.model.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What this service knows about a token presented to it by another service: whether it is still active and, if
+ * so, its claims.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TokenIntrospection {
+    private boolean active;
+    /**
+     * The claims of the token, or null if it is not active.
+     */
+    private TokenClaims claims;
+    /**
+     * Why the token is not active, or null if it is.
+     */
+    private String mensaje;
+}
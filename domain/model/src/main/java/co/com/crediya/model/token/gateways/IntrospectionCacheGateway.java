@@ -0,0 +1,30 @@
+package co.com.crediya.model.token.gateways;
+
+import co.com.crediya.model.token.TokenIntrospection;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Interface for keeping the introspections of tokens for a while, so that a token introspected again is answered
+ * without verifying it or reading its usuario.
+ */
+public interface IntrospectionCacheGateway {
+    /**
+     * Gets the kept introspections of some tokens.
+     *
+     * @param tokens the tokens
+     * @return a Mono containing the introspections that are kept and have not expired, by token
+     */
+    Mono<Map<String, TokenIntrospection>> findAll(Collection<String> tokens);
+
+    /**
+     * Keeps the introspections of some tokens. The introspection of an active token is never kept past the
+     * expiry of the token.
+     *
+     * @param introspections the introspections, by token
+     * @return a Mono that completes once they are kept
+     */
+    Mono<Void> saveAll(Map<String, TokenIntrospection> introspections);
+}
@@ -0,0 +1,36 @@
+package co.com.crediya.model.token.gateways;
+
+import co.com.crediya.model.token.AccessToken;
+import co.com.crediya.model.token.TokenClaims;
+import co.com.crediya.model.usuario.Usuario;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface for issuing signed tokens and verifying them. Tokens are verified with the public keys alone, so
+ * verifying one never reads the usuario again.
+ */
+public interface TokenGateway {
+    /**
+     * Issues a token for a usuario, carrying its ID, email and the name of its rol.
+     *
+     * @param usuario the authenticated usuario
+     * @return a Mono containing the signed token
+     */
+    Mono<AccessToken> issue(Usuario usuario);
+
+    /**
+     * Verifies the signature and expiry of a token.
+     *
+     * @param token the token to verify
+     * @return a Mono containing the claims of the token, or an InvalidTokenException error if the token is
+     * malformed, not signed by one of the current keys or expired
+     */
+    Mono<TokenClaims> verify(String token);
+
+    /**
+     * Gets the public keys that tokens are verified with, so that other services can verify them locally.
+     *
+     * @return a Mono containing the public keys, as a JSON Web Key Set document
+     */
+    Mono<String> publicKeySet();
+}
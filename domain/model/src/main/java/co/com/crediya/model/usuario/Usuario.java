@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -35,6 +36,12 @@ public class Usuario {
 
     private Rol rol; // Nuevo campo de tipo Rol
 
+    /**
+     * The hash of the password, only loaded to check credentials and never returned by the other reads.
+     */
+    @ToString.Exclude
+    private String passwordHash;
+
     // Datos de auditoría
     private String createdBy;
 
@@ -0,0 +1,34 @@
+package co.com.crediya.model.usuario;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the last usuario of a page, from which the next page is read.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UsuarioCursor {
+    private UsuarioSort sort;
+
+    private Integer id;
+
+    private LocalDateTime dateCreated;
+
+    /**
+     * Creates the cursor that points right after the given usuario.
+     *
+     * @param sort    the order of the page
+     * @param usuario the last usuario of the page
+     * @return the cursor for the next page
+     */
+    public static UsuarioCursor after(UsuarioSort sort, Usuario usuario) {
+        return new UsuarioCursor(sort, usuario.getId(), usuario.getDateCreated());
+    }
+}
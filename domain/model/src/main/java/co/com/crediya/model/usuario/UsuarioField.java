@@ -0,0 +1,19 @@
+package co.com.crediya.model.usuario;
+
+/**
+ * Fields of a usuario that can be changed on their own.
+ */
+public enum UsuarioField {
+    NOMBRES,
+    APELLIDOS,
+    FECHA_NACIMIENTO,
+    EMAIL,
+    DOCUMENTO_IDENTIDAD,
+    TELEFONO,
+    DIRECCION,
+    SALARIO_BASE,
+    /**
+     * The rol, identified by its ID.
+     */
+    ROL
+}
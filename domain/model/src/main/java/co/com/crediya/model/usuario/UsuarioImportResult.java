@@ -0,0 +1,22 @@
+package co.com.crediya.model.usuario;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of importing a single usuario.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UsuarioImportResult {
+    private UsuarioImportStatus status;
+
+    /**
+     * The registered usuario when the status is CREATED, otherwise the usuario that was submitted.
+     */
+    private Usuario usuario;
+}
@@ -0,0 +1,23 @@
+package co.com.crediya.model.usuario;
+
+/**
+ * Outcome of importing a single usuario.
+ */
+public enum UsuarioImportStatus {
+    /**
+     * The usuario was registered.
+     */
+    CREATED,
+    /**
+     * The email is already registered.
+     */
+    DUPLICATE_EMAIL,
+    /**
+     * The identity document is already registered.
+     */
+    DUPLICATE_DOCUMENTO_IDENTIDAD,
+    /**
+     * The record did not pass validation and was not written.
+     */
+    INVALID
+}
@@ -0,0 +1,24 @@
+package co.com.crediya.model.usuario;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of usuarios read with keyset pagination.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UsuarioPage {
+    private List<Usuario> usuarios;
+
+    /**
+     * Cursor of the next page, or null when this is the last one.
+     */
+    private UsuarioCursor next;
+}
@@ -0,0 +1,32 @@
+package co.com.crediya.model.usuario;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * A partial update of a usuario: only the listed fields change, every other one keeps its current value.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UsuarioPatch {
+    /**
+     * The ID of the usuario to update.
+     */
+    private Integer id;
+
+    /**
+     * The fields to change.
+     */
+    private Set<UsuarioField> fields;
+
+    /**
+     * The new values of the fields to change; the values of the other fields are ignored.
+     */
+    private Usuario changes;
+}
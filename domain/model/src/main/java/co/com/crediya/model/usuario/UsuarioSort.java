@@ -0,0 +1,15 @@
+package co.com.crediya.model.usuario;
+
+/**
+ * Orders in which usuarios can be paged.
+ */
+public enum UsuarioSort {
+    /**
+     * Ascending by ID.
+     */
+    ID,
+    /**
+     * Ascending by creation date, usuarios without one first, ties broken by ID.
+     */
+    DATE_CREATED
+}
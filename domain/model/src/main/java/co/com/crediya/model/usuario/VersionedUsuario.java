@@ -0,0 +1,22 @@
+package co.com.crediya.model.usuario;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A usuario together with the version it was read at.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class VersionedUsuario {
+    private Usuario usuario;
+
+    /**
+     * The version of the usuario and its rol, read in the same statement as the usuario itself.
+     */
+    private String version;
+}
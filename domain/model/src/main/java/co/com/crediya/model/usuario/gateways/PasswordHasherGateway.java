@@ -0,0 +1,28 @@
+package co.com.crediya.model.usuario.gateways;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface for hashing passwords and checking them against their hash. Both operations are deliberately slow,
+ * so implementations run them away from the threads that serve requests.
+ */
+public interface PasswordHasherGateway {
+    /**
+     * Hashes a password.
+     *
+     * @param password the password to hash
+     * @return a Mono containing the hash, or a CapacityExceededException error if too many hashes are pending
+     */
+    Mono<String> hash(String password);
+
+    /**
+     * Checks a password against a hash. Without a hash the check still takes as long as with one, and fails, so
+     * that the time of a login does not tell whether the usuario exists.
+     *
+     * @param password the password to check
+     * @param hash     the hash to check against, or null if there is none
+     * @return a Mono containing true if the password matches the hash, or a CapacityExceededException error if
+     * too many checks are pending
+     */
+    Mono<Boolean> matches(String password, String hash);
+}
@@ -1,9 +1,17 @@
 package co.com.crediya.model.usuario.gateways;
 
 import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.model.usuario.UsuarioSort;
+import co.com.crediya.model.usuario.VersionedUsuario;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Interface for the repository of usuarios.
  */
@@ -16,6 +24,47 @@ public interface UsuarioGateway {
      */
     Mono<Usuario> save(Usuario usuario);
 
+    /**
+     * Registers a new usuario in a single write, relying on the unique constraints of the store
+     * instead of checking for duplicates beforehand. Its password hash is stored when it has one.
+     *
+     * @param usuario the usuario to register
+     * @return a Mono containing the registered usuario, or an EmailAlreadyExistsException or
+     * DocumentoIdentidadAlreadyExistsException error if the email or identity document are already registered
+     */
+    Mono<Usuario> create(Usuario usuario);
+
+    /**
+     * Registers a batch of usuarios with a single multi-row write, skipping the ones whose email or identity
+     * document are already registered, including by an earlier usuario of the same batch.
+     *
+     * @param usuarios the usuarios to register
+     * @return a Flux containing one result per usuario, in the same order as the input
+     */
+    Flux<UsuarioImportResult> createAll(List<Usuario> usuarios);
+
+    /**
+     * Updates an existing usuario in a single write, rejecting the change when its email or identity
+     * document belong to another usuario.
+     *
+     * @param usuario the usuario to update, identified by its ID
+     * @return a Mono containing the updated usuario, empty if no usuario has that ID, or an
+     * EmailAlreadyExistsException or DocumentoIdentidadAlreadyExistsException error if the email or identity
+     * document are registered to another usuario
+     */
+    Mono<Usuario> update(Usuario usuario);
+
+    /**
+     * Changes some fields of an existing usuario in a single write that touches only their columns,
+     * rejecting the change when a new email or identity document belongs to another usuario.
+     *
+     * @param patch the fields to change and their new values
+     * @return a Mono containing the updated usuario, empty if no usuario has that ID, or an
+     * EmailAlreadyExistsException or DocumentoIdentidadAlreadyExistsException error if the email or identity
+     * document are registered to another usuario
+     */
+    Mono<Usuario> patch(UsuarioPatch patch);
+
     /**
      * Gets all usuarios.
      *
@@ -23,6 +72,16 @@ public interface UsuarioGateway {
      */
     Flux<Usuario> findAll();
 
+    /**
+     * Gets a page of usuarios using keyset pagination.
+     *
+     * @param after the position after which the page starts, or null for the first page
+     * @param limit the max number of usuarios to return
+     * @param sort  the order of the usuarios
+     * @return a Flux containing the usuarios of the page, in order
+     */
+    Flux<Usuario> findPage(UsuarioCursor after, int limit, UsuarioSort sort);
+
     /**
      * Gets a usuario by its ID.
      *
@@ -31,6 +90,32 @@ public interface UsuarioGateway {
      */
     Mono<Usuario> findById(Long id);
 
+    /**
+     * Gets the version of a usuario: an opaque token that changes whenever the usuario or its rol change.
+     * It is far cheaper to read than the usuario itself, so callers can tell whether a copy they hold is
+     * still current without loading it again.
+     *
+     * @param id the ID of the usuario
+     * @return a Mono containing the version, or empty if the usuario does not exist
+     */
+    Mono<String> findVersionById(Long id);
+
+    /**
+     * Gets a usuario and its version with a single read, so the version describes the usuario it comes with.
+     *
+     * @param id the ID of the usuario
+     * @return a Mono containing the usuario and its version, or empty if the usuario does not exist
+     */
+    Mono<VersionedUsuario> findVersionedById(Long id);
+
+    /**
+     * Tells which of some usuarios still exist, without loading them.
+     *
+     * @param ids the IDs of the usuarios
+     * @return a Flux containing the IDs of the usuarios that exist, in no particular order
+     */
+    Flux<Long> findExistingIds(Collection<Long> ids);
+
     /**
      * Deletes a usuario by its ID.
      *
@@ -47,6 +132,14 @@ public interface UsuarioGateway {
      */
     Mono<Usuario> findByEmail(String email);
 
+    /**
+     * Gets a usuario by its email together with its password hash, to check its credentials.
+     *
+     * @param email the email of the usuario
+     * @return a Mono containing the usuario with its password hash, or empty if no usuario has the email
+     */
+    Mono<Usuario> findCredentialsByEmail(String email);
+
     /**
      * Gets a usuario by its identity document.
      *
@@ -54,5 +147,22 @@ public interface UsuarioGateway {
      * @return a Mono containing the usuario
      */
     Mono<Usuario> findByDocumentoIdentidad(String documentoIdentidad);
-}
 
+    /**
+     * Checks whether an email is registered. Meant for availability checks: the answer may be served from an
+     * in-memory index that lags writes made by other instances, so registration must still rely on
+     * {@link #create(Usuario)} to enforce uniqueness.
+     *
+     * @param email the email to check
+     * @return a Mono containing true if a usuario has the email
+     */
+    Mono<Boolean> existsByEmail(String email);
+
+    /**
+     * Checks whether an identity document is registered, with the same guarantees as {@link #existsByEmail(String)}.
+     *
+     * @param documentoIdentidad the identity document to check
+     * @return a Mono containing true if a usuario has the identity document
+     */
+    Mono<Boolean> existsByDocumentoIdentidad(String documentoIdentidad);
+}
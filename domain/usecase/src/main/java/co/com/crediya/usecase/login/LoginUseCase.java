@@ -0,0 +1,39 @@
+package co.com.crediya.usecase.login;
+
+import co.com.crediya.model.exceptions.InvalidCredentialsException;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.gateways.PasswordHasherGateway;
+import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Use case for authenticating usuarios with their email and password.
+ */
+@RequiredArgsConstructor
+public class LoginUseCase {
+    private final UsuarioGateway usuarioGateway;
+    private final PasswordHasherGateway passwordHasherGateway;
+
+    /**
+     * Checks the credentials of a usuario. The password is checked even when no usuario has the email, and the
+     * error is the same whether the email or the password are wrong, so a login does not tell which emails
+     * are registered.
+     *
+     * @param email    the email of the usuario
+     * @param password the password of the usuario
+     * @return a Mono containing the authenticated usuario, without its password hash, an InvalidCredentialsException
+     * error if the credentials are wrong, or a CapacityExceededException error if the hasher is saturated
+     */
+    public Mono<Usuario> login(String email, String password) {
+        return usuarioGateway.findCredentialsByEmail(email)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(usuario -> passwordHasherGateway.matches(password, usuario.map(Usuario::getPasswordHash).orElse(null))
+                        .flatMap(matches -> matches && usuario.isPresent()
+                                ? Mono.just(usuario.get().toBuilder().passwordHash(null).build())
+                                : Mono.error(new InvalidCredentialsException("Credenciales inválidas"))));
+    }
+}
@@ -0,0 +1,155 @@
+package co.com.crediya.usecase.token;
+
+import co.com.crediya.model.exceptions.InvalidTokenException;
+import co.com.crediya.model.token.AccessToken;
+import co.com.crediya.model.token.TokenClaims;
+import co.com.crediya.model.token.TokenIntrospection;
+import co.com.crediya.model.token.gateways.IntrospectionCacheGateway;
+import co.com.crediya.model.token.gateways.TokenGateway;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for issuing the tokens of authenticated usuarios and verifying them.
+ */
+@RequiredArgsConstructor
+public class TokenUseCase {
+    /**
+     * The max number of tokens introspected in one batch.
+     */
+    public static final int MAX_INTROSPECTION_BATCH = 100;
+    private static final String INVALID = "El token no es válido";
+    private static final String USUARIO_NOT_FOUND = "El usuario ya no existe";
+
+    private final TokenGateway tokenGateway;
+    private final IntrospectionCacheGateway introspectionCacheGateway;
+    private final UsuarioGateway usuarioGateway;
+
+    /**
+     * Issues a token for a usuario that has just been authenticated.
+     *
+     * @param usuario the authenticated usuario
+     * @return a Mono containing the signed token
+     */
+    public Mono<AccessToken> issue(Usuario usuario) {
+        return tokenGateway.issue(usuario);
+    }
+
+    /**
+     * Verifies a token presented by a client. A missing or blank token is rejected without reaching the gateway.
+     *
+     * @param token the token to verify
+     * @return a Mono containing the claims of the token, or an InvalidTokenException error if it is not valid
+     */
+    public Mono<TokenClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Mono.error(new InvalidTokenException(INVALID));
+        }
+        return tokenGateway.verify(token);
+    }
+
+    /**
+     * Gets the public keys that tokens are verified with.
+     *
+     * @return a Mono containing the public keys, as a JSON Web Key Set document
+     */
+    public Mono<String> getPublicKeySet() {
+        return tokenGateway.publicKeySet();
+    }
+
+    /**
+     * Introspects a batch of tokens for another service: a token is active if it is valid and its usuario still
+     * exists. Introspections are kept for a while, so a token introspected again is answered from the cache
+     * without verifying it or reading its usuario; the usuarios of the tokens that are not kept are checked with
+     * a single query. The token of a usuario deleted meanwhile may thus be reported active until its kept
+     * introspection expires.
+     *
+     * @param tokens the tokens, at most {@link #MAX_INTROSPECTION_BATCH}
+     * @return a Mono containing the introspection of each token, in the order of the tokens
+     */
+    public Mono<List<TokenIntrospection>> introspect(List<String> tokens) {
+        if (tokens.size() > MAX_INTROSPECTION_BATCH) {
+            return Mono.error(new IllegalArgumentException(
+                    "No se pueden consultar más de " + MAX_INTROSPECTION_BATCH + " tokens a la vez"));
+        }
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String token : tokens) {
+            if (token != null && !token.isBlank()) {
+                distinct.add(token);
+            }
+        }
+        if (distinct.isEmpty()) {
+            return Mono.fromSupplier(() -> inOrder(tokens, Map.of()));
+        }
+        return introspectionCacheGateway.findAll(distinct)
+                .flatMap(cached -> {
+                    List<String> missing = distinct.stream().filter(token -> !cached.containsKey(token)).toList();
+                    if (missing.isEmpty()) {
+                        return Mono.just(cached);
+                    }
+                    return introspectUncached(missing)
+                            .flatMap(fresh -> introspectionCacheGateway.saveAll(fresh)
+                                    .then(Mono.fromSupplier(() -> {
+                                        Map<String, TokenIntrospection> all = new HashMap<>(cached);
+                                        all.putAll(fresh);
+                                        return all;
+                                    })));
+                })
+                .map(introspections -> inOrder(tokens, introspections));
+    }
+
+    private Mono<Map<String, TokenIntrospection>> introspectUncached(List<String> tokens) {
+        return Flux.fromIterable(tokens)
+                .concatMap(token -> tokenGateway.verify(token)
+                        .map(TokenUseCase::active)
+                        .onErrorResume(InvalidTokenException.class, e -> Mono.just(inactive(e.getMessage())))
+                        .map(introspection -> Map.entry(token, introspection)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, HashMap::new)
+                .flatMap(introspections -> {
+                    Set<Long> usuarioIds = introspections.values().stream()
+                            .filter(TokenIntrospection::isActive)
+                            .map(introspection -> introspection.getClaims().getUsuarioId().longValue())
+                            .collect(Collectors.toSet());
+                    if (usuarioIds.isEmpty()) {
+                        return Mono.just(introspections);
+                    }
+                    return usuarioGateway.findExistingIds(usuarioIds)
+                            .collect(Collectors.toSet())
+                            .map(existing -> {
+                                introspections.replaceAll((token, introspection) -> introspection.isActive()
+                                        && !existing.contains(introspection.getClaims().getUsuarioId().longValue())
+                                        ? inactive(USUARIO_NOT_FOUND)
+                                        : introspection);
+                                return introspections;
+                            });
+                });
+    }
+
+    private static List<TokenIntrospection> inOrder(List<String> tokens, Map<String, TokenIntrospection> introspections) {
+        List<TokenIntrospection> ordered = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            TokenIntrospection introspection = token != null ? introspections.get(token) : null;
+            ordered.add(introspection != null ? introspection : inactive(INVALID));
+        }
+        return ordered;
+    }
+
+    private static TokenIntrospection active(TokenClaims claims) {
+        return TokenIntrospection.builder().active(true).claims(claims).build();
+    }
+
+    private static TokenIntrospection inactive(String mensaje) {
+        return TokenIntrospection.builder().active(false).mensaje(mensaje).build();
+    }
+}
@@ -1,55 +1,97 @@
 package co.com.crediya.usecase.usuario;
 
-import co.com.crediya.model.exceptions.DocumentoIdentidadAlreadyExistsException;
-import co.com.crediya.model.exceptions.EmailAlreadyExistsException;
 import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioPage;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.model.usuario.UsuarioSort;
+import co.com.crediya.model.usuario.VersionedUsuario;
+import co.com.crediya.model.usuario.gateways.PasswordHasherGateway;
 import co.com.crediya.model.usuario.gateways.UsuarioGateway;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Use case for managing usuarios.
  */
 @RequiredArgsConstructor
 public class UsuarioUseCase {
+    /**
+     * The max number of usuarios returned in a single page.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
 
     private final UsuarioGateway usuarioGateway;
+    private final PasswordHasherGateway passwordHasherGateway;
 
     /**
-     * Saves a new usuario after validating that the email and identity document are unique.
+     * Saves a new usuario. Uniqueness of the email and identity document is enforced by the gateway
+     * as part of the insert, so concurrent registrations cannot both succeed.
      *
      * @param usuario the usuario to save
      * @return a Mono containing the saved usuario, or an error if the email or document already exist.
      */
     public Mono<Usuario> saveUsuario(Usuario usuario) {
-        return usuarioGateway.findByEmail(usuario.getEmail())
-                .flatMap(existingUser -> Mono.error(new EmailAlreadyExistsException("El correo electrónico ya está registrado")))
-                .switchIfEmpty(Mono.defer(() ->
-                    usuarioGateway.findByDocumentoIdentidad(usuario.getDocumentoIdentidad())
-                        .flatMap(existingUser -> Mono.error(new DocumentoIdentidadAlreadyExistsException("El documento de identidad ya está registrado")))
-                        .switchIfEmpty(Mono.defer(() -> usuarioGateway.save(usuario)))
-                ))
-                .cast(Usuario.class);
+        return usuarioGateway.create(usuario);
+    }
+
+    /**
+     * Sets the password of a usuario that is about to be registered, as a hash. Hashing is slow on purpose, so it
+     * should be done before any resource of the registration, such as a transaction, is taken.
+     *
+     * @param usuario  the usuario to register
+     * @param password the password of the usuario, or null to register it without one
+     * @return a Mono containing the usuario with the hash of its password, or an error if the hasher is saturated
+     */
+    public Mono<Usuario> withPassword(Usuario usuario, String password) {
+        if (password == null) {
+            return Mono.just(usuario);
+        }
+        return passwordHasherGateway.hash(password)
+                .map(hash -> usuario.toBuilder().passwordHash(hash).build());
+    }
+
+    /**
+     * Imports a batch of already validated usuarios. Usuarios whose email or identity document are taken are
+     * reported instead of failing the batch.
+     *
+     * @param usuarios the usuarios to import
+     * @return a Flux containing one result per usuario, in the same order as the input
+     */
+    public Flux<UsuarioImportResult> importUsuarios(List<Usuario> usuarios) {
+        if (usuarios.isEmpty()) {
+            return Flux.empty();
+        }
+        return usuarioGateway.createAll(usuarios);
     }
 
     /**
-     * Updates an existing usuario after validating that the new email and identity document are unique.
+     * Updates an existing usuario. Uniqueness of the new email and identity document is enforced by the
+     * gateway as part of the update.
      *
      * @param usuario the usuario to update
-     * @return a Mono containing the updated usuario, or an error if the email or document are taken by another user.
+     * @return a Mono containing the updated usuario, empty if it does not exist, or an error if the email or document are taken by another user.
      */
     public Mono<Usuario> updateUsuario(Usuario usuario) {
-        Mono<Void> emailCheck = usuarioGateway.findByEmail(usuario.getEmail())
-                .filter(existingUser -> !existingUser.getId().equals(usuario.getId()))
-                .flatMap(existingUser -> Mono.error(new EmailAlreadyExistsException("El correo electrónico ya está registrado por otro usuario")));
-
-        Mono<Void> documentCheck = usuarioGateway.findByDocumentoIdentidad(usuario.getDocumentoIdentidad())
-                .filter(existingUser -> !existingUser.getId().equals(usuario.getId()))
-                .flatMap(existingUser -> Mono.error(new DocumentoIdentidadAlreadyExistsException("El documento de identidad ya está registrado por otro usuario")));
+        return usuarioGateway.update(usuario);
+    }
 
-        return Mono.when(emailCheck, documentCheck)
-                .then(Mono.defer(() -> usuarioGateway.save(usuario)));
+    /**
+     * Changes some fields of an existing usuario, leaving the rest untouched. A patch without fields changes
+     * nothing and returns the usuario as it is.
+     *
+     * @param patch the fields to change and their new values
+     * @return a Mono containing the updated usuario, empty if it does not exist, or an error if the new email or document are taken by another user.
+     */
+    public Mono<Usuario> patchUsuario(UsuarioPatch patch) {
+        if (patch.getFields().isEmpty()) {
+            return usuarioGateway.findById(patch.getId().longValue());
+        }
+        return usuarioGateway.patch(patch);
     }
 
     /**
@@ -61,6 +103,27 @@ public class UsuarioUseCase {
         return usuarioGateway.findAll();
     }
 
+    /**
+     * Gets a page of usuarios, reading one extra row to know whether there is a next page.
+     *
+     * @param after the cursor of the page to read, or null for the first page
+     * @param limit the requested page size, capped to {@link #MAX_PAGE_SIZE}
+     * @param sort  the order of the usuarios
+     * @return a Mono containing the page and the cursor of the next one
+     */
+    public Mono<UsuarioPage> getUsuariosPage(UsuarioCursor after, int limit, UsuarioSort sort) {
+        int size = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        return usuarioGateway.findPage(after, size + 1, sort)
+                .collectList()
+                .map(rows -> {
+                    if (rows.size() <= size) {
+                        return new UsuarioPage(rows, null);
+                    }
+                    List<Usuario> usuarios = rows.subList(0, size);
+                    return new UsuarioPage(usuarios, UsuarioCursor.after(sort, usuarios.getLast()));
+                });
+    }
+
     /**
      * Gets a usuario by its ID.
      *
@@ -71,6 +134,47 @@ public class UsuarioUseCase {
         return usuarioGateway.findById(id);
     }
 
+    /**
+     * Gets the version of a usuario, which changes whenever the usuario or its rol change.
+     *
+     * @param id the ID of the usuario
+     * @return a Mono containing the version, or empty if the usuario does not exist
+     */
+    public Mono<String> getUsuarioVersion(Long id) {
+        return usuarioGateway.findVersionById(id);
+    }
+
+    /**
+     * Gets a usuario by its ID together with its version, both from the same read.
+     *
+     * @param id the ID of the usuario
+     * @return a Mono containing the usuario and its version, or empty if the usuario does not exist
+     */
+    public Mono<VersionedUsuario> getVersionedUsuarioById(Long id) {
+        return usuarioGateway.findVersionedById(id);
+    }
+
+    /**
+     * Checks whether an email is already registered. Most checks are for emails that are not, and those are
+     * usually answered without a database lookup.
+     *
+     * @param email the email to check
+     * @return a Mono containing true if the email is registered
+     */
+    public Mono<Boolean> isEmailRegistered(String email) {
+        return usuarioGateway.existsByEmail(email);
+    }
+
+    /**
+     * Checks whether an identity document is already registered, like {@link #isEmailRegistered(String)}.
+     *
+     * @param documentoIdentidad the identity document to check
+     * @return a Mono containing true if the identity document is registered
+     */
+    public Mono<Boolean> isDocumentoIdentidadRegistered(String documentoIdentidad) {
+        return usuarioGateway.existsByDocumentoIdentidad(documentoIdentidad);
+    }
+
     /**
      * Deletes a usuario by its ID.
      *
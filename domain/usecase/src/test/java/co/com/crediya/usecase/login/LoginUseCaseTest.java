@@ -0,0 +1,100 @@
+package co.com.crediya.usecase.login;
+
+import co.com.crediya.model.exceptions.CapacityExceededException;
+import co.com.crediya.model.exceptions.InvalidCredentialsException;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.gateways.PasswordHasherGateway;
+import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoginUseCaseTest {
+
+    @Mock
+    private UsuarioGateway usuarioGateway;
+
+    @Mock
+    private PasswordHasherGateway passwordHasherGateway;
+
+    @InjectMocks
+    private LoginUseCase loginUseCase;
+
+    private final Usuario usuario = Usuario.builder()
+            .id(1)
+            .email("john.doe@example.com")
+            .passwordHash("$2a$10$hash")
+            .build();
+
+    @Test
+    @DisplayName("Debe autenticar al usuario sin devolver el hash de su contraseña")
+    void login_Success() {
+        // Arrange
+        when(usuarioGateway.findCredentialsByEmail("john.doe@example.com")).thenReturn(Mono.just(usuario));
+        when(passwordHasherGateway.matches("s3creta-larga", "$2a$10$hash")).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(loginUseCase.login("john.doe@example.com", "s3creta-larga"))
+                .assertNext(autenticado -> {
+                    assertEquals(1, autenticado.getId());
+                    assertNull(autenticado.getPasswordHash());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una contraseña incorrecta")
+    void login_WrongPassword() {
+        // Arrange
+        when(usuarioGateway.findCredentialsByEmail("john.doe@example.com")).thenReturn(Mono.just(usuario));
+        when(passwordHasherGateway.matches("otra", "$2a$10$hash")).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(loginUseCase.login("john.doe@example.com", "otra"))
+                .expectError(InvalidCredentialsException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe verificar la contraseña y rechazarla igual cuando el email no existe")
+    void login_UnknownEmail() {
+        // Arrange
+        when(usuarioGateway.findCredentialsByEmail("nadie@example.com")).thenReturn(Mono.empty());
+        when(passwordHasherGateway.matches(anyString(), isNull())).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(loginUseCase.login("nadie@example.com", "s3creta-larga"))
+                .expectError(InvalidCredentialsException.class)
+                .verify();
+        verify(passwordHasherGateway).matches("s3creta-larga", null);
+    }
+
+    @Test
+    @DisplayName("Debe propagar el rechazo del hasher cuando está saturado")
+    void login_HasherSaturated() {
+        // Arrange
+        when(usuarioGateway.findCredentialsByEmail("john.doe@example.com")).thenReturn(Mono.just(usuario));
+        when(passwordHasherGateway.matches("s3creta-larga", "$2a$10$hash"))
+                .thenReturn(Mono.error(new CapacityExceededException("Saturado", Duration.ofSeconds(1))));
+
+        // Act & Assert
+        StepVerifier.create(loginUseCase.login("john.doe@example.com", "s3creta-larga"))
+                .expectError(CapacityExceededException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,149 @@
+package co.com.crediya.usecase.token;
+
+import co.com.crediya.model.exceptions.InvalidTokenException;
+import co.com.crediya.model.token.AccessToken;
+import co.com.crediya.model.token.TokenClaims;
+import co.com.crediya.model.token.TokenIntrospection;
+import co.com.crediya.model.token.gateways.IntrospectionCacheGateway;
+import co.com.crediya.model.token.gateways.TokenGateway;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenUseCaseTest {
+
+    @Mock
+    private TokenGateway tokenGateway;
+
+    @Mock
+    private IntrospectionCacheGateway introspectionCacheGateway;
+
+    @Mock
+    private UsuarioGateway usuarioGateway;
+
+    @InjectMocks
+    private TokenUseCase tokenUseCase;
+
+    @Test
+    @DisplayName("Debe emitir un token para el usuario autenticado")
+    void issue_Success() {
+        // Arrange
+        Usuario usuario = Usuario.builder().id(1).email("john.doe@example.com").build();
+        AccessToken token = AccessToken.builder().value("a.b.c").expiresAt(Instant.EPOCH).build();
+        when(tokenGateway.issue(usuario)).thenReturn(Mono.just(token));
+
+        // Act & Assert
+        StepVerifier.create(tokenUseCase.issue(usuario))
+                .expectNext(token)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe devolver los claims de un token válido")
+    void verify_Success() {
+        // Arrange
+        TokenClaims claims = TokenClaims.builder().usuarioId(1).email("john.doe@example.com").rol("CLIENTE").build();
+        when(tokenGateway.verify("a.b.c")).thenReturn(Mono.just(claims));
+
+        // Act & Assert
+        StepVerifier.create(tokenUseCase.verify("a.b.c"))
+                .expectNext(claims)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token vacío sin consultar el gateway")
+    void verify_BlankToken() {
+        // Act & Assert
+        StepVerifier.create(tokenUseCase.verify(" "))
+                .expectError(InvalidTokenException.class)
+                .verify();
+        verify(tokenGateway, never()).verify(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe responder desde la caché los tokens ya consultados sin leer los usuarios")
+    void introspect_CachedTokens() {
+        // Arrange
+        TokenIntrospection cached = TokenIntrospection.builder()
+                .active(true)
+                .claims(TokenClaims.builder().usuarioId(1).build())
+                .build();
+        when(introspectionCacheGateway.findAll(anyCollection())).thenReturn(Mono.just(Map.of("a.b.c", cached)));
+
+        // Act & Assert
+        StepVerifier.create(tokenUseCase.introspect(List.of("a.b.c", "a.b.c")))
+                .expectNext(List.of(cached, cached))
+                .verifyComplete();
+        verify(tokenGateway, never()).verify(anyString());
+        verifyNoInteractions(usuarioGateway);
+    }
+
+    @Test
+    @DisplayName("Debe marcar inactivos los tokens no válidos y los de usuarios que ya no existen")
+    void introspect_UncachedTokens() {
+        // Arrange
+        TokenClaims existing = TokenClaims.builder().usuarioId(1).build();
+        TokenClaims deleted = TokenClaims.builder().usuarioId(2).build();
+        when(introspectionCacheGateway.findAll(anyCollection())).thenReturn(Mono.just(Map.of()));
+        when(tokenGateway.verify("t1")).thenReturn(Mono.just(existing));
+        when(tokenGateway.verify("t2")).thenReturn(Mono.just(deleted));
+        when(tokenGateway.verify("t3")).thenReturn(Mono.error(new InvalidTokenException("El token expiró")));
+        when(usuarioGateway.findExistingIds(Set.of(1L, 2L))).thenReturn(Flux.just(1L));
+        when(introspectionCacheGateway.saveAll(anyMap())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(tokenUseCase.introspect(Arrays.asList("t3", "t1", null, "t2")))
+                .assertNext(introspections -> {
+                    assertEquals("El token expiró", introspections.get(0).getMensaje());
+                    assertTrue(introspections.get(1).isActive());
+                    assertEquals(existing, introspections.get(1).getClaims());
+                    assertEquals("El token no es válido", introspections.get(2).getMensaje());
+                    assertFalse(introspections.get(3).isActive());
+                    assertEquals("El usuario ya no existe", introspections.get(3).getMensaje());
+                })
+                .verifyComplete();
+        verify(introspectionCacheGateway).saveAll(argThat(saved -> saved.keySet().equals(Set.of("t1", "t2", "t3"))));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un lote con más tokens de los permitidos")
+    void introspect_BatchTooLarge() {
+        // Arrange
+        List<String> tokens = Collections.nCopies(TokenUseCase.MAX_INTROSPECTION_BATCH + 1, "a.b.c");
+
+        // Act & Assert
+        StepVerifier.create(tokenUseCase.introspect(tokens))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(introspectionCacheGateway);
+    }
+}
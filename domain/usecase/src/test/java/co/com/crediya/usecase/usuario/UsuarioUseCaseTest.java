@@ -4,6 +4,14 @@ import co.com.crediya.model.exceptions.DocumentoIdentidadAlreadyExistsException;
 import co.com.crediya.model.exceptions.EmailAlreadyExistsException;
 import co.com.crediya.model.rol.Rol;
 import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioField;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioImportStatus;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.model.usuario.UsuarioSort;
+import co.com.crediya.model.usuario.VersionedUsuario;
+import co.com.crediya.model.usuario.gateways.PasswordHasherGateway;
 import co.com.crediya.model.usuario.gateways.UsuarioGateway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,7 +29,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +43,9 @@ class UsuarioUseCaseTest {
     @Mock
     private UsuarioGateway usuarioGateway;
 
+    @Mock
+    private PasswordHasherGateway passwordHasherGateway;
+
     @InjectMocks
     private UsuarioUseCase usuarioUseCase;
 
@@ -67,9 +82,7 @@ class UsuarioUseCaseTest {
         @DisplayName("Debe guardar un usuario exitosamente")
         void saveUsuario_Success() {
             // Arrange
-            when(usuarioGateway.findByEmail(anyString())).thenReturn(Mono.empty());
-            when(usuarioGateway.findByDocumentoIdentidad(anyString())).thenReturn(Mono.empty());
-            when(usuarioGateway.save(any(Usuario.class))).thenReturn(Mono.just(usuarioValido));
+            when(usuarioGateway.create(any(Usuario.class))).thenReturn(Mono.just(usuarioValido));
 
             // Act
             Mono<Usuario> result = usuarioUseCase.saveUsuario(usuarioValido);
@@ -78,15 +91,17 @@ class UsuarioUseCaseTest {
             StepVerifier.create(result)
                     .expectNext(usuarioValido)
                     .verifyComplete();
-            verify(usuarioGateway).save(usuarioValido);
+            verify(usuarioGateway).create(usuarioValido);
+            verify(usuarioGateway, never()).findByEmail(anyString());
+            verify(usuarioGateway, never()).findByDocumentoIdentidad(anyString());
         }
 
         @Test
         @DisplayName("Debe fallar si el email ya existe")
         void saveUsuario_EmailAlreadyExists() {
             // Arrange
-            when(usuarioGateway.findByEmail(anyString())).thenReturn(Mono.just(usuarioValido));
-            // No need to mock findByDocumentoIdentidad as the chain will fail before it's called
+            when(usuarioGateway.create(any(Usuario.class)))
+                    .thenReturn(Mono.error(new EmailAlreadyExistsException("El correo electrónico ya está registrado")));
 
             // Act
             Mono<Usuario> result = usuarioUseCase.saveUsuario(usuarioValido);
@@ -95,7 +110,6 @@ class UsuarioUseCaseTest {
             StepVerifier.create(result)
                     .expectError(EmailAlreadyExistsException.class)
                     .verify();
-            verify(usuarioGateway, never()).findByDocumentoIdentidad(anyString()); // Ensure it's not called
             verify(usuarioGateway, never()).save(any(Usuario.class));
         }
 
@@ -103,8 +117,8 @@ class UsuarioUseCaseTest {
         @DisplayName("Debe fallar si el documento ya existe")
         void saveUsuario_DocumentoAlreadyExists() {
             // Arrange
-            when(usuarioGateway.findByEmail(anyString())).thenReturn(Mono.empty());
-            when(usuarioGateway.findByDocumentoIdentidad(anyString())).thenReturn(Mono.just(usuarioValido));
+            when(usuarioGateway.create(any(Usuario.class)))
+                    .thenReturn(Mono.error(new DocumentoIdentidadAlreadyExistsException("El documento de identidad ya está registrado")));
 
             // Act
             Mono<Usuario> result = usuarioUseCase.saveUsuario(usuarioValido);
@@ -117,6 +131,79 @@ class UsuarioUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Pruebas para withPassword")
+    class WithPasswordTests {
+
+        @Test
+        @DisplayName("Debe asignar el hash de la contraseña al usuario")
+        void withPassword_Hashes() {
+            // Arrange
+            when(passwordHasherGateway.hash("s3creta-larga")).thenReturn(Mono.just("$2a$10$hash"));
+
+            // Act
+            Mono<Usuario> result = usuarioUseCase.withPassword(usuarioValido, "s3creta-larga");
+
+            // Assert
+            StepVerifier.create(result)
+                    .assertNext(usuario -> {
+                        assertEquals("$2a$10$hash", usuario.getPasswordHash());
+                        assertEquals(usuarioValido.getEmail(), usuario.getEmail());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("No debe calcular un hash si el usuario no tiene contraseña")
+        void withPassword_WithoutPassword() {
+            // Act & Assert
+            StepVerifier.create(usuarioUseCase.withPassword(usuarioValido, null))
+                    .expectNext(usuarioValido)
+                    .verifyComplete();
+            verify(passwordHasherGateway, never()).hash(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Pruebas para importUsuarios")
+    class ImportUsuariosTests {
+
+        @Test
+        @DisplayName("Debe delegar el lote completo en el gateway")
+        void shouldDelegateBatchToGateway() {
+            // Arrange
+            List<Usuario> lote = List.of(usuarioValido);
+            UsuarioImportResult resultado = new UsuarioImportResult(UsuarioImportStatus.CREATED, usuarioValido);
+            when(usuarioGateway.createAll(lote)).thenReturn(Flux.just(resultado));
+
+            // Act & Assert
+            StepVerifier.create(usuarioUseCase.importUsuarios(lote))
+                    .expectNext(resultado)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("No debe llamar al gateway con un lote vacío")
+        void shouldSkipEmptyBatch() {
+            // Act & Assert
+            StepVerifier.create(usuarioUseCase.importUsuarios(List.of()))
+                    .verifyComplete();
+            verifyNoInteractions(usuarioGateway);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe verificar en el gateway si el email está registrado")
+    void isEmailRegisteredShouldDelegateToGateway() {
+        // Arrange
+        when(usuarioGateway.existsByEmail("john.doe@example.com")).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(usuarioUseCase.isEmailRegistered("john.doe@example.com"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
     @Nested
     @DisplayName("Pruebas para updateUsuario")
     class UpdateUsuarioTests {
@@ -125,9 +212,7 @@ class UsuarioUseCaseTest {
         @DisplayName("Debe actualizar un usuario exitosamente")
         void updateUsuario_Success() {
             // Arrange
-            when(usuarioGateway.findByEmail(anyString())).thenReturn(Mono.empty());
-            when(usuarioGateway.findByDocumentoIdentidad(anyString())).thenReturn(Mono.empty());
-            when(usuarioGateway.save(any(Usuario.class))).thenReturn(Mono.just(usuarioValido));
+            when(usuarioGateway.update(any(Usuario.class))).thenReturn(Mono.just(usuarioValido));
 
             // Act
             Mono<Usuario> result = usuarioUseCase.updateUsuario(usuarioValido);
@@ -136,20 +221,18 @@ class UsuarioUseCaseTest {
             StepVerifier.create(result)
                     .expectNext(usuarioValido)
                     .verifyComplete();
-            verify(usuarioGateway).save(usuarioValido);
+            verify(usuarioGateway).update(usuarioValido);
+            verify(usuarioGateway, never()).findByEmail(anyString());
+            verify(usuarioGateway, never()).findByDocumentoIdentidad(anyString());
+            verify(usuarioGateway, never()).save(any(Usuario.class));
         }
 
         @Test
         @DisplayName("Debe fallar si el email ya pertenece a otro usuario")
         void updateUsuario_EmailAlreadyExistsInAnotherUser() {
             // Arrange
-            Usuario otroUsuario = Usuario.builder()
-                    .id(2)
-                    .email("john.doe@example.com")
-                    .documentoIdentidad("987654321")
-                    .build();
-            when(usuarioGateway.findByEmail(anyString())).thenReturn(Mono.just(otroUsuario));
-            when(usuarioGateway.findByDocumentoIdentidad(anyString())).thenReturn(Mono.empty()); // Mock for the second check
+            when(usuarioGateway.update(any(Usuario.class)))
+                    .thenReturn(Mono.error(new EmailAlreadyExistsException("El correo electrónico ya está registrado por otro usuario")));
 
             // Act
             Mono<Usuario> result = usuarioUseCase.updateUsuario(usuarioValido);
@@ -158,20 +241,14 @@ class UsuarioUseCaseTest {
             StepVerifier.create(result)
                     .expectError(EmailAlreadyExistsException.class)
                     .verify();
-            verify(usuarioGateway, never()).save(any(Usuario.class));
         }
 
         @Test
         @DisplayName("Debe fallar si el documento ya pertenece a otro usuario")
         void updateUsuario_DocumentoAlreadyExistsInAnotherUser() {
             // Arrange
-            Usuario otroUsuario = Usuario.builder()
-                    .id(2)
-                    .email("jane.doe@example.com")
-                    .documentoIdentidad("123456789")
-                    .build();
-            when(usuarioGateway.findByEmail(anyString())).thenReturn(Mono.empty()); // Mock for the first check
-            when(usuarioGateway.findByDocumentoIdentidad(anyString())).thenReturn(Mono.just(otroUsuario));
+            when(usuarioGateway.update(any(Usuario.class)))
+                    .thenReturn(Mono.error(new DocumentoIdentidadAlreadyExistsException("El documento de identidad ya está registrado por otro usuario")));
 
             // Act
             Mono<Usuario> result = usuarioUseCase.updateUsuario(usuarioValido);
@@ -180,54 +257,124 @@ class UsuarioUseCaseTest {
             StepVerifier.create(result)
                     .expectError(DocumentoIdentidadAlreadyExistsException.class)
                     .verify();
-            verify(usuarioGateway, never()).save(any(Usuario.class));
         }
 
         @Test
-        @DisplayName("Debe permitir la actualización si el email le pertenece al mismo usuario")
-        void updateUsuario_EmailBelongsToSameUser() {
+        @DisplayName("Debe completar vacío si el usuario no existe")
+        void updateUsuario_NotFound() {
             // Arrange
-            when(usuarioGateway.findByEmail(anyString())).thenReturn(Mono.just(usuarioValido)); // Email belongs to the same user
-            when(usuarioGateway.findByDocumentoIdentidad(anyString())).thenReturn(Mono.empty());
-            when(usuarioGateway.save(any(Usuario.class))).thenReturn(Mono.just(usuarioValido));
+            when(usuarioGateway.update(any(Usuario.class))).thenReturn(Mono.empty());
 
             // Act
             Mono<Usuario> result = usuarioUseCase.updateUsuario(usuarioValido);
 
+            // Assert
+            StepVerifier.create(result)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe obtener todos los usuarios")
+    void getAllUsuarios_Success() {
+        // Arrange
+        when(usuarioGateway.findAll()).thenReturn(Flux.just(usuarioValido));
+
+        // Act
+        Flux<Usuario> result = usuarioUseCase.getAllUsuarios();
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(usuarioValido)
+                .verifyComplete();
+    }
+
+    @Nested
+    @DisplayName("Pruebas para patchUsuario")
+    class PatchUsuarioTests {
+
+        @Test
+        @DisplayName("Debe delegar en el gateway solo los campos a cambiar")
+        void patchUsuario_Success() {
+            // Arrange
+            UsuarioPatch patch = new UsuarioPatch(1, Set.of(UsuarioField.TELEFONO),
+                    Usuario.builder().telefono("3209876543").build());
+            when(usuarioGateway.patch(patch)).thenReturn(Mono.just(usuarioValido));
+
+            // Act
+            Mono<Usuario> result = usuarioUseCase.patchUsuario(patch);
+
             // Assert
             StepVerifier.create(result)
                     .expectNext(usuarioValido)
                     .verifyComplete();
-            verify(usuarioGateway).save(usuarioValido);
+            verify(usuarioGateway, never()).update(any(Usuario.class));
         }
 
         @Test
-        @DisplayName("Debe permitir la actualización si el documento le pertenece al mismo usuario")
-        void updateUsuario_DocumentoBelongsToSameUser() {
+        @DisplayName("Debe devolver el usuario sin escribir si no hay campos a cambiar")
+        void patchUsuario_NoFields() {
             // Arrange
-            when(usuarioGateway.findByEmail(anyString())).thenReturn(Mono.empty());
-            when(usuarioGateway.findByDocumentoIdentidad(anyString())).thenReturn(Mono.just(usuarioValido)); // Document belongs to the same user
-            when(usuarioGateway.save(any(Usuario.class))).thenReturn(Mono.just(usuarioValido));
+            UsuarioPatch patch = new UsuarioPatch(1, Set.of(), new Usuario());
+            when(usuarioGateway.findById(1L)).thenReturn(Mono.just(usuarioValido));
 
             // Act
-            Mono<Usuario> result = usuarioUseCase.updateUsuario(usuarioValido);
+            Mono<Usuario> result = usuarioUseCase.patchUsuario(patch);
 
             // Assert
             StepVerifier.create(result)
                     .expectNext(usuarioValido)
                     .verifyComplete();
-            verify(usuarioGateway).save(usuarioValido);
+            verify(usuarioGateway, never()).patch(any(UsuarioPatch.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pruebas para getUsuariosPage")
+    class GetUsuariosPageTests {
+
+        @Test
+        @DisplayName("Debe devolver el cursor de la siguiente página cuando hay más usuarios")
+        void getUsuariosPage_HasNext() {
+            // Arrange
+            Usuario segundo = usuarioValido.toBuilder().id(2).build();
+            Usuario tercero = usuarioValido.toBuilder().id(3).build();
+            when(usuarioGateway.findPage(null, 3, UsuarioSort.ID)).thenReturn(Flux.just(usuarioValido, segundo, tercero));
+
+            // Act & Assert
+            StepVerifier.create(usuarioUseCase.getUsuariosPage(null, 2, UsuarioSort.ID))
+                    .assertNext(page -> {
+                        assertEquals(2, page.getUsuarios().size());
+                        assertEquals(new UsuarioCursor(UsuarioSort.ID, 2, null), page.getNext());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Debe devolver la última página sin cursor y limitar el tamaño")
+        void getUsuariosPage_LastPage() {
+            // Arrange
+            UsuarioCursor after = new UsuarioCursor(UsuarioSort.ID, 1, null);
+            when(usuarioGateway.findPage(after, UsuarioUseCase.MAX_PAGE_SIZE + 1, UsuarioSort.ID)).thenReturn(Flux.just(usuarioValido));
+
+            // Act & Assert
+            StepVerifier.create(usuarioUseCase.getUsuariosPage(after, 1000, UsuarioSort.ID))
+                    .assertNext(page -> {
+                        assertEquals(1, page.getUsuarios().size());
+                        assertNull(page.getNext());
+                    })
+                    .verifyComplete();
         }
     }
 
     @Test
-    @DisplayName("Debe obtener todos los usuarios")
-    void getAllUsuarios_Success() {
+    @DisplayName("Debe obtener un usuario por su ID")
+    void getUsuarioById_Success() {
         // Arrange
-        when(usuarioGateway.findAll()).thenReturn(Flux.just(usuarioValido));
+        when(usuarioGateway.findById(anyLong())).thenReturn(Mono.just(usuarioValido));
 
         // Act
-        Flux<Usuario> result = usuarioUseCase.getAllUsuarios();
+        Mono<Usuario> result = usuarioUseCase.getUsuarioById(1L);
 
         // Assert
         StepVerifier.create(result)
@@ -236,17 +383,33 @@ class UsuarioUseCaseTest {
     }
 
     @Test
-    @DisplayName("Debe obtener un usuario por su ID")
-    void getUsuarioById_Success() {
+    @DisplayName("Debe obtener la versión de un usuario por su ID")
+    void getUsuarioVersion_Success() {
         // Arrange
-        when(usuarioGateway.findById(anyLong())).thenReturn(Mono.just(usuarioValido));
+        when(usuarioGateway.findVersionById(1L)).thenReturn(Mono.just("742.15"));
 
         // Act
-        Mono<Usuario> result = usuarioUseCase.getUsuarioById(1L);
+        Mono<String> result = usuarioUseCase.getUsuarioVersion(1L);
 
         // Assert
         StepVerifier.create(result)
-                .expectNext(usuarioValido)
+                .expectNext("742.15")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe obtener un usuario por su ID junto con su versión")
+    void getVersionedUsuarioById_Success() {
+        // Arrange
+        VersionedUsuario versioned = new VersionedUsuario(usuarioValido, "742.15");
+        when(usuarioGateway.findVersionedById(1L)).thenReturn(Mono.just(versioned));
+
+        // Act
+        Mono<VersionedUsuario> result = usuarioUseCase.getVersionedUsuarioById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(versioned)
                 .verifyComplete();
     }
 
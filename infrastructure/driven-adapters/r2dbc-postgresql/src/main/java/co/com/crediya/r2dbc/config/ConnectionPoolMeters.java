@@ -0,0 +1,115 @@
+package co.com.crediya.r2dbc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import reactor.pool.PoolMetricsRecorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the latencies recorded by the connection pool. The pool sizes (acquired, idle, pending and the
+ * current limit) are published by Spring Boot as the {@code r2dbc.pool.*} gauges of the pool bean; this adds
+ * how long acquires wait when the pool is exhausted and how long opening a connection takes, both as
+ * histograms. The pool is built before the application registry exists, so the timers live in a composite
+ * registry that starts forwarding to the application registry once it is bound.
+ */
+public class ConnectionPoolMeters implements PoolMetricsRecorder, MeterBinder {
+
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+    private final Timer acquireWaitSuccess;
+    private final Timer acquireWaitFailure;
+    private final Timer creationSuccess;
+    private final Timer creationFailure;
+
+    /**
+     * Constructor for the ConnectionPoolMeters.
+     *
+     * @param poolName the name tag of every meter
+     */
+    public ConnectionPoolMeters(String poolName) {
+        this.acquireWaitSuccess = acquireWait(poolName, "success");
+        this.acquireWaitFailure = acquireWait(poolName, "failure");
+        this.creationSuccess = creation(poolName, "success");
+        this.creationFailure = creation(poolName, "failure");
+    }
+
+    @Override
+    public void bindTo(MeterRegistry target) {
+        registry.add(target);
+    }
+
+    @Override
+    public void recordPendingSuccessAndLatency(long latencyMs) {
+        acquireWaitSuccess.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordPendingFailureAndLatency(long latencyMs) {
+        acquireWaitFailure.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordAllocationSuccessAndLatency(long latencyMs) {
+        creationSuccess.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordAllocationFailureAndLatency(long latencyMs) {
+        creationFailure.record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordResetLatency(long latencyMs) {
+        // Not published
+    }
+
+    @Override
+    public void recordDestroyLatency(long latencyMs) {
+        // Not published
+    }
+
+    @Override
+    public void recordRecycled() {
+        // Not published
+    }
+
+    @Override
+    public void recordLifetimeDuration(long millisecondsSinceAllocation) {
+        // Not published
+    }
+
+    @Override
+    public void recordIdleTime(long millisecondsIdle) {
+        // Not published
+    }
+
+    @Override
+    public void recordSlowPath() {
+        // Not published
+    }
+
+    @Override
+    public void recordFastPath() {
+        // Not published
+    }
+
+    private Timer acquireWait(String poolName, String result) {
+        return Timer.builder("r2dbc.pool.acquire.wait")
+                .tag("name", poolName)
+                .tag("result", result)
+                .description("Time acquires waited for a connection because none was idle")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Timer creation(String poolName, String result) {
+        return Timer.builder("r2dbc.pool.connection.creation")
+                .tag("name", poolName)
+                .tag("result", result)
+                .description("Time taken to open a new connection")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -1,40 +1,55 @@
 package co.com.crediya.r2dbc.config;
 
+import co.com.crediya.r2dbc.helper.AdaptiveAllocationStrategy;
+import co.com.crediya.r2dbc.helper.ReadWriteConnectionFactory;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-
-import java.time.Duration;
+import org.springframework.context.annotation.Primary;
+import reactor.core.publisher.Flux;
 
 /**
- * Configuration for the PostgreSQL connection pool.
+ * Configuration for the PostgreSQL connection pool, and for the read replica pool when one is configured.
  */
+@Slf4j
 @Configuration
 public class PostgreSQLConnectionPool {
     /**
-     * The initial size of the connection pool.
-     */
-    public static final int INITIAL_SIZE = 12;
-    /**
-     * The max size of the connection pool.
+     * The name of the connection pool.
      */
-    public static final int MAX_SIZE = 15;
+    public static final String POOL_NAME = "api-postgres-connection-pool";
     /**
-     * The max idle time of the connection pool.
+     * The name of the read replica connection pool.
      */
-    public static final int MAX_IDLE_TIME = 30;
+    public static final String REPLICA_POOL_NAME = "api-postgres-replica-connection-pool";
+
+	/**
+	 * Creates the bean that publishes the connection pool latencies.
+	 *
+	 * @return the connection pool meters bean
+	 */
+	@Bean
+	public ConnectionPoolMeters connectionPoolMeters() {
+		return new ConnectionPoolMeters(POOL_NAME);
+	}
 
 	/**
 	 * Creates a connection pool bean.
 	 *
 	 * @param properties the PostgreSQL connection properties
+	 * @param meters     the recorder of the pool latencies
 	 * @return the connection pool bean
 	 */
 	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
+	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties,
+											  @Qualifier("connectionPoolMeters") ConnectionPoolMeters meters) {
 		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
@@ -44,15 +59,98 @@ public class PostgreSQLConnectionPool {
                 .password(properties.password())
                 .build();
 
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
+        return createPool(POOL_NAME, dbConfiguration, properties.pool(), meters);
+	}
+
+	/**
+	 * Creates the bean that publishes the read replica pool latencies.
+	 *
+	 * @return the replica connection pool meters bean
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "adapters.r2dbc.replica", name = "host")
+	public ConnectionPoolMeters replicaConnectionPoolMeters() {
+		return new ConnectionPoolMeters(REPLICA_POOL_NAME);
+	}
+
+	/**
+	 * Creates the read replica connection pool bean. Settings missing for the replica are taken from the primary.
+	 *
+	 * @param primary the PostgreSQL connection properties of the primary
+	 * @param replica the read replica properties
+	 * @param meters  the recorder of the replica pool latencies
+	 * @return the replica connection pool bean
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "adapters.r2dbc.replica", name = "host")
+	public ConnectionPool replicaConnectionPool(PostgresqlConnectionProperties primary, ReplicaConnectionProperties replica,
+												@Qualifier("replicaConnectionPoolMeters") ConnectionPoolMeters meters) {
+		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
+                .host(replica.host())
+                .port(replica.port() != null ? replica.port() : primary.port())
+                .database(replica.database() != null ? replica.database() : primary.database())
+                .schema(replica.schema() != null ? replica.schema() : primary.schema())
+                .username(replica.username() != null ? replica.username() : primary.username())
+                .password(replica.password() != null ? replica.password() : primary.password())
                 .build();
 
-		return new ConnectionPool(poolConfiguration);
+        return createPool(REPLICA_POOL_NAME, dbConfiguration, replica.pool(), meters);
 	}
+
+	/**
+	 * Creates the connection factory used by the repositories and the transaction manager when a read replica is
+	 * configured. It opens connections on the primary unless an operation is routed to the replica.
+	 *
+	 * @param primary the connection pool of the primary
+	 * @param replica the connection pool of the read replica
+	 * @return the routing connection factory bean
+	 */
+	@Bean
+	@Primary
+	@ConditionalOnProperty(prefix = "adapters.r2dbc.replica", name = "host")
+	public ConnectionFactory readWriteConnectionFactory(@Qualifier("getConnectionConfig") ConnectionPool primary,
+														@Qualifier("replicaConnectionPool") ConnectionPool replica) {
+		return new ReadWriteConnectionFactory(primary, replica);
+	}
+
+    private static ConnectionPool createPool(String name, PostgresqlConnectionConfiguration dbConfiguration,
+                                             PostgresqlConnectionProperties.Pool pool, ConnectionPoolMeters meters) {
+        ConnectionPoolConfiguration.Builder poolConfiguration = ConnectionPoolConfiguration.builder()
+                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
+                .name(name)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .maxAcquireTime(pool.acquireTimeout())
+                .metricsRecorder(meters)
+                .validationQuery("SELECT 1");
+
+        if (!pool.adaptive()) {
+            return new ConnectionPool(poolConfiguration.build());
+        }
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(pool.initialSize(), pool.maxSize());
+        ConnectionPool connectionPool = new ConnectionPool(poolConfiguration
+                .customizer(builder -> builder.allocationStrategy(strategy))
+                .build());
+        resizeWhileOpen(name, connectionPool, strategy, pool);
+        return connectionPool;
+    }
+
+    /**
+     * Samples the pool every resize interval and moves the adaptive limit with it, until the pool is closed.
+     * Acquires already waiting are served from the grown limit on the next connection release.
+     */
+    private static void resizeWhileOpen(String name, ConnectionPool connectionPool, AdaptiveAllocationStrategy strategy,
+                                        PostgresqlConnectionProperties.Pool pool) {
+        Flux.interval(pool.resizeInterval())
+                .takeWhile(tick -> !connectionPool.isDisposed())
+                .subscribe(tick -> connectionPool.getMetrics().ifPresent(metrics -> {
+                    int previous = strategy.limit();
+                    int next = strategy.adjust(metrics.pendingAcquireSize(), metrics.idleSize());
+                    if (next != previous) {
+                        log.debug("Connection pool {} limit moved from {} to {}", name, previous, next);
+                    }
+                }));
+    }
 }
@@ -2,6 +2,8 @@ package co.com.crediya.r2dbc.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "adapters.r2dbc")
 public record PostgresqlConnectionProperties(
         String host,
@@ -9,5 +11,43 @@ public record PostgresqlConnectionProperties(
         String database,
         String schema,
         String username,
-        String password) {
-}
\ No newline at end of file
+        String password,
+        Pool pool) {
+
+    public PostgresqlConnectionProperties {
+        pool = pool != null ? pool : new Pool(null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Settings for the connection pool.
+     *
+     * @param initialSize    connections opened at startup and always kept open
+     * @param maxSize        the most connections the pool may open
+     * @param maxIdleTime    how long an idle connection is kept before it is closed
+     * @param maxLifeTime    age after which a connection is closed once released, so that none outlives the
+     *                       limits of the database or of the proxies in front of it
+     * @param acquireTimeout how long a query may wait for a connection before it fails
+     * @param adaptive       whether the pool limit moves between {@code initialSize} and {@code maxSize} with the
+     *                       number of queries waiting for a connection, instead of staying at {@code maxSize}
+     * @param resizeInterval how often the adaptive limit is re-evaluated
+     */
+    public record Pool(
+            Integer initialSize,
+            Integer maxSize,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            Duration acquireTimeout,
+            Boolean adaptive,
+            Duration resizeInterval) {
+
+        public Pool {
+            initialSize = initialSize != null ? initialSize : 12;
+            maxSize = maxSize != null ? maxSize : 15;
+            maxIdleTime = maxIdleTime != null ? maxIdleTime : Duration.ofMinutes(30);
+            maxLifeTime = maxLifeTime != null ? maxLifeTime : Duration.ofMinutes(30);
+            acquireTimeout = acquireTimeout != null ? acquireTimeout : Duration.ofSeconds(5);
+            adaptive = adaptive != null ? adaptive : false;
+            resizeInterval = resizeInterval != null ? resizeInterval : Duration.ofSeconds(5);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package co.com.crediya.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the optional read replica. Reads are routed to it only when a host is set; the other connection
+ * settings default to those of the primary.
+ *
+ * @param host                 the replica host
+ * @param port                 the replica port
+ * @param database             the replica database
+ * @param schema               the replica schema
+ * @param username             the replica username
+ * @param password             the replica password
+ * @param pool                 the settings of the replica connection pool
+ * @param readYourWritesWindow how long the reads of a caller keep going to the primary after it writes, so that
+ *                             it never reads data older than its own writes while the replica catches up
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.replica")
+public record ReplicaConnectionProperties(
+        String host,
+        Integer port,
+        String database,
+        String schema,
+        String username,
+        String password,
+        PostgresqlConnectionProperties.Pool pool,
+        Duration readYourWritesWindow) {
+
+    public ReplicaConnectionProperties {
+        pool = pool != null ? pool : new PostgresqlConnectionProperties.Pool(null, null, null, null, null, null, null);
+        readYourWritesWindow = readYourWritesWindow != null ? readYourWritesWindow : Duration.ofSeconds(5);
+    }
+
+    /**
+     * Tells whether a replica is configured.
+     *
+     * @return true when reads may be routed to a replica
+     */
+    public boolean enabled() {
+        return host != null && !host.isBlank();
+    }
+}
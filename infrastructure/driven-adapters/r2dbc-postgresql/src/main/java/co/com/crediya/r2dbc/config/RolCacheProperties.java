@@ -0,0 +1,22 @@
+package co.com.crediya.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory rol catalog cache.
+ *
+ * @param ttl          how long a loaded snapshot may be served before it must be reloaded
+ * @param refreshAfter age after which a background reload is triggered while the current snapshot keeps being served
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.rol-cache")
+public record RolCacheProperties(
+        Duration ttl,
+        Duration refreshAfter) {
+
+    public RolCacheProperties {
+        ttl = ttl != null ? ttl : Duration.ofMinutes(10);
+        refreshAfter = refreshAfter != null ? refreshAfter : Duration.ofMinutes(8);
+    }
+}
@@ -0,0 +1,26 @@
+package co.com.crediya.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory filters of registered emails and identity documents.
+ *
+ * @param expectedInsertions the number of usuarios each filter is sized for; past it false positives grow
+ * @param falsePositiveRate  the rate of lookups that still go to the database for values that are not registered
+ * @param rebuildAfter       age after which the filters are rebuilt in the background, dropping deleted values
+ *                           and picking up usuarios registered by other instances
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.usuario-filter")
+public record UsuarioFilterProperties(
+        Long expectedInsertions,
+        Double falsePositiveRate,
+        Duration rebuildAfter) {
+
+    public UsuarioFilterProperties {
+        expectedInsertions = expectedInsertions != null ? expectedInsertions : 1_000_000L;
+        falsePositiveRate = falsePositiveRate != null ? falsePositiveRate : 0.01;
+        rebuildAfter = rebuildAfter != null ? rebuildAfter : Duration.ofHours(1);
+    }
+}
@@ -0,0 +1,107 @@
+package co.com.crediya.r2dbc.helper;
+
+import reactor.pool.AllocationStrategy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pool allocation strategy whose limit moves between a minimum and a maximum size. The limit starts
+ * at the minimum, grows by the number of acquires found waiting for a connection and shrinks one connection at a
+ * time while connections sit idle. Lowering the limit does not close connections; it stops new ones from being
+ * opened until idle eviction brings the pool under it.
+ */
+public final class AdaptiveAllocationStrategy implements AllocationStrategy {
+
+    private final int minimum;
+    private final int maximum;
+    private final AtomicInteger granted = new AtomicInteger();
+    private volatile int limit;
+
+    /**
+     * Constructor for the AdaptiveAllocationStrategy.
+     *
+     * @param minimum the connections always kept open, and the initial limit
+     * @param maximum the highest the limit may grow to
+     */
+    public AdaptiveAllocationStrategy(int minimum, int maximum) {
+        if (minimum < 0 || maximum < 1 || minimum > maximum) {
+            throw new IllegalArgumentException("Invalid pool bounds: minimum " + minimum + ", maximum " + maximum);
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.limit = Math.max(minimum, 1);
+    }
+
+    /**
+     * Re-evaluates the limit from a sample of the pool.
+     *
+     * @param pending the acquires waiting for a connection
+     * @param idle    the open connections not in use
+     * @return the new limit
+     */
+    public int adjust(int pending, int idle) {
+        int current = limit;
+        int next = current;
+        if (pending > 0) {
+            next = Math.min(maximum, current + pending);
+        } else if (idle > 0) {
+            next = Math.max(Math.max(minimum, 1), current - 1);
+        }
+        limit = next;
+        return next;
+    }
+
+    /**
+     * Gets the current limit.
+     *
+     * @return the most connections the pool may open right now
+     */
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public int estimatePermitCount() {
+        return Math.max(0, limit - granted.get());
+    }
+
+    @Override
+    public int getPermits(int desired) {
+        if (desired < 0) {
+            return 0;
+        }
+        for (;;) {
+            int current = granted.get();
+            int toGrant = Math.min(Math.max(desired, minimum - current), limit - current);
+            if (toGrant <= 0) {
+                return 0;
+            }
+            if (granted.compareAndSet(current, current + toGrant)) {
+                return toGrant;
+            }
+        }
+    }
+
+    @Override
+    public int permitGranted() {
+        return granted.get();
+    }
+
+    @Override
+    public int permitMinimum() {
+        return minimum;
+    }
+
+    @Override
+    public int permitMaximum() {
+        return limit;
+    }
+
+    @Override
+    public void returnPermits(int returned) {
+        if (granted.addAndGet(-returned) < 0) {
+            granted.addAndGet(returned);
+            throw new IllegalArgumentException("Too many permits returned: " + returned);
+        }
+    }
+}
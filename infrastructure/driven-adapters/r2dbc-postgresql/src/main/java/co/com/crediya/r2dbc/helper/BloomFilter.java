@@ -0,0 +1,108 @@
+package co.com.crediya.r2dbc.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * {@link #mightContain(String)} never answers false for a value that was added; it may answer true for a
+ * value that was not, with a probability close to the configured rate while the filter holds no more than
+ * the expected number of values. Values cannot be removed.
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) / 64));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates a filter sized for the given load.
+     *
+     * @param expectedInsertions the number of values the filter is expected to hold
+     * @param falsePositiveRate  the acceptable rate of false positives at that load, between 0 and 1
+     * @return an empty filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long bits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value the value to add
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ FNV_PRIME);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, bitCount));
+        }
+    }
+
+    /**
+     * Checks whether a value may have been added to the filter.
+     *
+     * @param value the value to check
+     * @return false if the value was definitely never added, true if it may have been
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ FNV_PRIME);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the size of the filter.
+     *
+     * @return the number of bits of the filter
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word = words.get(index);
+        while ((word & mask) == 0 && !words.weakCompareAndSetVolatile(index, word, word | mask)) {
+            word = words.get(index);
+        }
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,135 @@
+package co.com.crediya.r2dbc.helper;
+
+import co.com.crediya.model.caller.CallerContext;
+import co.com.crediya.r2dbc.config.ReplicaConnectionProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides which database serves each gateway operation when a read replica is configured. Reads go to the
+ * replica unless their caller wrote within the read-your-writes window, in which case they stay on the primary
+ * so that the caller never reads data older than its own writes. Writes, and everything inside a transaction,
+ * run on the primary. The caller is the opaque id that the entry point puts in the Reactor context under
+ * {@link CallerContext#KEY}; reads without one always go to the replica. Without a replica every operation passes
+ * through untouched.
+ */
+@Component
+public class ReadReplicaRouter implements MeterBinder {
+    /**
+     * The number of callers with a recent write above which expired windows are swept on the next write.
+     */
+    public static final int SWEEP_THRESHOLD = 10_000;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final Map<String, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    /**
+     * Constructor for the ReadReplicaRouter.
+     *
+     * @param properties the read replica settings
+     */
+    public ReadReplicaRouter(ReplicaConnectionProperties properties) {
+        this.enabled = properties.enabled();
+        this.windowNanos = properties.readYourWritesWindow().toNanos();
+    }
+
+    /**
+     * Routes a read to the replica unless its caller wrote recently.
+     *
+     * @param query the read
+     * @return the routed read
+     */
+    public <T> Mono<T> read(Mono<T> query) {
+        return enabled ? query.contextWrite(this::route) : query;
+    }
+
+    /**
+     * Routes a read to the replica unless its caller wrote recently.
+     *
+     * @param query the read
+     * @return the routed read
+     */
+    public <T> Flux<T> read(Flux<T> query) {
+        return enabled ? query.contextWrite(this::route) : query;
+    }
+
+    /**
+     * Keeps a write on the primary and opens the read-your-writes window of its caller. The window is opened
+     * before each result or error is passed on, so the caller cannot observe the write before it is open.
+     *
+     * @param statement the write
+     * @return the tracked write
+     */
+    public <T> Mono<T> write(Mono<T> statement) {
+        return enabled ? statement.doOnEach(signal -> written(signal.getContextView())) : statement;
+    }
+
+    /**
+     * Keeps a write on the primary and opens the read-your-writes window of its caller. The window is opened
+     * before each result or error is passed on, so the caller cannot observe the write before it is open.
+     *
+     * @param statement the write
+     * @return the tracked write
+     */
+    public <T> Flux<T> write(Flux<T> statement) {
+        return enabled ? statement.doOnEach(signal -> written(signal.getContextView())) : statement;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("r2dbc.routing.reads", replicaReads, LongAdder::sum)
+                .tag("target", "replica")
+                .description("Reads routed to the read replica")
+                .register(registry);
+        FunctionCounter.builder("r2dbc.routing.reads", primaryReads, LongAdder::sum)
+                .tag("target", "primary")
+                .description("Reads kept on the primary because their caller wrote recently")
+                .register(registry);
+    }
+
+    private Context route(Context context) {
+        String caller = context.<String>getOrEmpty(CallerContext.KEY).orElse(null);
+        if (caller != null && wroteRecently(caller)) {
+            primaryReads.increment();
+            return context;
+        }
+        replicaReads.increment();
+        return ReadWriteConnectionFactory.toReplica(context);
+    }
+
+    private boolean wroteRecently(String caller) {
+        Long until = primaryUntil.get(caller);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until >= 0) {
+            primaryUntil.remove(caller, until);
+            return false;
+        }
+        return true;
+    }
+
+    private void written(ContextView context) {
+        context.<String>getOrEmpty(CallerContext.KEY).ifPresent(caller -> {
+            long now = System.nanoTime();
+            if (primaryUntil.size() >= SWEEP_THRESHOLD) {
+                primaryUntil.values().removeIf(until -> now - until >= 0);
+            }
+            primaryUntil.put(caller, now + windowNanos);
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package co.com.crediya.r2dbc.helper;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Map;
+
+/**
+ * Connection factory that opens connections on the read replica for operations marked with
+ * {@link #toReplica(Context)} and on the primary for everything else. Connections bound to a transaction are
+ * reused by every operation inside it, so transactions always run on the primary where they began.
+ */
+public class ReadWriteConnectionFactory extends AbstractRoutingConnectionFactory {
+
+    private static final String ROUTE_KEY = ReadWriteConnectionFactory.class.getName();
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    /**
+     * Constructor for the ReadWriteConnectionFactory.
+     *
+     * @param primary the connection factory of the primary
+     * @param replica the connection factory of the read replica
+     */
+    public ReadWriteConnectionFactory(ConnectionFactory primary, ConnectionFactory replica) {
+        setTargetConnectionFactories(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetConnectionFactory(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Marks the operations subscribed with the given context to run on the read replica.
+     *
+     * @param context the subscriber context of the operation
+     * @return the context that routes the operation to the replica
+     */
+    public static Context toReplica(Context context) {
+        return context.put(ROUTE_KEY, REPLICA);
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty(ROUTE_KEY)));
+    }
+}
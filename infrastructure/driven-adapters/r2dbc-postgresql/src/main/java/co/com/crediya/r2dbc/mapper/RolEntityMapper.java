@@ -0,0 +1,54 @@
+package co.com.crediya.r2dbc.mapper;
+
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.r2dbc.entity.RolEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting between RolEntity and Rol objects.
+ */
+@Component
+public class RolEntityMapper {
+
+    /**
+     * Converts a RolEntity to a Rol domain model.
+     *
+     * @param rolEntity the RolEntity to convert
+     * @return the converted Rol domain model
+     */
+    public Rol toModel(RolEntity rolEntity) {
+        if (rolEntity == null) {
+            return null;
+        }
+        return Rol.builder()
+                .id(rolEntity.getId())
+                .nombre(rolEntity.getNombre())
+                .descripcion(rolEntity.getDescripcion())
+                .createdBy(rolEntity.getCreatedBy())
+                .modifiedBy(rolEntity.getModifiedBy())
+                .dateCreated(rolEntity.getDateCreated())
+                .dateModified(rolEntity.getDateModified())
+                .build();
+    }
+
+    /**
+     * Converts a Rol domain model to a RolEntity.
+     *
+     * @param rol the Rol domain model to convert
+     * @return the converted RolEntity
+     */
+    public RolEntity toEntity(Rol rol) {
+        if (rol == null) {
+            return null;
+        }
+        return RolEntity.builder()
+                .id(rol.getId())
+                .nombre(rol.getNombre())
+                .descripcion(rol.getDescripcion())
+                .createdBy(rol.getCreatedBy())
+                .modifiedBy(rol.getModifiedBy())
+                .dateCreated(rol.getDateCreated())
+                .dateModified(rol.getDateModified())
+                .build();
+    }
+}
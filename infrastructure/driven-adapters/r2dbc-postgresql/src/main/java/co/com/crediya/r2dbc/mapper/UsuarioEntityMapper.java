@@ -0,0 +1,70 @@
+package co.com.crediya.r2dbc.mapper;
+
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.r2dbc.entity.UsuarioEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting between UsuarioEntity and Usuario objects.
+ * The entity only holds the rol ID, so the domain model gets a rol with just its ID set.
+ */
+@Component
+public class UsuarioEntityMapper {
+
+    /**
+     * Converts a UsuarioEntity to a Usuario domain model.
+     *
+     * @param usuarioEntity the UsuarioEntity to convert
+     * @return the converted Usuario domain model, with a rol holding only the rol ID when the entity has one
+     */
+    public Usuario toModel(UsuarioEntity usuarioEntity) {
+        if (usuarioEntity == null) {
+            return null;
+        }
+        return Usuario.builder()
+                .id(usuarioEntity.getId())
+                .nombres(usuarioEntity.getNombres())
+                .apellidos(usuarioEntity.getApellidos())
+                .fechaNacimiento(usuarioEntity.getFechaNacimiento())
+                .email(usuarioEntity.getEmail())
+                .documentoIdentidad(usuarioEntity.getDocumentoIdentidad())
+                .telefono(usuarioEntity.getTelefono())
+                .direccion(usuarioEntity.getDireccion())
+                .salarioBase(usuarioEntity.getSalarioBase())
+                .rol(usuarioEntity.getIdRol() != null ? Rol.builder().id(usuarioEntity.getIdRol()).build() : null)
+                .createdBy(usuarioEntity.getCreatedBy())
+                .modifiedBy(usuarioEntity.getModifiedBy())
+                .dateCreated(usuarioEntity.getDateCreated())
+                .dateModified(usuarioEntity.getDateModified())
+                .build();
+    }
+
+    /**
+     * Converts a Usuario domain model to a UsuarioEntity.
+     *
+     * @param usuario the Usuario domain model to convert
+     * @return the converted UsuarioEntity, with the ID of the usuario rol
+     */
+    public UsuarioEntity toEntity(Usuario usuario) {
+        if (usuario == null) {
+            return null;
+        }
+        return UsuarioEntity.builder()
+                .id(usuario.getId())
+                .nombres(usuario.getNombres())
+                .apellidos(usuario.getApellidos())
+                .fechaNacimiento(usuario.getFechaNacimiento())
+                .email(usuario.getEmail())
+                .documentoIdentidad(usuario.getDocumentoIdentidad())
+                .telefono(usuario.getTelefono())
+                .direccion(usuario.getDireccion())
+                .salarioBase(usuario.getSalarioBase())
+                .idRol(usuario.getRol() != null ? usuario.getRol().getId() : null)
+                .createdBy(usuario.getCreatedBy())
+                .modifiedBy(usuario.getModifiedBy())
+                .dateCreated(usuario.getDateCreated())
+                .dateModified(usuario.getDateModified())
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package co.com.crediya.r2dbc.repository.rol;
+
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.model.rol.gateways.RolGateway;
+import co.com.crediya.r2dbc.config.RolCacheProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caching decorator for {@link RolGatewayAdapter}.
+ * The whole rol catalog is kept as an immutable snapshot that is preloaded at startup, reloaded in the
+ * background once it gets old and invalidated whenever a rol is written through this gateway.
+ */
+@Slf4j
+@Component
+public class CachedRolGateway implements RolGateway, MeterBinder {
+
+    private final RolGatewayAdapter delegate;
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<Mono<Snapshot>> inFlight = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    /**
+     * Constructor for the CachedRolGateway.
+     *
+     * @param delegate   the gateway that reads and writes the rol table
+     * @param properties the cache settings
+     */
+    public CachedRolGateway(RolGatewayAdapter delegate, RolCacheProperties properties) {
+        this.delegate = delegate;
+        this.ttlNanos = properties.ttl().toNanos();
+        this.refreshAfterNanos = properties.refreshAfter().toNanos();
+    }
+
+    /**
+     * Loads the rol catalog once the application is ready to serve traffic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload().subscribe(
+                loaded -> log.info("Rol cache preloaded with {} roles", loaded.roles().size()),
+                err -> log.warn("Rol cache preload failed, roles will be loaded on demand", err));
+    }
+
+    @Override
+    public Mono<Rol> save(Rol rol) {
+        return delegate.save(rol)
+                .doOnSuccess(saved -> invalidate());
+    }
+
+    @Override
+    public Flux<Rol> findAll() {
+        return currentSnapshot()
+                .flatMapMany(current -> Flux.fromIterable(current.roles().values()))
+                .map(Rol::toBuilder)
+                .map(Rol.RolBuilder::build)
+                .switchIfEmpty(Flux.defer(delegate::findAll));
+    }
+
+    @Override
+    public Mono<Rol> findById(Long id) {
+        return currentSnapshot()
+                .mapNotNull(current -> current.roles().get(id.intValue()))
+                .map(rol -> {
+                    hits.increment();
+                    return rol.toBuilder().build();
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    misses.increment();
+                    return delegate.findById(id);
+                }));
+    }
+
+    @Override
+    public Flux<Rol> findAllById(Collection<Long> ids) {
+        return currentSnapshot()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMapMany(current -> {
+                    if (current.isEmpty()) {
+                        misses.add(ids.size());
+                        return delegate.findAllById(ids);
+                    }
+                    Map<Integer, Rol> roles = current.get().roles();
+                    List<Rol> found = new ArrayList<>(ids.size());
+                    List<Long> missing = new ArrayList<>();
+                    for (Long id : ids) {
+                        Rol rol = roles.get(id.intValue());
+                        if (rol != null) {
+                            found.add(rol.toBuilder().build());
+                        } else {
+                            missing.add(id);
+                        }
+                    }
+                    hits.add(found.size());
+                    misses.add(missing.size());
+                    Flux<Rol> cached = Flux.fromIterable(found);
+                    return missing.isEmpty() ? cached : cached.concatWith(delegate.findAllById(missing));
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return delegate.deleteById(id)
+                .doOnSuccess(ignored -> invalidate());
+    }
+
+    /**
+     * Drops the current snapshot so the next read loads the catalog again.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("rol.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Rol lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("rol.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Rol lookups that went to the database")
+                .register(registry);
+        FunctionCounter.builder("rol.cache.refreshes", refreshes, LongAdder::sum)
+                .description("Times the rol catalog was reloaded")
+                .register(registry);
+        Gauge.builder("rol.cache.size", snapshot, ref -> {
+                    Snapshot current = ref.get();
+                    return current != null ? current.roles().size() : 0;
+                })
+                .description("Roles held in the current snapshot")
+                .register(registry);
+    }
+
+    /**
+     * Gets the snapshot to serve from, reloading it when missing or expired and triggering a background
+     * reload when it is due for refresh. Completes empty if the catalog cannot be loaded.
+     */
+    private Mono<Snapshot> currentSnapshot() {
+        Snapshot current = snapshot.get();
+        long now = System.nanoTime();
+        if (current == null || now - current.loadedAt() >= ttlNanos) {
+            return reload()
+                    .onErrorResume(err -> {
+                        log.warn("Rol cache reload failed, falling back to the database", err);
+                        return Mono.empty();
+                    });
+        }
+        if (now - current.loadedAt() >= refreshAfterNanos) {
+            reload().subscribe(
+                    loaded -> log.debug("Rol cache refreshed with {} roles", loaded.roles().size()),
+                    err -> log.warn("Background rol cache refresh failed", err));
+        }
+        return Mono.just(current);
+    }
+
+    private Mono<Snapshot> reload() {
+        Mono<Snapshot> existing = inFlight.get();
+        if (existing != null) {
+            return existing;
+        }
+        long startedAt = generation.get();
+        Mono<Snapshot> load = delegate.findAll()
+                .collect(Collectors.toUnmodifiableMap(Rol::getId, Function.identity()))
+                .map(roles -> new Snapshot(roles, System.nanoTime()))
+                .doOnNext(loaded -> {
+                    refreshes.increment();
+                    if (generation.get() == startedAt) {
+                        snapshot.set(loaded);
+                    }
+                })
+                .doFinally(signal -> inFlight.set(null))
+                .cache();
+        if (inFlight.compareAndSet(null, load)) {
+            return load;
+        }
+        return Objects.requireNonNullElse(inFlight.get(), load);
+    }
+
+    private record Snapshot(Map<Integer, Rol> roles, long loadedAt) {
+    }
+}
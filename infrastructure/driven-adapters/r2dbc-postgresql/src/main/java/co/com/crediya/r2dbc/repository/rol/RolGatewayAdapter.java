@@ -4,45 +4,63 @@ import co.com.crediya.model.rol.Rol;
 import co.com.crediya.model.rol.gateways.RolGateway;
 import co.com.crediya.r2dbc.entity.RolEntity;
 import co.com.crediya.r2dbc.helper.ReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
+import co.com.crediya.r2dbc.helper.ReadReplicaRouter;
+import co.com.crediya.r2dbc.mapper.RolEntityMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Fallback;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
- * Adapter for the repository of roles.
+ * Adapter for the repository of roles. Reads are served by the read replica when one is configured, see
+ * {@link ReadReplicaRouter}. It is a fallback bean, so that it does not compete with the {@link CachedRolGateway}
+ * that decorates it and takes it by class. {@link RolGateway} itself is injected with the primary bean that the
+ * application wraps around the cache to time every operation.
  */
+@Fallback
 @Repository
 public class RolGatewayAdapter extends ReactiveAdapterOperations<Rol, RolEntity, Integer, RolReactiveRepository > implements RolGateway {
 
+    private final ReadReplicaRouter router;
+
     /**
      * Constructor for the RolRepositoryAdapter.
      *
      * @param repository the reactive repository
-     * @param mapper     the object mapper
+     * @param mapper     the mapper between RolEntity and Rol
+     * @param router     the router of reads to the read replica
      */
     @Autowired
-    public RolGatewayAdapter(RolReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, entity -> mapper.map(entity, Rol.class));
+    public RolGatewayAdapter(RolReactiveRepository repository, RolEntityMapper mapper, ReadReplicaRouter router) {
+        super(repository, mapper::toEntity, mapper::toModel);
+        this.router = router;
     }
 
     @Override
     public Mono<Rol> save(Rol rol) {
-        return super.save(rol);
+        return router.write(super.save(rol));
     }
 
     @Override
     public Flux<Rol> findAll() {
-        return super.findAll();
+        return router.read(super.findAll());
     }
     @Override
     public Mono<Rol> findById(Long id) {
-        return super.findById(id.intValue());
+        return router.read(super.findById(id.intValue()));
+    }
+
+    @Override
+    public Flux<Rol> findAllById(Collection<Long> ids) {
+        return router.read(repository.findAllById(ids.stream().map(Long::intValue).toList())
+                .map(this::toEntity));
     }
 
     @Override
     public Mono<Void> deleteById(Long id) {
-        return repository.deleteById(id.intValue());
+        return router.write(repository.deleteById(id.intValue()));
     }
 }
@@ -0,0 +1,275 @@
+package co.com.crediya.r2dbc.repository.usuario;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioImportStatus;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.model.usuario.UsuarioSort;
+import co.com.crediya.model.usuario.VersionedUsuario;
+import co.com.crediya.model.usuario.gateways.UsuarioGateway;
+import co.com.crediya.r2dbc.config.UsuarioFilterProperties;
+import co.com.crediya.r2dbc.helper.BloomFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator for {@link UsuarioGatewayAdapter} that answers most availability checks without a database lookup.
+ * Registered emails and identity documents are kept in Bloom filters that are built at startup by streaming
+ * the usuario table, fed with every usuario written through this gateway and rebuilt in the background once
+ * they get old. A check for a value the filter has never seen is answered as not registered; any other check,
+ * and every check before the first build completes, goes to the database.
+ */
+@Slf4j
+@Component
+public class FilteredUsuarioGateway implements UsuarioGateway, MeterBinder {
+
+    private final UsuarioGatewayAdapter delegate;
+    private final UsuarioQueryRepository queryRepository;
+    private final UsuarioFilterProperties properties;
+    private final long rebuildAfterNanos;
+
+    private final AtomicReference<Filters> active = new AtomicReference<>();
+    private final AtomicReference<Filters> building = new AtomicReference<>();
+
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder positives = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    /**
+     * Constructor for the FilteredUsuarioGateway.
+     *
+     * @param delegate        the gateway that reads and writes the usuario table
+     * @param queryRepository the queries used to build the filters
+     * @param properties      the filter settings
+     */
+    public FilteredUsuarioGateway(UsuarioGatewayAdapter delegate, UsuarioQueryRepository queryRepository,
+                                  UsuarioFilterProperties properties) {
+        this.delegate = delegate;
+        this.queryRepository = queryRepository;
+        this.properties = properties;
+        this.rebuildAfterNanos = properties.rebuildAfter().toNanos();
+    }
+
+    /**
+     * Builds the filters once the application is ready to serve traffic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        rebuild();
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        Filters filters = currentFilters();
+        if (email != null && filters != null && !filters.emails().mightContain(normalizeEmail(email))) {
+            negatives.increment();
+            return Mono.just(false);
+        }
+        positives.increment();
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Mono<Boolean> existsByDocumentoIdentidad(String documentoIdentidad) {
+        Filters filters = currentFilters();
+        if (documentoIdentidad != null && filters != null
+                && !filters.documentos().mightContain(normalizeDocumento(documentoIdentidad))) {
+            negatives.increment();
+            return Mono.just(false);
+        }
+        positives.increment();
+        return delegate.existsByDocumentoIdentidad(documentoIdentidad);
+    }
+
+    @Override
+    public Mono<Usuario> save(Usuario usuario) {
+        return delegate.save(usuario)
+                .doOnNext(this::register);
+    }
+
+    @Override
+    public Mono<Usuario> create(Usuario usuario) {
+        return delegate.create(usuario)
+                .doOnNext(this::register);
+    }
+
+    @Override
+    public Flux<UsuarioImportResult> createAll(List<Usuario> usuarios) {
+        return delegate.createAll(usuarios)
+                .doOnNext(result -> {
+                    if (result.getStatus() == UsuarioImportStatus.CREATED) {
+                        register(result.getUsuario());
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Usuario> update(Usuario usuario) {
+        return delegate.update(usuario)
+                .doOnNext(this::register);
+    }
+
+    @Override
+    public Mono<Usuario> patch(UsuarioPatch patch) {
+        return delegate.patch(patch)
+                .doOnNext(this::register);
+    }
+
+    @Override
+    public Flux<Usuario> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<Usuario> findPage(UsuarioCursor after, int limit, UsuarioSort sort) {
+        return delegate.findPage(after, limit, sort);
+    }
+
+    @Override
+    public Mono<Usuario> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Mono<String> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public Mono<VersionedUsuario> findVersionedById(Long id) {
+        return delegate.findVersionedById(id);
+    }
+
+    @Override
+    public Flux<Long> findExistingIds(Collection<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Mono<Usuario> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    /**
+     * Always goes to the database: the filters may lag registrations made through other instances, and a
+     * false negative here would reject a valid login.
+     */
+    @Override
+    public Mono<Usuario> findCredentialsByEmail(String email) {
+        return delegate.findCredentialsByEmail(email);
+    }
+
+    @Override
+    public Mono<Usuario> findByDocumentoIdentidad(String documentoIdentidad) {
+        return delegate.findByDocumentoIdentidad(documentoIdentidad);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("usuario.filter.lookups", negatives, LongAdder::sum)
+                .tag("result", "negative")
+                .description("Availability checks answered by the filter without a database lookup")
+                .register(registry);
+        FunctionCounter.builder("usuario.filter.lookups", positives, LongAdder::sum)
+                .tag("result", "positive")
+                .description("Availability checks that went to the database")
+                .register(registry);
+        FunctionCounter.builder("usuario.filter.rebuilds", rebuilds, LongAdder::sum)
+                .description("Times the filters were built from the usuario table")
+                .register(registry);
+    }
+
+    /**
+     * Gets the filters to check against, triggering a background rebuild when they are due. Returns null
+     * until the first build completes.
+     */
+    private Filters currentFilters() {
+        Filters current = active.get();
+        if (current != null && System.nanoTime() - current.builtAt() >= rebuildAfterNanos) {
+            rebuild();
+        }
+        return current;
+    }
+
+    /**
+     * Builds new filters from the usuario table and swaps them in when the scan completes. Usuarios written
+     * while the scan runs are added to both the active and the new filters, so none is lost in the swap.
+     */
+    private void rebuild() {
+        Filters next = new Filters(
+                BloomFilter.create(properties.expectedInsertions(), properties.falsePositiveRate()),
+                BloomFilter.create(properties.expectedInsertions(), properties.falsePositiveRate()),
+                0);
+        if (!building.compareAndSet(null, next)) {
+            return;
+        }
+        queryRepository.findAllUniqueKeys()
+                .doOnNext(usuario -> add(next, usuario))
+                .count()
+                .doFinally(signal -> building.set(null))
+                .subscribe(
+                        count -> {
+                            active.set(next.built(System.nanoTime()));
+                            rebuilds.increment();
+                            log.info("Usuario filters built with {} usuarios", count);
+                        },
+                        err -> log.warn("Usuario filter build failed, availability checks will use the database", err));
+    }
+
+    private void register(Usuario usuario) {
+        Filters current = active.get();
+        if (current != null) {
+            add(current, usuario);
+        }
+        Filters next = building.get();
+        if (next != null) {
+            add(next, usuario);
+        }
+    }
+
+    private static void add(Filters filters, Usuario usuario) {
+        if (usuario.getEmail() != null) {
+            filters.emails().put(normalizeEmail(usuario.getEmail()));
+        }
+        if (usuario.getDocumentoIdentidad() != null) {
+            filters.documentos().put(normalizeDocumento(usuario.getDocumentoIdentidad()));
+        }
+    }
+
+    /**
+     * Normalizes emails so that values differing only in case or surrounding spaces hit the same bits. This can
+     * only turn negatives into positives, which are then checked against the database.
+     */
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeDocumento(String documentoIdentidad) {
+        return documentoIdentidad.trim();
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter documentos, long builtAt) {
+        Filters built(long at) {
+            return new Filters(emails, documentos, at);
+        }
+    }
+}
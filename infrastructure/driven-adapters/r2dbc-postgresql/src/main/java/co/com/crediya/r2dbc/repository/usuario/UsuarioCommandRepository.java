@@ -0,0 +1,390 @@
+package co.com.crediya.r2dbc.repository.usuario;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioField;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.r2dbc.entity.UsuarioEntity;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import static co.com.crediya.r2dbc.repository.usuario.UsuarioQueryRepository.USUARIO_ROL_COLUMNS;
+
+/**
+ * Write statements over usuario that return the written rows in the same round trip.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UsuarioCommandRepository {
+    private static final String INSERT_IF_ABSENT = """
+            WITH u AS (
+                INSERT INTO usuario (%s)
+                VALUES (%s)
+                ON CONFLICT DO NOTHING
+                RETURNING *
+            )
+            """ + USUARIO_ROL_COLUMNS + """
+            FROM u
+            LEFT JOIN rol r ON r.id = u.id_rol
+            """;
+
+    private static final String UPDATE_IF_UNIQUE = """
+            WITH target AS (
+                SELECT id FROM usuario WHERE id = :id
+            ), conflict AS (
+                SELECT CASE WHEN c.email = :email THEN 'EMAIL' ELSE 'DOCUMENTO_IDENTIDAD' END AS field
+                FROM usuario c
+                WHERE c.id <> :id AND (c.email = :email OR c.documento_identidad = :documentoIdentidad)
+                ORDER BY c.email = :email DESC
+                LIMIT 1
+            ), u AS (
+                UPDATE usuario
+                SET nombres = :nombres, apellidos = :apellidos, fecha_nacimiento = :fechaNacimiento, email = :email,
+                    documento_identidad = :documentoIdentidad, telefono = :telefono, direccion = :direccion,
+                    salario_base = :salarioBase, id_rol = :idRol, modified_by = :modifiedBy, date_modified = :dateModified
+                WHERE id = :id AND NOT EXISTS (SELECT 1 FROM conflict)
+                RETURNING *
+            )
+            """ + USUARIO_ROL_COLUMNS + """
+                 , (SELECT field FROM conflict) AS conflict, EXISTS (SELECT 1 FROM target) AS found
+            FROM (SELECT 1) AS one
+            LEFT JOIN u ON TRUE
+            LEFT JOIN rol r ON r.id = u.id_rol
+            """;
+
+    private static final String PATCH_IF_UNIQUE = """
+            WITH target AS (
+                SELECT id FROM usuario WHERE id = :id
+            ), conflict AS (
+                %s
+            ), u AS (
+                UPDATE usuario
+                SET %s
+                WHERE id = :id AND NOT EXISTS (SELECT 1 FROM conflict)
+                RETURNING *
+            )
+            """ + USUARIO_ROL_COLUMNS + """
+                 , (SELECT field FROM conflict) AS conflict, EXISTS (SELECT 1 FROM target) AS found
+            FROM (SELECT 1) AS one
+            LEFT JOIN u ON TRUE
+            LEFT JOIN rol r ON r.id = u.id_rol
+            """;
+    private static final String CONFLICT_ON_BOTH = """
+            SELECT CASE WHEN c.email = :email THEN 'EMAIL' ELSE 'DOCUMENTO_IDENTIDAD' END AS field
+                FROM usuario c
+                WHERE c.id <> :id AND (c.email = :email OR c.documento_identidad = :documento_identidad)
+                ORDER BY c.email = :email DESC
+                LIMIT 1""";
+    private static final String CONFLICT_ON_EMAIL =
+            "SELECT 'EMAIL' AS field FROM usuario c WHERE c.id <> :id AND c.email = :email LIMIT 1";
+    private static final String CONFLICT_ON_DOCUMENTO = "SELECT 'DOCUMENTO_IDENTIDAD' AS field FROM usuario c "
+            + "WHERE c.id <> :id AND c.documento_identidad = :documento_identidad LIMIT 1";
+    private static final String NO_CONFLICT = "SELECT NULL::text AS field WHERE FALSE";
+
+    private static final String INSERT_ALL_IF_ABSENT = """
+            INSERT INTO usuario (nombres, apellidos, fecha_nacimiento, email, documento_identidad, telefono, direccion,
+                                 salario_base, id_rol, created_by, modified_by, date_created, date_modified)
+            VALUES %s
+            ON CONFLICT DO NOTHING
+            RETURNING *
+            """;
+
+    private static final String FIND_TAKEN = """
+            SELECT u.email, u.documento_identidad
+            FROM usuario u
+            WHERE u.email = ANY(:emails) OR u.documento_identidad = ANY(:documentos)
+            """;
+
+    private static final String FIND_CONFLICT = """
+            SELECT u.email = :email AS email_taken
+            FROM usuario u
+            WHERE u.email = :email OR u.documento_identidad = :documento
+            ORDER BY email_taken DESC
+            LIMIT 1
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Inserts a usuario unless it collides with a unique constraint. Null fields are left out of the insert
+     * so the column defaults apply, as they do for {@code ReactiveCrudRepository.save}.
+     *
+     * @param usuario the usuario to insert
+     * @return a Mono containing the inserted usuario and its rol, or empty if a unique constraint prevented the insert
+     */
+    public Mono<Usuario> insertIfAbsent(Usuario usuario) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("nombres", usuario.getNombres());
+        values.put("apellidos", usuario.getApellidos());
+        values.put("fecha_nacimiento", toLocalDate(usuario.getFechaNacimiento()));
+        values.put("email", usuario.getEmail());
+        values.put("documento_identidad", usuario.getDocumentoIdentidad());
+        values.put("telefono", usuario.getTelefono());
+        values.put("direccion", usuario.getDireccion());
+        values.put("salario_base", usuario.getSalarioBase());
+        values.put("id_rol", usuario.getRol() != null ? usuario.getRol().getId() : null);
+        values.put("created_by", usuario.getCreatedBy());
+        values.put("modified_by", usuario.getModifiedBy());
+        values.put("date_created", usuario.getDateCreated());
+        values.put("date_modified", usuario.getDateModified());
+        values.put("password_hash", usuario.getPasswordHash());
+        values.values().removeIf(Objects::isNull);
+
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner parameters = new StringJoiner(", ");
+        values.keySet().forEach(column -> {
+            columns.add(column);
+            parameters.add(":" + column);
+        });
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_IF_ABSENT.formatted(columns, parameters));
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            spec = spec.bind(value.getKey(), value.getValue());
+        }
+        return spec.map(UsuarioRowMapper::map).one();
+    }
+
+    /**
+     * Inserts a batch of usuarios with a single multi-row statement, skipping the ones that collide with a
+     * unique constraint, including collisions between usuarios of the same batch. Null fields are written as
+     * {@code DEFAULT} so the column defaults apply.
+     *
+     * @param usuarios the usuarios to insert
+     * @return a Flux containing the inserted usuarios, in insertion order
+     */
+    public Flux<UsuarioEntity> insertAllIfAbsent(List<UsuarioEntity> usuarios) {
+        if (usuarios.isEmpty()) {
+            return Flux.empty();
+        }
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        StringJoiner rows = new StringJoiner(", ");
+        for (UsuarioEntity usuario : usuarios) {
+            StringJoiner row = new StringJoiner(", ", "(", ")");
+            for (Object value : columnValues(usuario)) {
+                if (value == null) {
+                    row.add("DEFAULT");
+                } else {
+                    String name = "p" + parameters.size();
+                    parameters.put(name, value);
+                    row.add(":" + name);
+                }
+            }
+            rows.add(row.toString());
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_ALL_IF_ABSENT.formatted(rows));
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map(UsuarioCommandRepository::toEntity).all();
+    }
+
+    /**
+     * Finds which of the given emails and identity documents are already registered.
+     *
+     * @param emails     the emails to check
+     * @param documentos the identity documents to check
+     * @return a Mono containing the registered values among the given ones
+     */
+    public Mono<TakenValues> findTaken(Collection<String> emails, Collection<String> documentos) {
+        return databaseClient.sql(FIND_TAKEN)
+                .bind("emails", emails.toArray(String[]::new))
+                .bind("documentos", documentos.toArray(String[]::new))
+                .map(row -> new String[]{row.get("email", String.class), row.get("documento_identidad", String.class)})
+                .all()
+                .collect(() -> new TakenValues(new HashSet<>(), new HashSet<>()), (taken, row) -> {
+                    if (emails.contains(row[0])) {
+                        taken.emails().add(row[0]);
+                    }
+                    if (documentos.contains(row[1])) {
+                        taken.documentos().add(row[1]);
+                    }
+                });
+    }
+
+    /**
+     * Updates a usuario in a single statement, unless its new email or identity document belong to another
+     * usuario. The creation audit fields are left untouched.
+     *
+     * @param usuario the usuario to update, identified by its ID
+     * @return a Mono containing the outcome of the update
+     */
+    public Mono<UpdateResult> updateIfUnique(Usuario usuario) {
+        DatabaseClient.GenericExecuteSpec spec = bind(databaseClient.sql(UPDATE_IF_UNIQUE), "id", usuario.getId(), Integer.class);
+        return bindColumns(spec, usuario)
+                .map(UsuarioCommandRepository::toUpdateResult)
+                .one();
+    }
+
+    /**
+     * Updates the given fields of a usuario in a single statement that sets only their columns, unless a new
+     * email or identity document belongs to another usuario. The uniqueness check only runs for the unique
+     * fields that change, and no other column is written, audit fields included.
+     *
+     * @param patch the fields to change and their new values
+     * @return a Mono containing the outcome of the update
+     */
+    public Mono<UpdateResult> patchIfUnique(UsuarioPatch patch) {
+        Set<UsuarioField> fields = EnumSet.copyOf(patch.getFields());
+        StringJoiner assignments = new StringJoiner(", ");
+        fields.forEach(field -> assignments.add(column(field) + " = :" + column(field)));
+        boolean email = fields.contains(UsuarioField.EMAIL);
+        boolean documento = fields.contains(UsuarioField.DOCUMENTO_IDENTIDAD);
+        String conflict = email && documento ? CONFLICT_ON_BOTH
+                : email ? CONFLICT_ON_EMAIL
+                : documento ? CONFLICT_ON_DOCUMENTO
+                : NO_CONFLICT;
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(PATCH_IF_UNIQUE.formatted(conflict, assignments))
+                .bind("id", patch.getId());
+        Usuario changes = patch.getChanges();
+        for (UsuarioField field : fields) {
+            spec = switch (field) {
+                case NOMBRES -> bind(spec, column(field), changes.getNombres(), String.class);
+                case APELLIDOS -> bind(spec, column(field), changes.getApellidos(), String.class);
+                case FECHA_NACIMIENTO -> bind(spec, column(field), toLocalDate(changes.getFechaNacimiento()), LocalDate.class);
+                case EMAIL -> bind(spec, column(field), changes.getEmail(), String.class);
+                case DOCUMENTO_IDENTIDAD -> bind(spec, column(field), changes.getDocumentoIdentidad(), String.class);
+                case TELEFONO -> bind(spec, column(field), changes.getTelefono(), String.class);
+                case DIRECCION -> bind(spec, column(field), changes.getDireccion(), String.class);
+                case SALARIO_BASE -> bind(spec, column(field), changes.getSalarioBase(), BigDecimal.class);
+                case ROL -> bind(spec, column(field), changes.getRol() != null ? changes.getRol().getId() : null, Integer.class);
+            };
+        }
+        return spec.map(UsuarioCommandRepository::toUpdateResult).one();
+    }
+
+    /**
+     * Finds which unique field of another usuario collides with the given values. Email takes precedence
+     * when both collide.
+     *
+     * @param email              the email to check
+     * @param documentoIdentidad the identity document to check
+     * @return a Mono containing the colliding field, or empty if nothing collides
+     */
+    public Mono<UsuarioConflict> findConflict(String email, String documentoIdentidad) {
+        return databaseClient.sql(FIND_CONFLICT)
+                .bind("email", email)
+                .bind("documento", documentoIdentidad)
+                .map(row -> Boolean.TRUE.equals(row.get("email_taken", Boolean.class))
+                        ? UsuarioConflict.EMAIL
+                        : UsuarioConflict.DOCUMENTO_IDENTIDAD)
+                .one();
+    }
+
+    private static UpdateResult toUpdateResult(Row row, RowMetadata metadata) {
+        if (!Boolean.TRUE.equals(row.get("found", Boolean.class))) {
+            return UpdateResult.NOT_FOUND;
+        }
+        String conflict = row.get("conflict", String.class);
+        if (conflict != null) {
+            return new UpdateResult(null, UsuarioConflict.valueOf(conflict));
+        }
+        return new UpdateResult(UsuarioRowMapper.map(row, metadata), null);
+    }
+
+    private static String column(UsuarioField field) {
+        return switch (field) {
+            case NOMBRES -> "nombres";
+            case APELLIDOS -> "apellidos";
+            case FECHA_NACIMIENTO -> "fecha_nacimiento";
+            case EMAIL -> "email";
+            case DOCUMENTO_IDENTIDAD -> "documento_identidad";
+            case TELEFONO -> "telefono";
+            case DIRECCION -> "direccion";
+            case SALARIO_BASE -> "salario_base";
+            case ROL -> "id_rol";
+        };
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec, Usuario usuario) {
+        spec = bind(spec, "nombres", usuario.getNombres(), String.class);
+        spec = bind(spec, "apellidos", usuario.getApellidos(), String.class);
+        spec = bind(spec, "fechaNacimiento", toLocalDate(usuario.getFechaNacimiento()), LocalDate.class);
+        spec = bind(spec, "email", usuario.getEmail(), String.class);
+        spec = bind(spec, "documentoIdentidad", usuario.getDocumentoIdentidad(), String.class);
+        spec = bind(spec, "telefono", usuario.getTelefono(), String.class);
+        spec = bind(spec, "direccion", usuario.getDireccion(), String.class);
+        spec = bind(spec, "salarioBase", usuario.getSalarioBase(), BigDecimal.class);
+        spec = bind(spec, "idRol", usuario.getRol() != null ? usuario.getRol().getId() : null, Integer.class);
+        spec = bind(spec, "modifiedBy", usuario.getModifiedBy(), String.class);
+        return bind(spec, "dateModified", usuario.getDateModified(), LocalDateTime.class);
+    }
+
+    private static Object[] columnValues(UsuarioEntity usuario) {
+        return new Object[]{
+                usuario.getNombres(), usuario.getApellidos(), toLocalDate(usuario.getFechaNacimiento()),
+                usuario.getEmail(), usuario.getDocumentoIdentidad(), usuario.getTelefono(), usuario.getDireccion(),
+                usuario.getSalarioBase(), usuario.getIdRol(), usuario.getCreatedBy(), usuario.getModifiedBy(),
+                usuario.getDateCreated(), usuario.getDateModified()
+        };
+    }
+
+    private static UsuarioEntity toEntity(Readable row) {
+        return UsuarioEntity.builder()
+                .id(row.get("id", Integer.class))
+                .nombres(row.get("nombres", String.class))
+                .apellidos(row.get("apellidos", String.class))
+                .fechaNacimiento(UsuarioRowMapper.toDate(row.get("fecha_nacimiento")))
+                .email(row.get("email", String.class))
+                .documentoIdentidad(row.get("documento_identidad", String.class))
+                .telefono(row.get("telefono", String.class))
+                .direccion(row.get("direccion", String.class))
+                .salarioBase(row.get("salario_base", BigDecimal.class))
+                .idRol(row.get("id_rol", Integer.class))
+                .createdBy(row.get("created_by", String.class))
+                .modifiedBy(row.get("modified_by", String.class))
+                .dateCreated(row.get("date_created", LocalDateTime.class))
+                .dateModified(row.get("date_modified", LocalDateTime.class))
+                .build();
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate() : null;
+    }
+
+    private static <T> DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                              T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    /**
+     * Outcome of {@link #findTaken(Collection, Collection)}.
+     *
+     * @param emails     the registered emails
+     * @param documentos the registered identity documents
+     */
+    public record TakenValues(Set<String> emails, Set<String> documentos) {
+    }
+
+    /**
+     * Outcome of {@link #updateIfUnique(Usuario)} and {@link #patchIfUnique(UsuarioPatch)}.
+     *
+     * @param usuario  the updated usuario and its rol, when the update was applied
+     * @param conflict the field that belongs to another usuario, when the update was rejected
+     */
+    public record UpdateResult(Usuario usuario, UsuarioConflict conflict) {
+        /**
+         * The usuario to update does not exist.
+         */
+        public static final UpdateResult NOT_FOUND = new UpdateResult(null, null);
+    }
+}
@@ -0,0 +1,9 @@
+package co.com.crediya.r2dbc.repository.usuario;
+
+/**
+ * Unique usuario field that prevented a write.
+ */
+public enum UsuarioConflict {
+    EMAIL,
+    DOCUMENTO_IDENTIDAD
+}
@@ -1,91 +1,298 @@
 package co.com.crediya.r2dbc.repository.usuario;
 
+import co.com.crediya.model.exceptions.DocumentoIdentidadAlreadyExistsException;
+import co.com.crediya.model.exceptions.EmailAlreadyExistsException;
 import co.com.crediya.model.exceptions.RepositoryException;
+import co.com.crediya.model.rol.Rol;
 import co.com.crediya.model.rol.gateways.RolGateway;
 import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioImportStatus;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.model.usuario.UsuarioSort;
+import co.com.crediya.model.usuario.VersionedUsuario;
 import co.com.crediya.model.usuario.gateways.UsuarioGateway;
 import co.com.crediya.r2dbc.entity.UsuarioEntity;
 import co.com.crediya.r2dbc.helper.ReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
+import co.com.crediya.r2dbc.helper.ReadReplicaRouter;
+import co.com.crediya.r2dbc.mapper.UsuarioEntityMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Fallback;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
- * Adapter for the repository of usuarios.
+ * Adapter for the repository of usuarios. Reads are served by the read replica when one is configured, see
+ * {@link ReadReplicaRouter}. It is a fallback bean, so that it does not compete with the {@link FilteredUsuarioGateway}
+ * that decorates it and takes it by class. {@link UsuarioGateway} itself is injected with the primary bean that the
+ * application wraps around the filter to time every operation.
  */
+@Fallback
 @Repository
 public class UsuarioGatewayAdapter extends ReactiveAdapterOperations<Usuario, UsuarioEntity, Integer, UsuarioReactiveRepository> implements UsuarioGateway {
+    /**
+     * The max number of usuarios whose roles are resolved with a single query on multi-row reads.
+     */
+    public static final int ROL_BATCH_SIZE = 500;
 
     private final RolGateway rolGateway;
+    private final UsuarioQueryRepository queryRepository;
+    private final UsuarioCommandRepository commandRepository;
+    private final ReadReplicaRouter router;
 
     /**
      * Constructor for the UsuarioRepositoryAdapter.
      *
-     * @param repository    the reactive repository
-     * @param mapper        the object mapper
-     * @param rolGateway the rol repository
+     * @param repository        the reactive repository
+     * @param mapper            the mapper between UsuarioEntity and Usuario
+     * @param rolGateway        the rol repository
+     * @param queryRepository   the queries that read a usuario joined with its rol
+     * @param commandRepository the statements that write a usuario and return it joined with its rol
+     * @param router            the router of reads to the read replica
      */
     @Autowired
-    public UsuarioGatewayAdapter(UsuarioReactiveRepository repository, ObjectMapper mapper, RolGateway rolGateway) {
-        super(repository, mapper, data -> mapper.map(data, Usuario.class)); // toEntityFn ahora solo mapea la entidad base
+    public UsuarioGatewayAdapter(UsuarioReactiveRepository repository, UsuarioEntityMapper mapper, RolGateway rolGateway,
+                                 UsuarioQueryRepository queryRepository, UsuarioCommandRepository commandRepository,
+                                 ReadReplicaRouter router) {
+        super(repository, mapper::toEntity, mapper::toModel);
         this.rolGateway = rolGateway;
+        this.queryRepository = queryRepository;
+        this.commandRepository = commandRepository;
+        this.router = router;
     }
 
     @Override
-    protected UsuarioEntity toData(Usuario entity) {
-        UsuarioEntity usuarioEntity = mapper.map(entity, UsuarioEntity.class);
-        if (entity.getRol() != null && entity.getRol().getId() != null) {
-            usuarioEntity.setIdRol(entity.getRol().getId());
-        }
-        return usuarioEntity;
+    public Mono<Usuario> save(Usuario usuario) {
+        return router.write(super.save(usuario)
+                        .flatMap(this::loadRolForUsuario))
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error guardando usuario en la base de datos", e));
     }
 
     @Override
-    public Mono<Usuario> save(Usuario usuario) {
-        return super.save(usuario)
-                .flatMap(this::loadRolForUsuario)
-                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error guardando usuario en la base de datos", e));
+    public Mono<Usuario> create(Usuario usuario) {
+        return router.write(commandRepository.insertIfAbsent(usuario))
+                .switchIfEmpty(Mono.defer(() -> commandRepository.findConflict(usuario.getEmail(), usuario.getDocumentoIdentidad())
+                        .flatMap(conflict -> Mono.<Usuario>error(switch (conflict) {
+                            case EMAIL -> new EmailAlreadyExistsException("El correo electrónico ya está registrado");
+                            case DOCUMENTO_IDENTIDAD -> new DocumentoIdentidadAlreadyExistsException("El documento de identidad ya está registrado");
+                        }))
+                        .switchIfEmpty(Mono.error(() -> new RepositoryException("El usuario no se pudo registrar por un conflicto que ya no existe, intente de nuevo")))))
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error registrando usuario en la base de datos", e));
+    }
+
+    @Override
+    public Flux<UsuarioImportResult> createAll(List<Usuario> usuarios) {
+        return router.write(saveAllEntities(Flux.fromIterable(usuarios)))
+                .collectList()
+                .flatMapMany(created -> toImportResults(usuarios, created))
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error importando usuarios en la base de datos", e));
+    }
+
+    /**
+     * Writes the whole batch with one multi-row insert instead of one insert per usuario. Usuarios that
+     * collide with a unique constraint are skipped instead of failing the batch.
+     */
+    @Override
+    protected Flux<UsuarioEntity> saveData(Flux<UsuarioEntity> data) {
+        return data.collectList().flatMapMany(commandRepository::insertAllIfAbsent);
+    }
+
+    @Override
+    public Mono<Usuario> update(Usuario usuario) {
+        return router.write(commandRepository.updateIfUnique(usuario))
+                .flatMap(UsuarioGatewayAdapter::toUpdated)
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error actualizando usuario en la base de datos", e));
+    }
+
+    @Override
+    public Mono<Usuario> patch(UsuarioPatch patch) {
+        return router.write(commandRepository.patchIfUnique(patch))
+                .flatMap(UsuarioGatewayAdapter::toUpdated)
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error actualizando usuario en la base de datos", e));
     }
 
     @Override
     public Flux<Usuario> findAll() {
-        return super.findAll()
-                .flatMap(this::loadRolForUsuario)
+        return router.read(withRoles(repository.findAll()))
                 .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error buscando todos los usuarios en la base de datos", e));
     }
 
+    @Override
+    public Flux<Usuario> findPage(UsuarioCursor after, int limit, UsuarioSort sort) {
+        return router.read(queryRepository.findPage(after, limit, sort))
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error buscando la página de usuarios en la base de datos", e));
+    }
+
     @Override
     public Mono<Usuario> findById(Long id) {
-        return super.findById(id.intValue())
-                .flatMap(this::loadRolForUsuario)
+        return router.read(queryRepository.findById(id.intValue()))
                 .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error buscando usuario por id en la base de datos", e));
     }
 
+    @Override
+    public Mono<String> findVersionById(Long id) {
+        return router.read(queryRepository.findVersionById(id.intValue()))
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error buscando la versión del usuario en la base de datos", e));
+    }
+
+    @Override
+    public Mono<VersionedUsuario> findVersionedById(Long id) {
+        return router.read(queryRepository.findVersionedById(id.intValue()))
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error buscando usuario por id en la base de datos", e));
+    }
+
+    @Override
+    public Flux<Long> findExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        Integer[] values = ids.stream().map(Long::intValue).toArray(Integer[]::new);
+        return router.read(queryRepository.findExistingIds(values))
+                .map(Integer::longValue)
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error consultando la existencia de usuarios en la base de datos", e));
+    }
+
     @Override
     public Mono<Void> deleteById(Long id) {
-        return repository.deleteById(id.intValue())
+        return router.write(repository.deleteById(id.intValue()))
                 .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error eliminando usuario por id en la base de datos", e));
     }
 
     @Override
     public Mono<Usuario> findByEmail(String email) {
-        return repository.findByEmail(email)
-                .map(data -> mapper.map(data, Usuario.class))
-                .flatMap(this::loadRolForUsuario)
+        return router.read(queryRepository.findByEmail(email))
                 .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error buscando usuario por email en la base de datos", e));
     }
 
+    /**
+     * Not routed, so it always reads the primary: a usuario that has just registered must be able to log in
+     * before the replica catches up.
+     */
+    @Override
+    public Mono<Usuario> findCredentialsByEmail(String email) {
+        return queryRepository.findCredentialsByEmail(email)
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error buscando las credenciales del usuario en la base de datos", e));
+    }
+
     @Override
     public Mono<Usuario> findByDocumentoIdentidad(String documentoIdentidad) {
-        return repository.findByDocumentoIdentidad(documentoIdentidad)
-                .map(data -> mapper.map(data, Usuario.class))
-                .flatMap(this::loadRolForUsuario)
+        return router.read(queryRepository.findByDocumentoIdentidad(documentoIdentidad))
                 .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error buscando usuario por documento en la base de datos", e));
     }
 
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return router.read(queryRepository.existsByEmail(email))
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error verificando el email en la base de datos", e));
+    }
+
+    @Override
+    public Mono<Boolean> existsByDocumentoIdentidad(String documentoIdentidad) {
+        return router.read(queryRepository.existsByDocumentoIdentidad(documentoIdentidad))
+                .onErrorMap(DataAccessException.class, e -> new RepositoryException("Error verificando el documento en la base de datos", e));
+    }
+
+    /**
+     * Resolves the roles of a multi-row read in batches of {@link #ROL_BATCH_SIZE}, issuing one rol query per
+     * batch instead of one per usuario while keeping the order of the source rows.
+     */
+    private Flux<Usuario> withRoles(Flux<UsuarioEntity> usuarios) {
+        return usuarios
+                .buffer(ROL_BATCH_SIZE)
+                .concatMap(this::joinRoles);
+    }
+
+    private Flux<Usuario> joinRoles(List<UsuarioEntity> batch) {
+        Set<Long> idsRol = batch.stream()
+                .map(UsuarioEntity::getIdRol)
+                .filter(Objects::nonNull)
+                .map(Integer::longValue)
+                .collect(Collectors.toSet());
+        Mono<Map<Integer, Rol>> roles = idsRol.isEmpty()
+                ? Mono.just(Map.of())
+                : rolGateway.findAllById(idsRol).collectMap(Rol::getId);
+        return roles.flatMapMany(rolesById -> Flux.fromIterable(batch)
+                .map(data -> {
+                    Usuario usuario = toEntity(data);
+                    Rol rol = rolesById.get(data.getIdRol());
+                    if (rol != null) {
+                        usuario.setRol(rol);
+                    }
+                    return usuario;
+                }));
+    }
+
+    /**
+     * Pairs every submitted usuario with its outcome. Inserted rows are matched back by email and identity
+     * document; the rest are classified with a single lookup of the values that are already taken.
+     */
+    private Flux<UsuarioImportResult> toImportResults(List<Usuario> usuarios, List<Usuario> created) {
+        Map<String, Deque<Usuario>> createdByKey = new HashMap<>();
+        created.forEach(usuario -> createdByKey.computeIfAbsent(importKey(usuario), key -> new ArrayDeque<>()).add(usuario));
+
+        List<UsuarioImportResult> results = new ArrayList<>(usuarios.size());
+        List<Usuario> rejected = new ArrayList<>();
+        for (Usuario usuario : usuarios) {
+            Deque<Usuario> matches = createdByKey.get(importKey(usuario));
+            Usuario inserted = matches != null ? matches.poll() : null;
+            if (inserted == null) {
+                rejected.add(usuario);
+            }
+            results.add(new UsuarioImportResult(inserted != null ? UsuarioImportStatus.CREATED : null,
+                    inserted != null ? inserted : usuario));
+        }
+        if (rejected.isEmpty()) {
+            return Flux.fromIterable(results);
+        }
+
+        return commandRepository.findTaken(
+                        rejected.stream().map(Usuario::getEmail).collect(Collectors.toSet()),
+                        rejected.stream().map(Usuario::getDocumentoIdentidad).collect(Collectors.toSet()))
+                .flatMapMany(taken -> {
+                    for (UsuarioImportResult result : results) {
+                        if (result.getStatus() != null) {
+                            continue;
+                        }
+                        if (taken.emails().contains(result.getUsuario().getEmail())) {
+                            result.setStatus(UsuarioImportStatus.DUPLICATE_EMAIL);
+                        } else if (taken.documentos().contains(result.getUsuario().getDocumentoIdentidad())) {
+                            result.setStatus(UsuarioImportStatus.DUPLICATE_DOCUMENTO_IDENTIDAD);
+                        } else {
+                            return Flux.error(new RepositoryException("Un usuario no se pudo importar por un conflicto que ya no existe, intente de nuevo"));
+                        }
+                    }
+                    return Flux.fromIterable(results);
+                });
+    }
+
+    private static Mono<Usuario> toUpdated(UsuarioCommandRepository.UpdateResult result) {
+        if (result.conflict() != null) {
+            return Mono.error(switch (result.conflict()) {
+                case EMAIL -> new EmailAlreadyExistsException("El correo electrónico ya está registrado por otro usuario");
+                case DOCUMENTO_IDENTIDAD -> new DocumentoIdentidadAlreadyExistsException("El documento de identidad ya está registrado por otro usuario");
+            });
+        }
+        return Mono.justOrEmpty(result.usuario());
+    }
+
+    private static String importKey(Usuario usuario) {
+        return usuario.getEmail() + '\n' + usuario.getDocumentoIdentidad();
+    }
+
     private Mono<Usuario> loadRolForUsuario(Usuario usuario) {
         if (usuario.getRol() != null && usuario.getRol().getId() != null) {
             return rolGateway.findById(usuario.getRol().getId().longValue())
@@ -0,0 +1,252 @@
+package co.com.crediya.r2dbc.repository.usuario;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioSort;
+import co.com.crediya.model.usuario.VersionedUsuario;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read queries that load a usuario together with its rol in a single statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UsuarioQueryRepository {
+    /**
+     * Columns read by {@link UsuarioRowMapper}, selected from a usuario relation aliased {@code u}
+     * and a rol relation aliased {@code r}.
+     */
+    public static final String USUARIO_ROL_COLUMNS = """
+            SELECT u.id, u.nombres, u.apellidos, u.fecha_nacimiento, u.email, u.documento_identidad,
+                   u.telefono, u.direccion, u.salario_base, u.id_rol,
+                   u.created_by, u.modified_by, u.date_created, u.date_modified,
+                   r.nombre AS rol_nombre, r.descripcion AS rol_descripcion,
+                   r.created_by AS rol_created_by, r.modified_by AS rol_modified_by,
+                   r.date_created AS rol_date_created, r.date_modified AS rol_date_modified
+            """;
+    /**
+     * Select shared by every query that returns usuarios joined with their rol.
+     */
+    public static final String SELECT_USUARIO_ROL = USUARIO_ROL_COLUMNS + """
+            FROM usuario u
+            LEFT JOIN rol r ON r.id = u.id_rol
+            """;
+
+    private static final String FIND_BY_ID = SELECT_USUARIO_ROL + "WHERE u.id = :id";
+    /**
+     * The version of a usuario is the transaction id that wrote the current version of its row, and of the row
+     * of its rol: Postgres gives every updated row a new {@code xmin}, so the pair changes whenever either row
+     * does, without a column maintained by the application.
+     */
+    private static final String FIND_VERSION_BY_ID = """
+            SELECT u.xmin::text || '.' || COALESCE(r.xmin::text, '0') AS version
+            FROM usuario u
+            LEFT JOIN rol r ON r.id = u.id_rol
+            WHERE u.id = :id
+            """;
+    private static final String FIND_VERSIONED_BY_ID = USUARIO_ROL_COLUMNS + """
+                 , u.xmin::text || '.' || COALESCE(r.xmin::text, '0') AS version
+            FROM usuario u
+            LEFT JOIN rol r ON r.id = u.id_rol
+            WHERE u.id = :id
+            """;
+    /**
+     * Takes the IDs as one array parameter, so the statement is the same whatever the number of IDs.
+     */
+    private static final String FIND_EXISTING_IDS = "SELECT id FROM usuario WHERE id = ANY(:ids)";
+    private static final String FIND_BY_EMAIL = SELECT_USUARIO_ROL + "WHERE u.email = :email";
+    private static final String FIND_CREDENTIALS_BY_EMAIL = USUARIO_ROL_COLUMNS + """
+                 , u.password_hash
+            FROM usuario u
+            LEFT JOIN rol r ON r.id = u.id_rol
+            WHERE u.email = :email
+            """;
+    private static final String FIND_BY_DOCUMENTO = SELECT_USUARIO_ROL + "WHERE u.documento_identidad = :documento";
+    private static final String EXISTS_BY_EMAIL = "SELECT EXISTS (SELECT 1 FROM usuario WHERE email = :email)";
+    private static final String EXISTS_BY_DOCUMENTO = "SELECT EXISTS (SELECT 1 FROM usuario WHERE documento_identidad = :documento)";
+    private static final String FIND_ALL_UNIQUE_KEYS = "SELECT email, documento_identidad FROM usuario";
+    private static final String FIRST_PAGE_BY_ID = SELECT_USUARIO_ROL + "ORDER BY u.id LIMIT :limit";
+    private static final String PAGE_BY_ID = SELECT_USUARIO_ROL + "WHERE u.id > :afterId ORDER BY u.id LIMIT :limit";
+    /**
+     * Usuarios without a creation date sort first. A row comparison with a NULL is never true, so the pages after
+     * a usuario with a date skip them, and the pages after one without a date take the rest of them explicitly.
+     */
+    private static final String ORDER_BY_DATE_CREATED = "ORDER BY u.date_created NULLS FIRST, u.id LIMIT :limit";
+    private static final String FIRST_PAGE_BY_DATE_CREATED = SELECT_USUARIO_ROL + ORDER_BY_DATE_CREATED;
+    private static final String PAGE_BY_DATE_CREATED = SELECT_USUARIO_ROL
+            + "WHERE (u.date_created, u.id) > (:afterDate, :afterId) " + ORDER_BY_DATE_CREATED;
+    private static final String PAGE_AFTER_NULL_DATE_CREATED = SELECT_USUARIO_ROL
+            + "WHERE u.date_created IS NOT NULL OR u.id > :afterId " + ORDER_BY_DATE_CREATED;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Gets a usuario and its rol by the usuario ID.
+     *
+     * @param id the ID of the usuario
+     * @return a Mono containing the usuario, or empty if it does not exist
+     */
+    public Mono<Usuario> findById(Integer id) {
+        return databaseClient.sql(FIND_BY_ID)
+                .bind("id", id)
+                .map(UsuarioRowMapper::map)
+                .one();
+    }
+
+    /**
+     * Gets the version of a usuario and its rol without loading them.
+     *
+     * @param id the ID of the usuario
+     * @return a Mono containing the version, or empty if the usuario does not exist
+     */
+    public Mono<String> findVersionById(Integer id) {
+        return databaseClient.sql(FIND_VERSION_BY_ID)
+                .bind("id", id)
+                .map(row -> row.get("version", String.class))
+                .one();
+    }
+
+    /**
+     * Gets a usuario, its rol and their version with a single statement.
+     *
+     * @param id the ID of the usuario
+     * @return a Mono containing the usuario and its version, or empty if the usuario does not exist
+     */
+    public Mono<VersionedUsuario> findVersionedById(Integer id) {
+        return databaseClient.sql(FIND_VERSIONED_BY_ID)
+                .bind("id", id)
+                .map((row, metadata) -> new VersionedUsuario(UsuarioRowMapper.map(row, metadata),
+                        row.get("version", String.class)))
+                .one();
+    }
+
+    /**
+     * Gets which of some usuarios exist.
+     *
+     * @param ids the IDs of the usuarios
+     * @return a Flux containing the IDs of the usuarios that exist
+     */
+    public Flux<Integer> findExistingIds(Integer[] ids) {
+        return databaseClient.sql(FIND_EXISTING_IDS)
+                .bind("ids", ids)
+                .map(row -> row.get("id", Integer.class))
+                .all();
+    }
+
+    /**
+     * Gets a usuario and its rol by the usuario email.
+     *
+     * @param email the email of the usuario
+     * @return a Mono containing the usuario, or empty if it does not exist
+     */
+    public Mono<Usuario> findByEmail(String email) {
+        return databaseClient.sql(FIND_BY_EMAIL)
+                .bind("email", email)
+                .map(UsuarioRowMapper::map)
+                .one();
+    }
+
+    /**
+     * Gets a usuario, its rol and its password hash by the usuario email.
+     *
+     * @param email the email of the usuario
+     * @return a Mono containing the usuario with its password hash, or empty if it does not exist
+     */
+    public Mono<Usuario> findCredentialsByEmail(String email) {
+        return databaseClient.sql(FIND_CREDENTIALS_BY_EMAIL)
+                .bind("email", email)
+                .map((row, metadata) -> {
+                    Usuario usuario = UsuarioRowMapper.map(row, metadata);
+                    usuario.setPasswordHash(row.get("password_hash", String.class));
+                    return usuario;
+                })
+                .one();
+    }
+
+    /**
+     * Gets a usuario and its rol by the usuario identity document.
+     *
+     * @param documentoIdentidad the identity document of the usuario
+     * @return a Mono containing the usuario, or empty if it does not exist
+     */
+    public Mono<Usuario> findByDocumentoIdentidad(String documentoIdentidad) {
+        return databaseClient.sql(FIND_BY_DOCUMENTO)
+                .bind("documento", documentoIdentidad)
+                .map(UsuarioRowMapper::map)
+                .one();
+    }
+
+    /**
+     * Checks whether a usuario has the given email.
+     *
+     * @param email the email to check
+     * @return a Mono containing true if a usuario has the email
+     */
+    public Mono<Boolean> existsByEmail(String email) {
+        return databaseClient.sql(EXISTS_BY_EMAIL)
+                .bind("email", email)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    /**
+     * Checks whether a usuario has the given identity document.
+     *
+     * @param documentoIdentidad the identity document to check
+     * @return a Mono containing true if a usuario has the identity document
+     */
+    public Mono<Boolean> existsByDocumentoIdentidad(String documentoIdentidad) {
+        return databaseClient.sql(EXISTS_BY_DOCUMENTO)
+                .bind("documento", documentoIdentidad)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    /**
+     * Streams the email and identity document of every usuario, without their other fields or roles.
+     *
+     * @return a Flux containing one usuario with only its email and identity document per row
+     */
+    public Flux<Usuario> findAllUniqueKeys() {
+        return databaseClient.sql(FIND_ALL_UNIQUE_KEYS)
+                .map(row -> Usuario.builder()
+                        .email(row.get("email", String.class))
+                        .documentoIdentidad(row.get("documento_identidad", String.class))
+                        .build())
+                .all();
+    }
+
+    /**
+     * Gets a page of usuarios and their roles, seeking past the given position instead of using OFFSET.
+     *
+     * @param after the position after which the page starts, or null for the first page
+     * @param limit the max number of usuarios to return
+     * @param sort  the order of the usuarios
+     * @return a Flux containing the usuarios of the page, in order
+     */
+    public Flux<Usuario> findPage(UsuarioCursor after, int limit, UsuarioSort sort) {
+        DatabaseClient.GenericExecuteSpec spec;
+        if (sort == UsuarioSort.DATE_CREATED) {
+            if (after == null) {
+                spec = databaseClient.sql(FIRST_PAGE_BY_DATE_CREATED);
+            } else if (after.getDateCreated() == null) {
+                spec = databaseClient.sql(PAGE_AFTER_NULL_DATE_CREATED).bind("afterId", after.getId());
+            } else {
+                spec = databaseClient.sql(PAGE_BY_DATE_CREATED)
+                        .bind("afterDate", after.getDateCreated())
+                        .bind("afterId", after.getId());
+            }
+        } else {
+            spec = after == null
+                    ? databaseClient.sql(FIRST_PAGE_BY_ID)
+                    : databaseClient.sql(PAGE_BY_ID).bind("afterId", after.getId());
+        }
+        return spec.bind("limit", limit)
+                .map(UsuarioRowMapper::map)
+                .all();
+    }
+}
@@ -0,0 +1,73 @@
+package co.com.crediya.r2dbc.repository.usuario;
+
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.model.usuario.Usuario;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Maps rows of {@link UsuarioQueryRepository#USUARIO_ROL_COLUMNS} straight into the domain model,
+ * without going through the entity classes.
+ */
+public final class UsuarioRowMapper {
+
+    private UsuarioRowMapper() {
+    }
+
+    /**
+     * Maps a usuario row joined with its rol.
+     *
+     * @param row      the row to map
+     * @param metadata the row metadata
+     * @return the mapped usuario, with its rol when the row has one
+     */
+    public static Usuario map(Row row, RowMetadata metadata) {
+        Integer idRol = row.get("id_rol", Integer.class);
+        return Usuario.builder()
+                .id(row.get("id", Integer.class))
+                .nombres(row.get("nombres", String.class))
+                .apellidos(row.get("apellidos", String.class))
+                .fechaNacimiento(toDate(row.get("fecha_nacimiento")))
+                .email(row.get("email", String.class))
+                .documentoIdentidad(row.get("documento_identidad", String.class))
+                .telefono(row.get("telefono", String.class))
+                .direccion(row.get("direccion", String.class))
+                .salarioBase(row.get("salario_base", BigDecimal.class))
+                .rol(idRol != null ? mapRol(row, idRol) : null)
+                .createdBy(row.get("created_by", String.class))
+                .modifiedBy(row.get("modified_by", String.class))
+                .dateCreated(row.get("date_created", LocalDateTime.class))
+                .dateModified(row.get("date_modified", LocalDateTime.class))
+                .build();
+    }
+
+    private static Rol mapRol(Row row, Integer idRol) {
+        return Rol.builder()
+                .id(idRol)
+                .nombre(row.get("rol_nombre", String.class))
+                .descripcion(row.get("rol_descripcion", String.class))
+                .createdBy(row.get("rol_created_by", String.class))
+                .modifiedBy(row.get("rol_modified_by", String.class))
+                .dateCreated(row.get("rol_date_created", LocalDateTime.class))
+                .dateModified(row.get("rol_date_modified", LocalDateTime.class))
+                .build();
+    }
+
+    static Date toDate(Object value) {
+        return switch (value) {
+            case null -> null;
+            case LocalDate date -> Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+            case LocalDateTime dateTime -> Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+            case OffsetDateTime dateTime -> Date.from(dateTime.toInstant());
+            case Date date -> date;
+            default -> throw new IllegalArgumentException("Tipo no soportado para fecha_nacimiento: " + value.getClass());
+        };
+    }
+}
@@ -1,13 +1,27 @@
 package com.crediya.auth.r2dbc.config;
 
+import co.com.crediya.r2dbc.config.ConnectionPoolMeters;
 import co.com.crediya.r2dbc.config.PostgreSQLConnectionPool;
 import co.com.crediya.r2dbc.config.PostgresqlConnectionProperties;
+import co.com.crediya.r2dbc.config.ReplicaConnectionProperties;
+import co.com.crediya.r2dbc.helper.ReadWriteConnectionFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
@@ -30,10 +44,72 @@ class PostgreSQLConnectionPoolTest {
         when(properties.schema()).thenReturn("schema");
         when(properties.username()).thenReturn("username");
         when(properties.password()).thenReturn("password");
+        when(properties.pool()).thenReturn(new PostgresqlConnectionProperties.Pool(null, null, null, null, null, null, null));
     }
 
     @Test
     void getConnectionConfigSuccess() {
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        assertNotNull(connectionPool.getConnectionConfig(properties, connectionPool.connectionPoolMeters()));
+    }
+
+    @Test
+    void getConnectionConfigUsesMaxSizeAsLimit() {
+        ConnectionPool pool = connectionPool.getConnectionConfig(properties, connectionPool.connectionPoolMeters());
+
+        assertEquals(15, pool.getMetrics().map(PoolMetrics::getMaxAllocatedSize).orElseThrow());
+        pool.dispose();
+    }
+
+    @Test
+    void getConnectionConfigAdaptiveStartsAtInitialSize() {
+        when(properties.pool()).thenReturn(new PostgresqlConnectionProperties.Pool(
+                4, 20, null, null, null, true, Duration.ofMinutes(1)));
+
+        ConnectionPool pool = connectionPool.getConnectionConfig(properties, connectionPool.connectionPoolMeters());
+
+        assertEquals(4, pool.getMetrics().map(PoolMetrics::getMaxAllocatedSize).orElseThrow());
+        pool.dispose();
+    }
+
+    @Test
+    void connectionPoolMetersPublishAcquireWaitOnceBound() {
+        ConnectionPoolMeters meters = connectionPool.connectionPoolMeters();
+        meters.recordPendingSuccessAndLatency(40);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        meters.bindTo(registry);
+        meters.recordPendingSuccessAndLatency(60);
+
+        Timer timer = registry.get("r2dbc.pool.acquire.wait")
+                .tag("name", PostgreSQLConnectionPool.POOL_NAME)
+                .tag("result", "success")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals(60, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void connectionFactoryIsThePrimaryPoolWithoutReplica() {
+        contextRunner().run(context ->
+                assertInstanceOf(ConnectionPool.class, context.getBean(ConnectionFactory.class)));
+    }
+
+    @Test
+    void connectionFactoryRoutesReadsWhenReplicaIsConfigured() {
+        contextRunner()
+                .withPropertyValues("adapters.r2dbc.replica.host=replica")
+                .run(context -> {
+                    assertInstanceOf(ReadWriteConnectionFactory.class, context.getBean(ConnectionFactory.class));
+                    assertEquals(2, context.getBeansOfType(ConnectionPool.class).size());
+                });
+    }
+
+    private static ApplicationContextRunner contextRunner() {
+        return new ApplicationContextRunner()
+                .withUserConfiguration(PostgreSQLConnectionPool.class)
+                .withBean(PostgresqlConnectionProperties.class, () -> new PostgresqlConnectionProperties(
+                        "localhost", 5432, "dbName", "schema", "username", "password", null))
+                .withBean(ReplicaConnectionProperties.class, () -> new ReplicaConnectionProperties(
+                        "replica", null, null, null, null, null, null, null));
     }
 }
@@ -0,0 +1,78 @@
+package com.crediya.auth.r2dbc.helper;
+
+import co.com.crediya.r2dbc.helper.AdaptiveAllocationStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveAllocationStrategyTest {
+
+    @Test
+    @DisplayName("Debe conceder conexiones solo hasta el límite actual")
+    void shouldGrantPermitsUpToCurrentLimit() {
+        // Arrange
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(2, 10);
+
+        // Act
+        int first = strategy.getPermits(1);
+        int second = strategy.getPermits(5);
+
+        // Assert
+        assertEquals(2, first);
+        assertEquals(0, second);
+        assertEquals(2, strategy.permitGranted());
+        assertEquals(0, strategy.estimatePermitCount());
+    }
+
+    @Test
+    @DisplayName("Debe crecer con las solicitudes en espera sin superar el máximo")
+    void shouldGrowWithPendingAcquiresUpToMaximum() {
+        // Arrange
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(2, 5);
+        strategy.getPermits(2);
+
+        // Act
+        int grown = strategy.adjust(2, 0);
+        int capped = strategy.adjust(4, 0);
+
+        // Assert
+        assertEquals(4, grown);
+        assertEquals(5, capped);
+        assertEquals(3, strategy.getPermits(3));
+        assertEquals(5, strategy.permitMaximum());
+    }
+
+    @Test
+    @DisplayName("Debe reducirse de a una conexión mientras haya conexiones ociosas sin bajar del mínimo")
+    void shouldShrinkWhileIdleDownToMinimum() {
+        // Arrange
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(2, 5);
+        strategy.adjust(3, 0);
+
+        // Act
+        int once = strategy.adjust(0, 3);
+        strategy.adjust(0, 3);
+        int floor = strategy.adjust(0, 3);
+        int unchanged = strategy.adjust(0, 0);
+
+        // Assert
+        assertEquals(4, once);
+        assertEquals(2, floor);
+        assertEquals(2, unchanged);
+    }
+
+    @Test
+    @DisplayName("Debe liberar permisos devueltos y rechazar devoluciones de más")
+    void shouldReturnPermits() {
+        AdaptiveAllocationStrategy strategy = new AdaptiveAllocationStrategy(1, 3);
+        strategy.getPermits(1);
+
+        strategy.returnPermits(1);
+
+        assertEquals(0, strategy.permitGranted());
+        assertThrows(IllegalArgumentException.class, () -> strategy.returnPermits(1));
+        assertEquals(0, strategy.permitGranted());
+    }
+}
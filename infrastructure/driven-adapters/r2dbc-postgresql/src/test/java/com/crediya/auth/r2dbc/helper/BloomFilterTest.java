@@ -0,0 +1,46 @@
+package com.crediya.auth.r2dbc.helper;
+
+import co.com.crediya.r2dbc.helper.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Debe reconocer siempre los valores agregados y mantener la tasa de falsos positivos configurada")
+    void shouldNeverMissAddedValues() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("usuario" + i + "@example.com"));
+
+        // Act
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("otro" + i + "@example.com"))
+                .count();
+
+        // Assert
+        IntStream.range(0, 10_000).forEach(i -> assertTrue(filter.mightContain("usuario" + i + "@example.com")));
+        assertTrue(falsePositives < 200, "Falsos positivos: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Debe responder que un valor no está cuando el filtro está vacío")
+    void shouldReportAbsentValuesOnEmptyFilter() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        assertFalse(filter.mightContain("jane.doe@example.com"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una configuración inválida")
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1));
+    }
+}
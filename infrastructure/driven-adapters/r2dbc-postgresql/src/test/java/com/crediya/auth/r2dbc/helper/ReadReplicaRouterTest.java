@@ -0,0 +1,121 @@
+package com.crediya.auth.r2dbc.helper;
+
+import co.com.crediya.model.caller.CallerContext;
+import co.com.crediya.r2dbc.config.ReplicaConnectionProperties;
+import co.com.crediya.r2dbc.helper.ReadReplicaRouter;
+import co.com.crediya.r2dbc.helper.ReadWriteConnectionFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class ReadReplicaRouterTest {
+
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private ReadWriteConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        ConnectionFactory primary = mock(ConnectionFactory.class);
+        ConnectionFactory replica = mock(ConnectionFactory.class);
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+        doReturn(Mono.just(replicaConnection)).when(replica).create();
+        connectionFactory = new ReadWriteConnectionFactory(primary, replica);
+    }
+
+    @Test
+    @DisplayName("Debe enviar las lecturas a la réplica y las escrituras al primario")
+    void shouldRouteReadsToReplicaAndWritesToPrimary() {
+        ReadReplicaRouter router = router("replica-host", Duration.ofSeconds(5));
+
+        StepVerifier.create(router.read(connect()))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+        StepVerifier.create(router.write(connect()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe mantener en el primario las lecturas de quien escribió dentro de la ventana")
+    void shouldKeepReadsOfRecentWriterOnPrimary() {
+        // Arrange
+        ReadReplicaRouter router = router("replica-host", Duration.ofSeconds(5));
+        router.write(connect()).contextWrite(caller("a")).block();
+
+        // Act & Assert
+        StepVerifier.create(router.read(connect()).contextWrite(caller("a")))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+        StepVerifier.create(router.read(connect()).contextWrite(caller("b")))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe volver a la réplica cuando vence la ventana de lectura de las propias escrituras")
+    void shouldReturnToReplicaOnceWindowExpires() {
+        // Arrange
+        ReadReplicaRouter router = router("replica-host", Duration.ZERO);
+        router.write(connect()).contextWrite(caller("a")).block();
+
+        // Act & Assert
+        StepVerifier.create(router.read(connect()).contextWrite(caller("a")))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe dejar todas las operaciones en el primario cuando no hay réplica")
+    void shouldPassThroughWithoutReplica() {
+        ReadReplicaRouter router = router(null, Duration.ofSeconds(5));
+
+        StepVerifier.create(router.read(connect()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe publicar cuántas lecturas sirvió cada base de datos")
+    void shouldPublishRoutedReads() {
+        // Arrange
+        ReadReplicaRouter router = router("replica-host", Duration.ofSeconds(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        router.bindTo(registry);
+
+        // Act
+        router.read(connect()).block();
+        router.write(connect()).contextWrite(caller("a")).block();
+        router.read(connect()).contextWrite(caller("a")).block();
+
+        // Assert
+        assertEquals(1.0, registry.get("r2dbc.routing.reads").tag("target", "replica").functionCounter().count());
+        assertEquals(1.0, registry.get("r2dbc.routing.reads").tag("target", "primary").functionCounter().count());
+    }
+
+    private Mono<Connection> connect() {
+        return Mono.from(connectionFactory.create());
+    }
+
+    private static Context caller(String caller) {
+        return Context.of(CallerContext.KEY, caller);
+    }
+
+    private static ReadReplicaRouter router(String host, Duration window) {
+        return new ReadReplicaRouter(new ReplicaConnectionProperties(host, null, null, null, null, null, null, window));
+    }
+}
@@ -0,0 +1,87 @@
+package com.crediya.auth.r2dbc.mapper;
+
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.r2dbc.entity.UsuarioEntity;
+import co.com.crediya.r2dbc.mapper.UsuarioEntityMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UsuarioEntityMapperTest {
+
+    private final UsuarioEntityMapper mapper = new UsuarioEntityMapper();
+
+    @Test
+    @DisplayName("Debe convertir la entidad al modelo con un rol que solo tiene el id")
+    void toModelShouldMapIdRolToRol() {
+        // Arrange
+        UsuarioEntity entity = UsuarioEntity.builder()
+                .id(1)
+                .nombres("Jane")
+                .apellidos("Doe")
+                .fechaNacimiento(Date.from(LocalDate.of(1995, 5, 10).atStartOfDay(ZoneId.systemDefault()).toInstant()))
+                .email("jane.doe@example.com")
+                .documentoIdentidad("987654321")
+                .telefono("3109876543")
+                .direccion("Calle Falsa 123")
+                .salarioBase(new BigDecimal("6000000"))
+                .idRol(2)
+                .createdBy("admin")
+                .dateCreated(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .build();
+
+        // Act
+        Usuario usuario = mapper.toModel(entity);
+
+        // Assert
+        assertEquals(Usuario.builder()
+                .id(1)
+                .nombres("Jane")
+                .apellidos("Doe")
+                .fechaNacimiento(entity.getFechaNacimiento())
+                .email("jane.doe@example.com")
+                .documentoIdentidad("987654321")
+                .telefono("3109876543")
+                .direccion("Calle Falsa 123")
+                .salarioBase(new BigDecimal("6000000"))
+                .rol(Rol.builder().id(2).build())
+                .createdBy("admin")
+                .dateCreated(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .build(), usuario);
+    }
+
+    @Test
+    @DisplayName("Debe convertir el modelo a la entidad con el id de su rol")
+    void toEntityShouldMapRolToIdRol() {
+        // Arrange
+        Usuario usuario = Usuario.builder()
+                .id(1)
+                .email("jane.doe@example.com")
+                .rol(Rol.builder().id(3).nombre("ADMIN").build())
+                .build();
+
+        // Act
+        UsuarioEntity entity = mapper.toEntity(usuario);
+
+        // Assert
+        assertEquals(1, entity.getId());
+        assertEquals("jane.doe@example.com", entity.getEmail());
+        assertEquals(3, entity.getIdRol());
+    }
+
+    @Test
+    @DisplayName("Debe dejar el rol vacío cuando la entidad no tiene id de rol")
+    void toModelShouldLeaveRolEmptyWithoutIdRol() {
+        assertNull(mapper.toModel(UsuarioEntity.builder().id(1).build()).getRol());
+        assertNull(mapper.toEntity(Usuario.builder().id(1).build()).getIdRol());
+    }
+}
@@ -0,0 +1,123 @@
+package com.crediya.auth.r2dbc.repository.rol;
+
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.r2dbc.config.RolCacheProperties;
+import co.com.crediya.r2dbc.repository.rol.CachedRolGateway;
+import co.com.crediya.r2dbc.repository.rol.RolGatewayAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedRolGatewayTest {
+
+    @Mock
+    private RolGatewayAdapter delegate;
+
+    private CachedRolGateway gateway;
+    private Rol cliente;
+    private Rol admin;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new CachedRolGateway(delegate, new RolCacheProperties(Duration.ofMinutes(10), Duration.ofMinutes(8)));
+        cliente = Rol.builder().id(1).nombre("CLIENTE").build();
+        admin = Rol.builder().id(2).nombre("ADMIN").build();
+    }
+
+    @Test
+    @DisplayName("Debe cargar el catálogo una sola vez y servir las lecturas desde memoria")
+    void findByIdShouldServeFromSnapshot() {
+        when(delegate.findAll()).thenReturn(Flux.just(cliente, admin));
+
+        StepVerifier.create(gateway.findById(1L))
+                .expectNext(cliente)
+                .verifyComplete();
+        StepVerifier.create(gateway.findById(2L))
+                .expectNext(admin)
+                .verifyComplete();
+
+        verify(delegate, times(1)).findAll();
+        verify(delegate, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Debe consultar la base de datos cuando el rol no está en el catálogo")
+    void findByIdShouldFallBackOnMiss() {
+        Rol nuevo = Rol.builder().id(3).nombre("ASESOR").build();
+        when(delegate.findAll()).thenReturn(Flux.just(cliente));
+        when(delegate.findById(3L)).thenReturn(Mono.just(nuevo));
+
+        StepVerifier.create(gateway.findById(3L))
+                .expectNext(nuevo)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe consultar en la base de datos solo los roles que no están en el catálogo")
+    void findAllByIdShouldOnlyQueryMissingIds() {
+        Rol nuevo = Rol.builder().id(3).nombre("ASESOR").build();
+        when(delegate.findAll()).thenReturn(Flux.just(cliente, admin));
+        when(delegate.findAllById(List.of(3L))).thenReturn(Flux.just(nuevo));
+
+        StepVerifier.create(gateway.findAllById(List.of(1L, 3L)))
+                .expectNext(cliente, nuevo)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe consultar la base de datos cuando no se puede cargar el catálogo")
+    void findByIdShouldFallBackWhenLoadFails() {
+        when(delegate.findAll()).thenReturn(Flux.error(new IllegalStateException("Error de BD")));
+        when(delegate.findById(1L)).thenReturn(Mono.just(cliente));
+
+        StepVerifier.create(gateway.findById(1L))
+                .expectNext(cliente)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe recargar el catálogo después de guardar un rol")
+    void saveShouldInvalidateSnapshot() {
+        when(delegate.findAll()).thenReturn(Flux.just(cliente));
+        when(delegate.save(any(Rol.class))).thenReturn(Mono.just(admin));
+
+        StepVerifier.create(gateway.findById(1L)).expectNext(cliente).verifyComplete();
+        StepVerifier.create(gateway.save(admin)).expectNext(admin).verifyComplete();
+        StepVerifier.create(gateway.findById(1L)).expectNext(cliente).verifyComplete();
+
+        verify(delegate, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Debe publicar las métricas de aciertos y fallos")
+    void shouldExposeMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        gateway.bindTo(registry);
+        when(delegate.findAll()).thenReturn(Flux.just(cliente));
+        when(delegate.findById(9L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(gateway.findById(1L)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(gateway.findById(9L)).verifyComplete();
+
+        assertEquals(1.0, registry.get("rol.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("rol.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("rol.cache.refreshes").functionCounter().count());
+        assertEquals(1.0, registry.get("rol.cache.size").gauge().value());
+    }
+}
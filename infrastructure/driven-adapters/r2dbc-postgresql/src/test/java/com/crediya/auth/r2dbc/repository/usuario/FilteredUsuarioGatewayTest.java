@@ -0,0 +1,122 @@
+package com.crediya.auth.r2dbc.repository.usuario;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioImportStatus;
+import co.com.crediya.r2dbc.config.UsuarioFilterProperties;
+import co.com.crediya.r2dbc.repository.usuario.FilteredUsuarioGateway;
+import co.com.crediya.r2dbc.repository.usuario.UsuarioGatewayAdapter;
+import co.com.crediya.r2dbc.repository.usuario.UsuarioQueryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FilteredUsuarioGatewayTest {
+
+    @Mock
+    private UsuarioGatewayAdapter delegate;
+    @Mock
+    private UsuarioQueryRepository queryRepository;
+
+    private FilteredUsuarioGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new FilteredUsuarioGateway(delegate, queryRepository, new UsuarioFilterProperties(1_000L, 0.01, Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("Debe consultar la base de datos mientras los filtros no están construidos")
+    void existsShouldUseDatabaseBeforeBuild() {
+        when(delegate.existsByEmail("jane.doe@example.com")).thenReturn(Mono.just(false));
+
+        StepVerifier.create(gateway.existsByEmail("jane.doe@example.com"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe responder sin consultar la base de datos cuando el valor no está en el filtro")
+    void existsShouldSkipDatabaseOnDefiniteNegative() {
+        when(queryRepository.findAllUniqueKeys()).thenReturn(Flux.just(keys("john.doe@example.com", "123456789")));
+        gateway.preload();
+
+        StepVerifier.create(gateway.existsByEmail("jane.doe@example.com"))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(gateway.existsByDocumentoIdentidad("987654321"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(delegate, never()).existsByEmail(anyString());
+        verify(delegate, never()).existsByDocumentoIdentidad(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe confirmar en la base de datos cuando el valor puede estar registrado")
+    void existsShouldConfirmPositivesInDatabase() {
+        when(queryRepository.findAllUniqueKeys()).thenReturn(Flux.just(keys("john.doe@example.com", "123456789")));
+        when(delegate.existsByEmail(" John.Doe@Example.com")).thenReturn(Mono.just(true));
+        gateway.preload();
+
+        StepVerifier.create(gateway.existsByEmail(" John.Doe@Example.com"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe agregar al filtro los usuarios registrados, actualizados e importados")
+    void writesShouldFeedTheFilter() {
+        when(queryRepository.findAllUniqueKeys()).thenReturn(Flux.empty());
+        gateway.preload();
+        Usuario creado = keys("jane.doe@example.com", "987654321");
+        Usuario actualizado = keys("nuevo@example.com", "555555555");
+        Usuario importado = keys("importado@example.com", "111111111");
+        when(delegate.create(creado)).thenReturn(Mono.just(creado));
+        when(delegate.update(actualizado)).thenReturn(Mono.just(actualizado));
+        when(delegate.createAll(List.of(importado))).thenReturn(Flux.just(new UsuarioImportResult(UsuarioImportStatus.CREATED, importado)));
+        when(delegate.existsByEmail(anyString())).thenReturn(Mono.just(true));
+        when(delegate.existsByDocumentoIdentidad(anyString())).thenReturn(Mono.just(true));
+
+        gateway.create(creado).block();
+        gateway.update(actualizado).block();
+        gateway.createAll(List.of(importado)).blockLast();
+
+        StepVerifier.create(gateway.existsByEmail("jane.doe@example.com")).expectNext(true).verifyComplete();
+        StepVerifier.create(gateway.existsByEmail("nuevo@example.com")).expectNext(true).verifyComplete();
+        StepVerifier.create(gateway.existsByDocumentoIdentidad("111111111")).expectNext(true).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe publicar cuántas verificaciones se resolvieron sin la base de datos")
+    void shouldPublishLookupMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        gateway.bindTo(registry);
+        when(queryRepository.findAllUniqueKeys()).thenReturn(Flux.empty());
+        gateway.preload();
+
+        gateway.existsByEmail("jane.doe@example.com").block();
+
+        assertEquals(1.0, registry.get("usuario.filter.lookups").tag("result", "negative").functionCounter().count());
+        assertEquals(1.0, registry.get("usuario.filter.rebuilds").functionCounter().count());
+    }
+
+    private static Usuario keys(String email, String documentoIdentidad) {
+        return Usuario.builder().email(email).documentoIdentidad(documentoIdentidad).build();
+    }
+}
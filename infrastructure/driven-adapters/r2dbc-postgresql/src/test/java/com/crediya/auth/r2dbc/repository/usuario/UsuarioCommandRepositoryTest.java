@@ -0,0 +1,94 @@
+package com.crediya.auth.r2dbc.repository.usuario;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.r2dbc.repository.usuario.UsuarioCommandRepository;
+import co.com.crediya.r2dbc.repository.usuario.UsuarioConflict;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UsuarioCommandRepositoryTest {
+
+    private final DatabaseClient databaseClient = Mockito.mock(DatabaseClient.class);
+    private final DatabaseClient.GenericExecuteSpec spec =
+            Mockito.mock(DatabaseClient.GenericExecuteSpec.class, Mockito.RETURNS_SELF);
+    private final ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    private final UsuarioCommandRepository repository = new UsuarioCommandRepository(databaseClient);
+    private Row row;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        row = Mockito.mock(Row.class);
+        when(databaseClient.sql(sql.capture())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, Object> mapping = invocation.getArgument(0);
+            RowsFetchSpec<Object> rows = Mockito.mock(RowsFetchSpec.class);
+            when(rows.one()).thenAnswer(one -> Mono.fromCallable(
+                    () -> mapping.apply(row, Mockito.mock(RowMetadata.class))));
+            return rows;
+        });
+    }
+
+    @Test
+    @DisplayName("Debe permitir la actualización si el email y el documento le pertenecen al mismo usuario")
+    void updateIfUniqueShouldNotConflictWithTheUsuarioItself() {
+        // Arrange
+        Usuario usuario = Usuario.builder()
+                .id(7)
+                .email("jane.doe@example.com")
+                .documentoIdentidad("987654321")
+                .build();
+        when(row.get("found", Boolean.class)).thenReturn(true);
+        when(row.get("id", Integer.class)).thenReturn(7);
+        when(row.get("email", String.class)).thenReturn("jane.doe@example.com");
+        when(row.get("documento_identidad", String.class)).thenReturn("987654321");
+
+        // Act & Assert
+        StepVerifier.create(repository.updateIfUnique(usuario))
+                .assertNext(result -> {
+                    assertNull(result.conflict());
+                    assertEquals("jane.doe@example.com", result.usuario().getEmail());
+                    assertEquals("987654321", result.usuario().getDocumentoIdentidad());
+                })
+                .verifyComplete();
+        assertTrue(sql.getValue().contains("WHERE c.id <> :id AND (c.email = :email OR c.documento_identidad = :documentoIdentidad)"));
+        verify(spec).bind("id", 7);
+        verify(spec).bind("email", "jane.doe@example.com");
+        verify(spec).bind("documentoIdentidad", "987654321");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la actualización si el email pertenece a otro usuario")
+    void updateIfUniqueShouldReportConflictWithAnotherUsuario() {
+        // Arrange
+        Usuario usuario = Usuario.builder().id(7).email("john.doe@example.com").documentoIdentidad("987654321").build();
+        when(row.get("found", Boolean.class)).thenReturn(true);
+        when(row.get("conflict", String.class)).thenReturn("EMAIL");
+
+        // Act & Assert
+        StepVerifier.create(repository.updateIfUnique(usuario))
+                .assertNext(result -> {
+                    assertNull(result.usuario());
+                    assertEquals(UsuarioConflict.EMAIL, result.conflict());
+                })
+                .verifyComplete();
+    }
+}
@@ -1,8 +1,23 @@
 package com.crediya.auth.r2dbc.repository.usuario;
 
+import co.com.crediya.model.exceptions.DocumentoIdentidadAlreadyExistsException;
+import co.com.crediya.model.exceptions.EmailAlreadyExistsException;
 import co.com.crediya.model.exceptions.RepositoryException;
+import co.com.crediya.model.rol.Rol;
 import co.com.crediya.model.rol.gateways.RolGateway;
 import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioField;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioImportStatus;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.model.usuario.VersionedUsuario;
+import co.com.crediya.r2dbc.config.ReplicaConnectionProperties;
+import co.com.crediya.r2dbc.entity.UsuarioEntity;
+import co.com.crediya.r2dbc.helper.ReadReplicaRouter;
+import co.com.crediya.r2dbc.mapper.UsuarioEntityMapper;
+import co.com.crediya.r2dbc.repository.usuario.UsuarioCommandRepository;
+import co.com.crediya.r2dbc.repository.usuario.UsuarioConflict;
+import co.com.crediya.r2dbc.repository.usuario.UsuarioQueryRepository;
 import co.com.crediya.r2dbc.repository.usuario.UsuarioReactiveRepository;
 import co.com.crediya.r2dbc.repository.usuario.UsuarioGatewayAdapter;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,14 +26,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,17 +54,25 @@ class UsuarioGatewayAdapterTest {
 
     @Mock
     private UsuarioReactiveRepository reactiveRepository;
-    @Mock
-    private ObjectMapper mapper;
+    @Spy
+    private UsuarioEntityMapper mapper = new UsuarioEntityMapper();
     @Mock
     private RolGateway rolGateway;
+    @Mock
+    private UsuarioQueryRepository queryRepository;
+    @Mock
+    private UsuarioCommandRepository commandRepository;
+    @Spy
+    private ReadReplicaRouter router = new ReadReplicaRouter(
+            new ReplicaConnectionProperties(null, null, null, null, null, null, null, null));
 
     @InjectMocks
     private UsuarioGatewayAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        // No need to mock mapper.map in setUp for these tests as it's not directly involved in error wrapping
+        // The entity mapper is a real instance, so the adapter maps rows exactly as it does in production.
+        // The router has no replica, so every operation reaches the mocked repositories untouched.
     }
 
     @Test
@@ -59,7 +95,7 @@ class UsuarioGatewayAdapterTest {
     @DisplayName("Debe envolver DataAccessException en RepositoryException para findByEmail")
     void findByEmailShouldWrapException() {
         // Arrange
-        when(reactiveRepository.findByEmail(anyString()))
+        when(queryRepository.findByEmail(anyString()))
                 .thenReturn(Mono.error(new DataAccessResourceFailureException("Error de BD")));
 
         // Act
@@ -70,4 +106,266 @@ class UsuarioGatewayAdapterTest {
                 .expectError(RepositoryException.class)
                 .verify();
     }
+
+    @Test
+    @DisplayName("Debe registrar el usuario con una sola sentencia cuando no hay conflicto")
+    void createShouldInsertWithoutPreChecks() {
+        // Arrange
+        Usuario usuario = Usuario.builder().email("jane.doe@example.com").documentoIdentidad("987654321").build();
+        Usuario creado = usuario.toBuilder().id(1).build();
+        when(commandRepository.insertIfAbsent(usuario)).thenReturn(Mono.just(creado));
+
+        // Act & Assert
+        StepVerifier.create(adapter.create(usuario))
+                .expectNext(creado)
+                .verifyComplete();
+        verify(commandRepository, never()).findConflict(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Debe indicar que el email ya existe cuando el insert no se realiza por el email")
+    void createShouldReportEmailConflict() {
+        // Arrange
+        Usuario usuario = Usuario.builder().email("jane.doe@example.com").documentoIdentidad("987654321").build();
+        when(commandRepository.insertIfAbsent(usuario)).thenReturn(Mono.empty());
+        when(commandRepository.findConflict("jane.doe@example.com", "987654321")).thenReturn(Mono.just(UsuarioConflict.EMAIL));
+
+        // Act & Assert
+        StepVerifier.create(adapter.create(usuario))
+                .expectError(EmailAlreadyExistsException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe indicar que el documento ya existe cuando el insert no se realiza por el documento")
+    void createShouldReportDocumentoConflict() {
+        // Arrange
+        Usuario usuario = Usuario.builder().email("jane.doe@example.com").documentoIdentidad("987654321").build();
+        when(commandRepository.insertIfAbsent(usuario)).thenReturn(Mono.empty());
+        when(commandRepository.findConflict("jane.doe@example.com", "987654321")).thenReturn(Mono.just(UsuarioConflict.DOCUMENTO_IDENTIDAD));
+
+        // Act & Assert
+        StepVerifier.create(adapter.create(usuario))
+                .expectError(DocumentoIdentidadAlreadyExistsException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe devolver el usuario actualizado por la sentencia condicional")
+    void updateShouldReturnUpdatedUsuario() {
+        // Arrange
+        Usuario usuario = Usuario.builder().id(1).email("jane.doe@example.com").build();
+        when(commandRepository.updateIfUnique(usuario)).thenReturn(Mono.just(new UsuarioCommandRepository.UpdateResult(usuario, null)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.update(usuario))
+                .expectNext(usuario)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe permitir la actualización si el email le pertenece al mismo usuario")
+    void updateShouldSucceedWhenEmailBelongsToSameUser() {
+        // Arrange
+        Usuario actual = Usuario.builder().id(1).email("jane.doe@example.com").documentoIdentidad("123456789").build();
+        Usuario usuario = actual.toBuilder().documentoIdentidad("987654321").build();
+        when(commandRepository.updateIfUnique(usuario))
+                .thenReturn(Mono.just(new UsuarioCommandRepository.UpdateResult(usuario, null)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.update(usuario))
+                .expectNext(usuario)
+                .verifyComplete();
+        verify(commandRepository, never()).findConflict(anyString(), anyString());
+        verify(reactiveRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe permitir la actualización si el documento le pertenece al mismo usuario")
+    void updateShouldSucceedWhenDocumentoBelongsToSameUser() {
+        // Arrange
+        Usuario actual = Usuario.builder().id(1).email("jane.doe@example.com").documentoIdentidad("123456789").build();
+        Usuario usuario = actual.toBuilder().email("jane.smith@example.com").build();
+        when(commandRepository.updateIfUnique(usuario))
+                .thenReturn(Mono.just(new UsuarioCommandRepository.UpdateResult(usuario, null)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.update(usuario))
+                .expectNext(usuario)
+                .verifyComplete();
+        verify(commandRepository, never()).findConflict(anyString(), anyString());
+        verify(reactiveRepository, never()).findByDocumentoIdentidad(anyString());
+    }
+
+    @Test
+    @DisplayName("Debe completar vacío cuando el usuario a actualizar no existe")
+    void updateShouldCompleteEmptyWhenNotFound() {
+        // Arrange
+        Usuario usuario = Usuario.builder().id(99).build();
+        when(commandRepository.updateIfUnique(usuario)).thenReturn(Mono.just(UsuarioCommandRepository.UpdateResult.NOT_FOUND));
+
+        // Act & Assert
+        StepVerifier.create(adapter.update(usuario))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe indicar el conflicto de documento reportado por la sentencia condicional")
+    void updateShouldReportDocumentoConflict() {
+        // Arrange
+        Usuario usuario = Usuario.builder().id(1).build();
+        when(commandRepository.updateIfUnique(usuario))
+                .thenReturn(Mono.just(new UsuarioCommandRepository.UpdateResult(null, UsuarioConflict.DOCUMENTO_IDENTIDAD)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.update(usuario))
+                .expectError(DocumentoIdentidadAlreadyExistsException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe indicar el conflicto de email reportado por la actualización parcial")
+    void patchShouldReportEmailConflict() {
+        // Arrange
+        UsuarioPatch patch = new UsuarioPatch(1, Set.of(UsuarioField.EMAIL),
+                Usuario.builder().email("john.doe@example.com").build());
+        when(commandRepository.patchIfUnique(patch))
+                .thenReturn(Mono.just(new UsuarioCommandRepository.UpdateResult(null, UsuarioConflict.EMAIL)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.patch(patch))
+                .expectError(EmailAlreadyExistsException.class)
+                .verify();
+        verify(commandRepository, never()).updateIfUnique(any(Usuario.class));
+    }
+
+    @Test
+    @DisplayName("Debe leer el usuario y su rol con una sola consulta en findById")
+    void findByIdShouldUseJoinQuery() {
+        // Arrange
+        Usuario usuario = Usuario.builder().id(1).rol(Rol.builder().id(1).nombre("CLIENTE").build()).build();
+        when(queryRepository.findById(1)).thenReturn(Mono.just(usuario));
+
+        // Act
+        Mono<Usuario> result = adapter.findById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(usuario)
+                .verifyComplete();
+        verify(rolGateway, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Debe envolver en RepositoryException los errores al leer la versión del usuario")
+    void findVersionByIdShouldMapDataAccessErrors() {
+        // Arrange
+        when(queryRepository.findVersionById(1)).thenReturn(Mono.error(new DataAccessResourceFailureException("caída")));
+
+        // Act
+        Mono<String> result = adapter.findVersionById(1L);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(RepositoryException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe leer el usuario y su versión con una sola consulta en findVersionedById")
+    void findVersionedByIdShouldUseSingleQuery() {
+        // Arrange
+        VersionedUsuario versioned = new VersionedUsuario(Usuario.builder().id(1).build(), "742.15");
+        when(queryRepository.findVersionedById(1)).thenReturn(Mono.just(versioned));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findVersionedById(1L))
+                .expectNext(versioned)
+                .verifyComplete();
+        verify(queryRepository, never()).findVersionById(any());
+        verify(queryRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Debe resolver los roles de findAll con una consulta por lote y conservar el orden")
+    void findAllShouldBatchRolLookups() {
+        // Arrange
+        int total = UsuarioGatewayAdapter.ROL_BATCH_SIZE * 2 + 1;
+        List<UsuarioEntity> entities = IntStream.rangeClosed(1, total)
+                .mapToObj(i -> UsuarioEntity.builder().id(i).idRol(i % 3 + 1).build())
+                .toList();
+        when(reactiveRepository.findAll()).thenReturn(Flux.fromIterable(entities));
+        when(rolGateway.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return Flux.fromIterable(ids).map(id -> Rol.builder().id(id.intValue()).nombre("ROL-" + id).build());
+        });
+
+        // Act
+        List<Usuario> usuarios = adapter.findAll().collectList().block();
+
+        // Assert
+        assertEquals(total, usuarios.size());
+        IntStream.range(0, total).forEach(i -> {
+            assertEquals(i + 1, usuarios.get(i).getId());
+            assertEquals("ROL-" + ((i + 1) % 3 + 1), usuarios.get(i).getRol().getNombre());
+        });
+        verify(rolGateway, times(3)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Debe importar el lote con una sola sentencia y clasificar los registros omitidos")
+    void createAllShouldInsertBatchAndClassifySkippedRows() {
+        // Arrange
+        Usuario nuevo = Usuario.builder().email("jane.doe@example.com").documentoIdentidad("987654321").build();
+        Usuario emailRepetido = Usuario.builder().email("john.doe@example.com").documentoIdentidad("123456789").build();
+        Usuario documentoRepetido = Usuario.builder().email("otro@example.com").documentoIdentidad("555555555").build();
+        Usuario repetidoEnLote = Usuario.builder().email("jane.doe@example.com").documentoIdentidad("987654321").build();
+        when(commandRepository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<UsuarioEntity> batch = invocation.getArgument(0);
+            assertEquals(4, batch.size());
+            return Flux.just(UsuarioEntity.builder().id(7).email("jane.doe@example.com").documentoIdentidad("987654321").build());
+        });
+        when(commandRepository.findTaken(anyCollection(), anyCollection())).thenReturn(Mono.just(new UsuarioCommandRepository.TakenValues(
+                Set.of("john.doe@example.com", "jane.doe@example.com"), Set.of("555555555", "987654321"))));
+
+        // Act
+        List<UsuarioImportResult> results = adapter.createAll(List.of(nuevo, emailRepetido, documentoRepetido, repetidoEnLote))
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals(List.of(UsuarioImportStatus.CREATED, UsuarioImportStatus.DUPLICATE_EMAIL,
+                        UsuarioImportStatus.DUPLICATE_DOCUMENTO_IDENTIDAD, UsuarioImportStatus.DUPLICATE_EMAIL),
+                results.stream().map(UsuarioImportResult::getStatus).toList());
+        assertEquals(7, results.get(0).getUsuario().getId());
+        verify(reactiveRepository, never()).saveAll(any(Flux.class));
+    }
+
+    @Test
+    @DisplayName("No debe consultar conflictos cuando todo el lote se inserta")
+    void createAllShouldSkipLookupWhenEveryRowIsInserted() {
+        // Arrange
+        Usuario usuario = Usuario.builder().email("jane.doe@example.com").documentoIdentidad("987654321").build();
+        when(commandRepository.insertAllIfAbsent(anyList()))
+                .thenReturn(Flux.just(UsuarioEntity.builder().id(1).email("jane.doe@example.com").documentoIdentidad("987654321").build()));
+
+        // Act & Assert
+        StepVerifier.create(adapter.createAll(List.of(usuario)))
+                .expectNextMatches(result -> result.getStatus() == UsuarioImportStatus.CREATED && result.getUsuario().getId() == 1)
+                .verifyComplete();
+        verify(commandRepository, never()).findTaken(anyCollection(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Debe envolver DataAccessException en RepositoryException para createAll")
+    void createAllShouldWrapException() {
+        // Arrange
+        when(commandRepository.insertAllIfAbsent(anyList()))
+                .thenReturn(Flux.error(new DataAccessResourceFailureException("Error de BD")));
+
+        // Act & Assert
+        StepVerifier.create(adapter.createAll(List.of(new Usuario())))
+                .expectError(RepositoryException.class)
+                .verify();
+    }
 }
@@ -0,0 +1,57 @@
+package com.crediya.auth.r2dbc.repository.usuario;
+
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.r2dbc.repository.usuario.UsuarioRowMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+class UsuarioRowMapperTest {
+
+    @Test
+    @DisplayName("Debe mapear el usuario y su rol desde la fila del JOIN")
+    void mapShouldBuildUsuarioWithRol() {
+        Row row = Mockito.mock(Row.class);
+        when(row.get("id", Integer.class)).thenReturn(7);
+        when(row.get("email", String.class)).thenReturn("jane.doe@example.com");
+        when(row.get("documento_identidad", String.class)).thenReturn("987654321");
+        when(row.get("salario_base", BigDecimal.class)).thenReturn(new BigDecimal("6000000"));
+        when(row.get("fecha_nacimiento")).thenReturn(LocalDate.of(1995, 5, 10));
+        when(row.get("id_rol", Integer.class)).thenReturn(1);
+        when(row.get("rol_nombre", String.class)).thenReturn("CLIENTE");
+
+        Usuario usuario = UsuarioRowMapper.map(row, Mockito.mock(RowMetadata.class));
+
+        assertEquals(7, usuario.getId());
+        assertEquals("jane.doe@example.com", usuario.getEmail());
+        assertEquals("987654321", usuario.getDocumentoIdentidad());
+        assertEquals(new BigDecimal("6000000"), usuario.getSalarioBase());
+        assertEquals(Date.from(LocalDate.of(1995, 5, 10).atStartOfDay(ZoneId.systemDefault()).toInstant()), usuario.getFechaNacimiento());
+        assertEquals(1, usuario.getRol().getId());
+        assertEquals("CLIENTE", usuario.getRol().getNombre());
+    }
+
+    @Test
+    @DisplayName("Debe dejar el rol en null cuando el usuario no tiene rol")
+    void mapShouldLeaveRolNullWithoutIdRol() {
+        Row row = Mockito.mock(Row.class);
+        when(row.get("id", Integer.class)).thenReturn(7);
+
+        Usuario usuario = UsuarioRowMapper.map(row, Mockito.mock(RowMetadata.class));
+
+        assertEquals(7, usuario.getId());
+        assertNull(usuario.getRol());
+        assertNull(usuario.getFechaNacimiento());
+    }
+}
@@ -0,0 +1,22 @@
+package co.com.crediya.security.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for keeping the introspections of tokens.
+ *
+ * @param maxSize the max number of introspections kept
+ * @param maxAge  how long an introspection is kept at most. It bounds how long a token is still reported active
+ *                after its usuario is deleted; the introspection of an active token is never kept past the
+ *                expiry of the token
+ */
+@ConfigurationProperties(prefix = "adapters.security.introspection-cache")
+public record IntrospectionCacheProperties(Integer maxSize, Duration maxAge) {
+
+    public IntrospectionCacheProperties {
+        maxSize = maxSize != null ? maxSize : 10_000;
+        maxAge = maxAge != null ? maxAge : Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,48 @@
+package co.com.crediya.security.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for issuing and verifying tokens.
+ *
+ * @param issuer                the issuer written in and required from every token
+ * @param ttl                   how long a token is valid after it is issued
+ * @param clockSkew             how far the clocks of the issuer and the verifier may drift apart
+ * @param keys                  the RSA signing keys, each one a private JSON Web Key with a key ID. To rotate, add
+ *                              the new key, make it active and drop the old one once its last tokens expire. When
+ *                              there are none an ephemeral key is generated, which only suits a single instance
+ *                              since its tokens do not survive a restart
+ * @param activeKeyId           the ID of the key that signs new tokens; by default the first key. The other keys
+ *                              only verify
+ * @param verificationCacheSize the max number of verified tokens whose claims are kept
+ * @param verificationThreads   the number of threads that check the signatures of tokens that are not cached;
+ *                              by default half of the processors
+ * @param verificationMaxQueued the max number of signature checks waiting for a thread; past it new ones are
+ *                              rejected right away
+ */
+@ConfigurationProperties(prefix = "adapters.security.jwt")
+public record JwtProperties(
+        String issuer,
+        Duration ttl,
+        Duration clockSkew,
+        List<String> keys,
+        String activeKeyId,
+        Integer verificationCacheSize,
+        Integer verificationThreads,
+        Integer verificationMaxQueued) {
+
+    public JwtProperties {
+        issuer = issuer != null ? issuer : "crediya-autenticacion";
+        ttl = ttl != null ? ttl : Duration.ofMinutes(15);
+        clockSkew = clockSkew != null ? clockSkew : Duration.ofSeconds(30);
+        keys = keys != null ? List.copyOf(keys) : List.of();
+        verificationCacheSize = verificationCacheSize != null ? verificationCacheSize : 10_000;
+        verificationThreads = verificationThreads != null
+                ? verificationThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        verificationMaxQueued = verificationMaxQueued != null ? verificationMaxQueued : 256;
+    }
+}
@@ -0,0 +1,29 @@
+package co.com.crediya.security.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for hashing and checking passwords.
+ *
+ * @param threads    the number of threads that hash passwords; by default half of the processors, so that a
+ *                   flood of logins leaves the rest of the CPU to the other routes
+ * @param maxQueued  the max number of hashes waiting for a thread; past it new ones are rejected right away
+ * @param strength   the bcrypt cost: every step doubles the time a hash takes
+ * @param retryAfter how long a rejected client is told to wait before retrying
+ */
+@ConfigurationProperties(prefix = "adapters.security.password-hashing")
+public record PasswordHashingProperties(
+        Integer threads,
+        Integer maxQueued,
+        Integer strength,
+        Duration retryAfter) {
+
+    public PasswordHashingProperties {
+        threads = threads != null ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        maxQueued = maxQueued != null ? maxQueued : 32;
+        strength = strength != null ? strength : 10;
+        retryAfter = retryAfter != null ? retryAfter : Duration.ofSeconds(1);
+    }
+}
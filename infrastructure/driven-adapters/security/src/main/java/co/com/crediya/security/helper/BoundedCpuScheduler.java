@@ -0,0 +1,154 @@
+package co.com.crediya.security.helper;
+
+import co.com.crediya.model.exceptions.CapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs CPU-bound work on its own fixed pool of threads, away from the event loop and from the shared Reactor
+ * schedulers. Work is admitted while fewer than {@code threads + maxQueued} tasks are pending; past that it is
+ * rejected right away with a {@link CapacityExceededException}, so a burst fails fast instead of piling up
+ * behind a queue that every caller would have to wait through.
+ * <p>
+ * Meters, named after the given prefix: {@code .active} and {@code .queued} gauges of the running and waiting
+ * tasks, a {@code .rejected} counter and a {@code .wait} timer of the time tasks spend queued.
+ */
+public class BoundedCpuScheduler implements Disposable {
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int CANCELLED = 2;
+
+    private final Scheduler scheduler;
+    private final int permits;
+    private final String rejectionMessage;
+    private final Duration retryAfter;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Counter rejected;
+    private final Timer wait;
+
+    /**
+     * Constructor for the BoundedCpuScheduler.
+     *
+     * @param name             the prefix of the thread and meter names
+     * @param threads          the number of threads that run the work
+     * @param maxQueued        the max number of tasks waiting for a thread
+     * @param rejectionMessage the message of the error of rejected tasks
+     * @param retryAfter       how long a rejected caller should wait before retrying
+     * @param registry         the registry of the meters
+     */
+    public BoundedCpuScheduler(String name, int threads, int maxQueued, String rejectionMessage, Duration retryAfter,
+                               MeterRegistry registry) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, threadFactory(name));
+        this.scheduler = Schedulers.fromExecutorService(executor, name);
+        this.permits = threads + maxQueued;
+        this.rejectionMessage = rejectionMessage;
+        this.retryAfter = retryAfter;
+        Gauge.builder(name + ".active", active, AtomicInteger::get)
+                .description("Tasks running")
+                .register(registry);
+        Gauge.builder(name + ".queued", queued, AtomicInteger::get)
+                .description("Tasks waiting for a thread")
+                .register(registry);
+        this.rejected = Counter.builder(name + ".rejected")
+                .description("Tasks rejected because too many were pending")
+                .register(registry);
+        this.wait = Timer.builder(name + ".wait")
+                .description("Time tasks spent waiting for a thread")
+                .register(registry);
+    }
+
+    /**
+     * Runs work on the pool, or rejects it if too many tasks are pending. Work cancelled while it waits is
+     * dropped without running.
+     *
+     * @param work the work to run
+     * @return a Mono containing the result of the work, or a CapacityExceededException error if it was rejected
+     */
+    public <T> Mono<T> submit(Callable<T> work) {
+        return Mono.defer(() -> {
+            if (pending.incrementAndGet() > permits) {
+                pending.decrementAndGet();
+                rejected.increment();
+                return Mono.error(new CapacityExceededException(rejectionMessage, retryAfter));
+            }
+            queued.incrementAndGet();
+            Task<T> task = new Task<>(work, System.nanoTime());
+            return Mono.fromCallable(task::run)
+                    .subscribeOn(scheduler)
+                    .doOnCancel(task::cancel);
+        });
+    }
+
+    @Override
+    public void dispose() {
+        scheduler.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return scheduler.isDisposed();
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A submitted unit of work, which releases its permit once when it completes or when it is cancelled before
+     * it starts, whichever happens first.
+     */
+    private final class Task<T> {
+        private final Callable<T> work;
+        private final long queuedAt;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private Task(Callable<T> work, long queuedAt) {
+            this.work = work;
+            this.queuedAt = queuedAt;
+        }
+
+        private T run() throws Exception {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                return null;
+            }
+            queued.decrementAndGet();
+            wait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            try {
+                return work.call();
+            } finally {
+                active.decrementAndGet();
+                pending.decrementAndGet();
+            }
+        }
+
+        private void cancel() {
+            if (state.compareAndSet(QUEUED, CANCELLED)) {
+                queued.decrementAndGet();
+                pending.decrementAndGet();
+            }
+        }
+    }
+}
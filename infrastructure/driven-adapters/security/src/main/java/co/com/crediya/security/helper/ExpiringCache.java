@@ -0,0 +1,148 @@
+package co.com.crediya.security.helper;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded map of values that each expire at their own time, such as the outcome of verifying a token, which
+ * holds until the token expires. An expired value is never returned. Once the cache is full, expired values are
+ * swept out, at most once per sweep interval; if it is still full, the value that expires soonest among a small
+ * sample is evicted, since it is the one with the least time left to be useful. This approximates evicting the
+ * values that expire soonest first: the samples are taken one after the other around the map, like a clock hand,
+ * so that over successive evictions every value is a candidate, rather than always those of the first bins.
+ *
+ * @param <V> the type of the values
+ */
+public class ExpiringCache<V> {
+    private static final int EVICTION_SAMPLE = 8;
+    private static final long SWEEP_INTERVAL_MILLIS = 1_000;
+
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long nextSweepAt;
+    /**
+     * Where the next eviction sample starts. The iterators of the map are weakly consistent, so it stays usable
+     * while values are added and removed; it is only moved while holding the lock of the cache.
+     */
+    private Iterator<Map.Entry<String, Entry<V>>> hand;
+
+    /**
+     * Constructor for the ExpiringCache.
+     *
+     * @param maxSize the max number of values kept
+     */
+    public ExpiringCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The max size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.hand = entries.entrySet().iterator();
+    }
+
+    /**
+     * Gets a value that has not expired yet.
+     *
+     * @param key the key of the value
+     * @param now the current time, in epoch milliseconds
+     * @return the value, or null if there is none or it expired
+     */
+    public V get(String key, long now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= now) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * Keeps a value until it expires, or until it is evicted to make room for others. Values that already expired
+     * are not kept.
+     *
+     * @param key       the key of the value
+     * @param value     the value
+     * @param expiresAt when the value expires, in epoch milliseconds
+     * @param now       the current time, in epoch milliseconds
+     */
+    public void put(String key, V value, long expiresAt, long now) {
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom(now);
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * @return the number of values kept, including expired ones that were not swept out yet
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups that found a value
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that found no value
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of values dropped before they expired to make room for others
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private void makeRoom(long now) {
+        if (now >= nextSweepAt) {
+            nextSweepAt = now + SWEEP_INTERVAL_MILLIS;
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() < maxSize) {
+                return;
+            }
+        }
+        String victim = null;
+        long soonest = Long.MAX_VALUE;
+        synchronized (this) {
+            for (int i = 0; i < EVICTION_SAMPLE; i++) {
+                if (!hand.hasNext()) {
+                    hand = entries.entrySet().iterator();
+                    if (!hand.hasNext()) {
+                        break;
+                    }
+                }
+                Map.Entry<String, Entry<V>> candidate = hand.next();
+                if (candidate.getValue().expiresAt() < soonest) {
+                    soonest = candidate.getValue().expiresAt();
+                    victim = candidate.getKey();
+                }
+            }
+        }
+        if (victim != null && entries.remove(victim) != null) {
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,31 @@
+package co.com.crediya.security.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Digests of tokens, used to key caches of what is known about a token without keeping the token itself, so
+ * a dump of a cache holds nothing that could be presented as a credential.
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    /**
+     * Gets the SHA-256 digest of a token.
+     *
+     * @param token the token
+     * @return the digest, encoded as unpadded base64url
+     */
+    public static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
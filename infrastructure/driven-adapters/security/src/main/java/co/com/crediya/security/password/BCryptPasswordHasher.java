@@ -0,0 +1,75 @@
+package co.com.crediya.security.password;
+
+import co.com.crediya.model.usuario.gateways.PasswordHasherGateway;
+import co.com.crediya.security.config.PasswordHashingProperties;
+import co.com.crediya.security.helper.BoundedCpuScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hashes passwords with bcrypt on a {@link BoundedCpuScheduler} of its own, so that hashing never runs on the
+ * event loop and a flood of logins is shed once the hashing threads are saturated, instead of slowing down
+ * every other route. Besides the scheduler meters under {@code password.hashing}, the time each hash takes is
+ * recorded in {@code password.hashing.duration}, tagged by operation.
+ */
+@Component
+public class BCryptPasswordHasher implements PasswordHasherGateway, DisposableBean {
+    private static final String METER_PREFIX = "password.hashing";
+
+    private final BCryptPasswordEncoder encoder;
+    private final BoundedCpuScheduler scheduler;
+    private final Timer hashDuration;
+    private final Timer verifyDuration;
+    /**
+     * A hash of the same cost as the real ones, checked when there is no hash so that the check takes as long.
+     */
+    private final String dummyHash;
+
+    /**
+     * Constructor for the BCryptPasswordHasher.
+     *
+     * @param properties the hashing settings
+     * @param registry   the registry of the meters
+     */
+    public BCryptPasswordHasher(PasswordHashingProperties properties, MeterRegistry registry) {
+        this.encoder = new BCryptPasswordEncoder(properties.strength());
+        this.scheduler = new BoundedCpuScheduler(METER_PREFIX, properties.threads(), properties.maxQueued(),
+                "El servicio de autenticación está saturado, intente de nuevo más tarde", properties.retryAfter(),
+                registry);
+        this.hashDuration = durationTimer("hash", registry);
+        this.verifyDuration = durationTimer("verify", registry);
+        this.dummyHash = encoder.encode("password-hash-timing-guard");
+    }
+
+    @Override
+    public Mono<String> hash(String password) {
+        return scheduler.submit(() -> hashDuration.recordCallable(() -> encoder.encode(password)));
+    }
+
+    @Override
+    public Mono<Boolean> matches(String password, String hash) {
+        return scheduler.submit(() -> verifyDuration.recordCallable(() -> {
+            if (hash == null) {
+                encoder.matches(password, dummyHash);
+                return false;
+            }
+            return encoder.matches(password, hash);
+        }));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    private static Timer durationTimer(String operation, MeterRegistry registry) {
+        return Timer.builder(METER_PREFIX + ".duration")
+                .tag("operation", operation)
+                .description("Time taken to hash a password or check it against a hash")
+                .register(registry);
+    }
+}
@@ -0,0 +1,100 @@
+package co.com.crediya.security.token;
+
+import co.com.crediya.model.token.TokenIntrospection;
+import co.com.crediya.model.token.gateways.IntrospectionCacheGateway;
+import co.com.crediya.security.config.IntrospectionCacheProperties;
+import co.com.crediya.security.helper.ExpiringCache;
+import co.com.crediya.security.helper.TokenDigest;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the introspections of tokens in memory, keyed by a digest of the token. Each one expires after the max
+ * age, or when its token does if that comes first, and once the cache is full the ones that expire soonest are
+ * evicted first.
+ * <p>
+ * Meters: {@code token.introspection.cache.requests} tagged by result, {@code token.introspection.cache.evictions}
+ * and the {@code token.introspection.cache.size} gauge.
+ */
+@Component
+public class IntrospectionCacheAdapter implements IntrospectionCacheGateway, MeterBinder {
+    private final ExpiringCache<TokenIntrospection> cache;
+    private final long maxAgeMillis;
+    private final Clock clock;
+
+    /**
+     * Constructor for the IntrospectionCacheAdapter.
+     *
+     * @param properties the cache settings
+     */
+    @Autowired
+    public IntrospectionCacheAdapter(IntrospectionCacheProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    IntrospectionCacheAdapter(IntrospectionCacheProperties properties, Clock clock) {
+        this.cache = new ExpiringCache<>(properties.maxSize());
+        this.maxAgeMillis = properties.maxAge().toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<Map<String, TokenIntrospection>> findAll(Collection<String> tokens) {
+        return Mono.fromSupplier(() -> {
+            long now = clock.millis();
+            Map<String, TokenIntrospection> found = new HashMap<>();
+            for (String token : tokens) {
+                TokenIntrospection introspection = cache.get(TokenDigest.sha256(token), now);
+                if (introspection != null) {
+                    found.put(token, introspection);
+                }
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public Mono<Void> saveAll(Map<String, TokenIntrospection> introspections) {
+        return Mono.fromRunnable(() -> {
+            long now = clock.millis();
+            introspections.forEach((token, introspection) ->
+                    cache.put(TokenDigest.sha256(token), introspection, expiresAt(introspection, now), now));
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("token.introspection.cache.requests", cache, ExpiringCache::hits)
+                .tag("result", "hit")
+                .description("Token introspections answered from the cache")
+                .register(registry);
+        FunctionCounter.builder("token.introspection.cache.requests", cache, ExpiringCache::misses)
+                .tag("result", "miss")
+                .description("Token introspections that verified the token")
+                .register(registry);
+        FunctionCounter.builder("token.introspection.cache.evictions", cache, ExpiringCache::evictions)
+                .description("Token introspections dropped before they expired to make room for others")
+                .register(registry);
+        Gauge.builder("token.introspection.cache.size", cache, ExpiringCache::size)
+                .description("Token introspections kept")
+                .register(registry);
+    }
+
+    private long expiresAt(TokenIntrospection introspection, long now) {
+        long expiresAt = now + maxAgeMillis;
+        if (introspection.isActive() && introspection.getClaims().getExpiresAt() != null) {
+            expiresAt = Math.min(expiresAt, introspection.getClaims().getExpiresAt().toEpochMilli());
+        }
+        return expiresAt;
+    }
+}
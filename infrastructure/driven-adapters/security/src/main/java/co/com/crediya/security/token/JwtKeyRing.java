@@ -0,0 +1,77 @@
+package co.com.crediya.security.token;
+
+import co.com.crediya.security.config.JwtProperties;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The signing keys of the service, parsed once: the active key that signs new tokens and the public half of every
+ * key, which tokens are verified with.
+ *
+ * @param activeKey  the private key that signs new tokens
+ * @param publicKeys the public keys of every configured key, the active one included
+ */
+@Slf4j
+record JwtKeyRing(RSAKey activeKey, JWKSet publicKeys) {
+    private static final int GENERATED_KEY_SIZE = 2048;
+
+    /**
+     * Parses the configured keys, or generates an ephemeral one if there are none.
+     *
+     * @param properties the token settings
+     * @return the key ring
+     * @throws IllegalStateException if a key is not a private RSA key with an ID, or the active key is not one of them
+     */
+    static JwtKeyRing from(JwtProperties properties) {
+        List<RSAKey> keys = new ArrayList<>();
+        for (String json : properties.keys()) {
+            keys.add(parse(json));
+        }
+        if (keys.isEmpty()) {
+            log.warn("No JWT signing keys configured, tokens are signed with an ephemeral key and will not be "
+                    + "accepted by other instances or after a restart");
+            keys.add(generate());
+        }
+        String activeKeyId = properties.activeKeyId() != null ? properties.activeKeyId() : keys.getFirst().getKeyID();
+        RSAKey activeKey = keys.stream()
+                .filter(key -> key.getKeyID().equals(activeKeyId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("The active JWT key " + activeKeyId + " is not configured"));
+        return new JwtKeyRing(activeKey, new JWKSet(List.<JWK>copyOf(keys)).toPublicJWKSet());
+    }
+
+    private static RSAKey parse(String json) {
+        try {
+            JWK key = JWK.parse(json);
+            if (!(key instanceof RSAKey rsaKey) || !key.isPrivate() || key.getKeyID() == null) {
+                throw new IllegalStateException("JWT signing keys must be private RSA keys with a key ID");
+            }
+            return rsaKey;
+        } catch (ParseException e) {
+            throw new IllegalStateException("A JWT signing key is not a valid JSON Web Key", e);
+        }
+    }
+
+    private static RSAKey generate() {
+        try {
+            return new RSAKeyGenerator(GENERATED_KEY_SIZE)
+                    .keyID(UUID.randomUUID().toString())
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.RS256)
+                    .generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not generate a JWT signing key", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package co.com.crediya.security.token;
+
+import co.com.crediya.model.exceptions.InvalidTokenException;
+import co.com.crediya.model.token.AccessToken;
+import co.com.crediya.model.token.TokenClaims;
+import co.com.crediya.model.token.gateways.TokenGateway;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.security.config.JwtProperties;
+import co.com.crediya.security.helper.BoundedCpuScheduler;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Issues and verifies RS256 JSON Web Tokens. The keys are parsed and their signer and verifiers built once at
+ * startup; verifying a token reads nothing but those keys and the cache of already verified tokens. A token
+ * found in the cache is answered on the calling thread; the signature of any other is checked on a
+ * {@link BoundedCpuScheduler} of its own, so that a flood of unknown tokens neither blocks the event loop nor
+ * queues without bound. Besides the cache meters of {@link JwtVerifier}, the scheduler meters are published under
+ * {@code token.verification}.
+ */
+@Component
+public class JwtTokenAdapter implements TokenGateway, DisposableBean {
+    private static final String METER_PREFIX = "token.verification";
+    private static final String SATURATED = "El servicio de autenticación está saturado, intente de nuevo más tarde";
+
+    static final String EMAIL_CLAIM = "email";
+    static final String ROL_CLAIM = "rol";
+
+    private final String issuer;
+    private final Duration ttl;
+    private final Clock clock;
+    private final JWSHeader header;
+    private final JWSSigner signer;
+    private final JwtVerifier verifier;
+    private final BoundedCpuScheduler scheduler;
+    private final String publicKeySet;
+
+    /**
+     * Constructor for the JwtTokenAdapter.
+     *
+     * @param properties the token settings
+     * @param registry   the registry of the meters
+     */
+    @Autowired
+    public JwtTokenAdapter(JwtProperties properties, MeterRegistry registry) {
+        this(properties, registry, Clock.systemUTC());
+    }
+
+    JwtTokenAdapter(JwtProperties properties, MeterRegistry registry, Clock clock) {
+        JwtKeyRing keyRing = JwtKeyRing.from(properties);
+        this.issuer = properties.issuer();
+        this.ttl = properties.ttl();
+        this.clock = clock;
+        this.header = new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .type(JOSEObjectType.JWT)
+                .keyID(keyRing.activeKey().getKeyID())
+                .build();
+        try {
+            this.signer = new RSASSASigner(keyRing.activeKey());
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Invalid JWT signing key", e);
+        }
+        this.verifier = new JwtVerifier(keyRing.publicKeys(), issuer, properties.clockSkew(),
+                properties.verificationCacheSize(), clock);
+        this.verifier.bindTo(registry);
+        this.scheduler = new BoundedCpuScheduler(METER_PREFIX, properties.verificationThreads(),
+                properties.verificationMaxQueued(), SATURATED, Duration.ofSeconds(1), registry);
+        this.publicKeySet = keyRing.publicKeys().toString();
+    }
+
+    @Override
+    public Mono<AccessToken> issue(Usuario usuario) {
+        return Mono.fromCallable(() -> {
+            Instant issuedAt = clock.instant();
+            Instant expiresAt = issuedAt.plus(ttl);
+            JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                    .issuer(issuer)
+                    .subject(String.valueOf(usuario.getId()))
+                    .claim(EMAIL_CLAIM, usuario.getEmail())
+                    .claim(ROL_CLAIM, usuario.getRol() != null ? usuario.getRol().getNombre() : null)
+                    .issueTime(Date.from(issuedAt))
+                    .expirationTime(Date.from(expiresAt))
+                    .jwtID(UUID.randomUUID().toString())
+                    .build();
+            SignedJWT jwt = new SignedJWT(header, claims);
+            jwt.sign(signer);
+            return AccessToken.builder()
+                    .value(jwt.serialize())
+                    .expiresAt(expiresAt)
+                    .build();
+        });
+    }
+
+    @Override
+    public Mono<TokenClaims> verify(String token) {
+        return Mono.defer(() -> {
+            JWTClaimsSet cached = verifier.cached(token);
+            return cached != null
+                    ? Mono.fromCallable(() -> toClaims(cached))
+                    : scheduler.submit(() -> toClaims(verifier.verifyAndCache(token)));
+        });
+    }
+
+    @Override
+    public Mono<String> publicKeySet() {
+        return Mono.just(publicKeySet);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    private static TokenClaims toClaims(JWTClaimsSet claims) {
+        try {
+            return TokenClaims.builder()
+                    .usuarioId(Integer.valueOf(claims.getSubject()))
+                    .email(claims.getStringClaim(EMAIL_CLAIM))
+                    .rol(claims.getStringClaim(ROL_CLAIM))
+                    .issuedAt(claims.getIssueTime() != null ? claims.getIssueTime().toInstant() : null)
+                    .expiresAt(claims.getExpirationTime().toInstant())
+                    .build();
+        } catch (ParseException | NumberFormatException e) {
+            throw new InvalidTokenException("El token no es válido");
+        }
+    }
+}
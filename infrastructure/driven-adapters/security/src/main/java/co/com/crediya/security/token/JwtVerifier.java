@@ -0,0 +1,157 @@
+package co.com.crediya.security.token;
+
+import co.com.crediya.model.exceptions.InvalidTokenException;
+import co.com.crediya.security.helper.ExpiringCache;
+import co.com.crediya.security.helper.TokenDigest;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verifies RS256 tokens with a set of public keys alone, so any service that has the keys published by the JWKS
+ * endpoint can verify tokens without calling this one. The verifier of each key is built once, and the claims of
+ * every verified token are cached until the token expires, keyed by a hash of the token, so a client that sends
+ * the same token on every request pays for the signature check only once.
+ * <p>
+ * Meters: {@code token.verification.cache.requests} tagged by result and the {@code token.verification.cache.size}
+ * gauge.
+ */
+public class JwtVerifier implements MeterBinder {
+    private static final String INVALID = "El token no es válido";
+    private static final String EXPIRED = "El token expiró";
+
+    private final Map<String, JWSVerifier> verifiers;
+    private final String issuer;
+    private final long clockSkewMillis;
+    private final Clock clock;
+    private final ExpiringCache<JWTClaimsSet> cache;
+
+    /**
+     * Constructor for the JwtVerifier.
+     *
+     * @param publicKeys the keys that tokens may be signed with; keys other than RSA ones are ignored
+     * @param issuer     the issuer that tokens must have
+     * @param clockSkew  how far the clocks of the issuer and this verifier may drift apart
+     * @param cacheSize  the max number of verified tokens whose claims are kept
+     * @param clock      the clock that tells whether tokens expired
+     */
+    public JwtVerifier(JWKSet publicKeys, String issuer, Duration clockSkew, int cacheSize, Clock clock) {
+        Map<String, JWSVerifier> byKeyId = new HashMap<>();
+        for (JWK key : publicKeys.getKeys()) {
+            if (key instanceof RSAKey rsaKey && key.getKeyID() != null) {
+                byKeyId.put(key.getKeyID(), verifierOf(rsaKey));
+            }
+        }
+        this.verifiers = Map.copyOf(byKeyId);
+        this.issuer = issuer;
+        this.clockSkewMillis = clockSkew.toMillis();
+        this.clock = clock;
+        this.cache = new ExpiringCache<>(cacheSize);
+    }
+
+    /**
+     * Gets the claims of a token verified before, without checking its signature again.
+     *
+     * @param token the token
+     * @return the claims of the token, or null if it is not cached or expired
+     */
+    public JWTClaimsSet cached(String token) {
+        return cache.get(TokenDigest.sha256(token), clock.millis());
+    }
+
+    /**
+     * Verifies the signature, issuer and validity period of a token, unless it was verified before.
+     *
+     * @param token the token to verify
+     * @return the claims of the token
+     * @throws InvalidTokenException if the token is malformed, not signed by one of the keys, from another issuer
+     *                               or not valid at this time
+     */
+    public JWTClaimsSet verify(String token) {
+        JWTClaimsSet cached = cached(token);
+        return cached != null ? cached : verifyAndCache(token);
+    }
+
+    /**
+     * Verifies the signature, issuer and validity period of a token that is not cached, and caches its claims.
+     *
+     * @param token the token to verify
+     * @return the claims of the token
+     * @throws InvalidTokenException if the token is malformed, not signed by one of the keys, from another issuer
+     *                               or not valid at this time
+     */
+    public JWTClaimsSet verifyAndCache(String token) {
+        long now = clock.millis();
+        JWTClaimsSet claims = verifyUncached(token, now);
+        cache.put(TokenDigest.sha256(token), claims, claims.getExpirationTime().getTime() + clockSkewMillis, now);
+        return claims;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("token.verification.cache.requests", cache, ExpiringCache::hits)
+                .tag("result", "hit")
+                .description("Token verifications answered from the cache")
+                .register(registry);
+        FunctionCounter.builder("token.verification.cache.requests", cache, ExpiringCache::misses)
+                .tag("result", "miss")
+                .description("Token verifications that checked the signature")
+                .register(registry);
+        Gauge.builder("token.verification.cache.size", cache, ExpiringCache::size)
+                .description("Verified tokens whose claims are kept")
+                .register(registry);
+    }
+
+    private JWTClaimsSet verifyUncached(String token, long now) {
+        try {
+            SignedJWT jwt = SignedJWT.parse(token);
+            if (!JWSAlgorithm.RS256.equals(jwt.getHeader().getAlgorithm())) {
+                throw new InvalidTokenException(INVALID);
+            }
+            JWSVerifier verifier = verifiers.get(jwt.getHeader().getKeyID());
+            if (verifier == null || !jwt.verify(verifier)) {
+                throw new InvalidTokenException(INVALID);
+            }
+            JWTClaimsSet claims = jwt.getJWTClaimsSet();
+            if (!issuer.equals(claims.getIssuer()) || claims.getSubject() == null) {
+                throw new InvalidTokenException(INVALID);
+            }
+            Date expiresAt = claims.getExpirationTime();
+            if (expiresAt == null || expiresAt.getTime() + clockSkewMillis <= now) {
+                throw new InvalidTokenException(EXPIRED);
+            }
+            Date notBefore = claims.getNotBeforeTime();
+            if (notBefore != null && notBefore.getTime() - clockSkewMillis > now) {
+                throw new InvalidTokenException(INVALID);
+            }
+            return claims;
+        } catch (ParseException | JOSEException e) {
+            throw new InvalidTokenException(INVALID);
+        }
+    }
+
+    private static JWSVerifier verifierOf(RSAKey key) {
+        try {
+            return new RSASSAVerifier(key.toRSAPublicKey());
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("Invalid RSA key " + key.getKeyID(), e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package co.com.crediya.security.helper;
+
+import co.com.crediya.model.exceptions.CapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedCpuSchedulerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BoundedCpuScheduler scheduler =
+            new BoundedCpuScheduler("test.cpu", 1, 1, "Saturado", Duration.ofSeconds(2), registry);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar el trabajo en un hilo propio")
+    void shouldRunWorkOnOwnThread() {
+        StepVerifier.create(scheduler.submit(() -> Thread.currentThread().getName()))
+                .expectNext("test.cpu-1")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar de inmediato el trabajo que excede los hilos y la cola")
+    void shouldRejectWorkBeyondCapacity() throws InterruptedException {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Disposable running = scheduler.submit(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+        Disposable queued = scheduler.submit(() -> true).subscribe();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        StepVerifier.create(scheduler.submit(() -> true))
+                .expectErrorSatisfies(error -> {
+                    assertTrue(error instanceof CapacityExceededException);
+                    assertEquals(Duration.ofSeconds(2), ((CapacityExceededException) error).getRetryAfter());
+                })
+                .verify();
+        assertEquals(1.0, registry.get("test.cpu.rejected").counter().count());
+        assertEquals(1.0, registry.get("test.cpu.active").gauge().value());
+        assertEquals(1.0, registry.get("test.cpu.queued").gauge().value());
+        release.countDown();
+        running.dispose();
+        queued.dispose();
+    }
+
+    @Test
+    @DisplayName("Debe liberar el cupo del trabajo cancelado antes de ejecutarse sin ejecutarlo")
+    void shouldReleaseCancelledQueuedWork() throws InterruptedException {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        scheduler.submit(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }).subscribe();
+        Disposable cancelled = scheduler.submit(() -> cancelledRan.getAndSet(true)).subscribe();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        cancelled.dispose();
+        release.countDown();
+
+        // Assert
+        StepVerifier.create(scheduler.submit(() -> "siguiente"))
+                .expectNext("siguiente")
+                .verifyComplete();
+        assertFalse(cancelledRan.get());
+        assertEquals(0.0, registry.get("test.cpu.queued").gauge().value());
+    }
+}
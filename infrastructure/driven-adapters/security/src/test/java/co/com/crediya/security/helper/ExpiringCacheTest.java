@@ -0,0 +1,61 @@
+package co.com.crediya.security.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExpiringCacheTest {
+
+    @Test
+    @DisplayName("Debe devolver el valor hasta que expire")
+    void shouldReturnValueUntilItExpires() {
+        // Arrange
+        ExpiringCache<String> cache = new ExpiringCache<>(10);
+        cache.put("a", "valor", 1_000, 0);
+
+        // Act & Assert
+        assertEquals("valor", cache.get("a", 999));
+        assertNull(cache.get("a", 1_000));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    @DisplayName("Debe descartar primero los valores expirados y luego el que expira antes")
+    void shouldEvictExpiredThenSoonestToExpire() {
+        // Arrange
+        ExpiringCache<String> cache = new ExpiringCache<>(2);
+        cache.put("expirado", "1", 100, 0);
+        cache.put("largo", "2", 10_000, 0);
+
+        // Act
+        cache.put("nuevo", "3", 5_000, 200);
+        cache.put("otro", "4", 8_000, 300);
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertNull(cache.get("expirado", 300));
+        assertNull(cache.get("nuevo", 300));
+        assertEquals("2", cache.get("largo", 300));
+        assertEquals("4", cache.get("otro", 300));
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar los valores que ya expiraron y rechazar un tamaño no positivo")
+    void shouldIgnoreExpiredValues() {
+        // Arrange
+        ExpiringCache<String> cache = new ExpiringCache<>(1);
+
+        // Act
+        cache.put("a", "valor", 100, 100);
+
+        // Assert
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<>(0));
+    }
+}
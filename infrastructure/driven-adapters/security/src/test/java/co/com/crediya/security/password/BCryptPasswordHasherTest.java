@@ -0,0 +1,47 @@
+package co.com.crediya.security.password;
+
+import co.com.crediya.security.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BCryptPasswordHasherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BCryptPasswordHasher hasher =
+            new BCryptPasswordHasher(new PasswordHashingProperties(1, 4, 4, null), registry);
+
+    @AfterEach
+    void tearDown() {
+        hasher.destroy();
+    }
+
+    @Test
+    @DisplayName("Debe generar un hash bcrypt que coincide con la contraseña")
+    void shouldHashAndMatchPassword() {
+        // Act
+        String hash = hasher.hash("secreto123").block();
+
+        // Assert
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertNotEquals("secreto123", hash);
+        StepVerifier.create(hasher.matches("secreto123", hash)).expectNext(true).verifyComplete();
+        StepVerifier.create(hasher.matches("incorrecta", hash)).expectNext(false).verifyComplete();
+        assertEquals(1, registry.get("password.hashing.duration").tag("operation", "hash").timer().count());
+        assertEquals(2, registry.get("password.hashing.duration").tag("operation", "verify").timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe verificar contra un hash de relleno y fallar cuando no hay hash")
+    void shouldFailWithoutHashAfterCheckingDummy() {
+        // Act & Assert
+        StepVerifier.create(hasher.matches("secreto123", null)).expectNext(false).verifyComplete();
+        assertEquals(1, registry.get("password.hashing.duration").tag("operation", "verify").timer().count());
+    }
+}
@@ -0,0 +1,76 @@
+package co.com.crediya.security.token;
+
+import co.com.crediya.model.token.TokenClaims;
+import co.com.crediya.model.token.TokenIntrospection;
+import co.com.crediya.security.config.IntrospectionCacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+class IntrospectionCacheAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final SteppingClock clock = new SteppingClock();
+    private final IntrospectionCacheAdapter cache =
+            new IntrospectionCacheAdapter(new IntrospectionCacheProperties(10, Duration.ofSeconds(30)), clock);
+
+    @Test
+    @DisplayName("Debe guardar las consultas hasta su antigüedad máxima o hasta que expire el token")
+    void shouldKeepIntrospectionsUntilMaxAgeOrTokenExpiry() {
+        // Arrange
+        TokenIntrospection longLived = activeUntil(NOW.plusSeconds(900));
+        TokenIntrospection shortLived = activeUntil(NOW.plusSeconds(10));
+        TokenIntrospection inactive = TokenIntrospection.builder().active(false).mensaje("El token expiró").build();
+        List<String> tokens = List.of("largo", "corto", "inactivo", "desconocido");
+        StepVerifier.create(cache.saveAll(Map.of("largo", longLived, "corto", shortLived, "inactivo", inactive)))
+                .verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(cache.findAll(tokens))
+                .expectNext(Map.of("largo", longLived, "corto", shortLived, "inactivo", inactive))
+                .verifyComplete();
+        clock.now = NOW.plusSeconds(10);
+        StepVerifier.create(cache.findAll(tokens))
+                .expectNext(Map.of("largo", longLived, "inactivo", inactive))
+                .verifyComplete();
+        clock.now = NOW.plusSeconds(30);
+        StepVerifier.create(cache.findAll(tokens))
+                .expectNext(Map.of())
+                .verifyComplete();
+    }
+
+    private static TokenIntrospection activeUntil(Instant expiresAt) {
+        return TokenIntrospection.builder()
+                .active(true)
+                .claims(TokenClaims.builder().usuarioId(1).expiresAt(expiresAt).build())
+                .build();
+    }
+
+    private static final class SteppingClock extends Clock {
+        private Instant now = NOW;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package co.com.crediya.security.token;
+
+import co.com.crediya.model.exceptions.InvalidTokenException;
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.model.token.AccessToken;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.security.config.JwtProperties;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static String oldKey;
+    private static String newKey;
+
+    private final Usuario usuario = Usuario.builder()
+            .id(7)
+            .email("jane.doe@example.com")
+            .rol(Rol.builder().id(1).nombre("CLIENTE").build())
+            .passwordHash("$2a$10$hash")
+            .build();
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        oldKey = new RSAKeyGenerator(2048).keyID("k1").algorithm(JWSAlgorithm.RS256).generate().toJSONString();
+        newKey = new RSAKeyGenerator(2048).keyID("k2").algorithm(JWSAlgorithm.RS256).generate().toJSONString();
+    }
+
+    @Test
+    @DisplayName("Debe emitir un token que se verifica con sus claims")
+    void shouldIssueAndVerifyToken() {
+        // Arrange
+        JwtTokenAdapter adapter = adapter(List.of(oldKey), null, NOW);
+
+        // Act
+        AccessToken token = adapter.issue(usuario).block();
+
+        // Assert
+        assertEquals(NOW.plus(Duration.ofMinutes(15)), token.getExpiresAt());
+        StepVerifier.create(adapter.verify(token.getValue()))
+                .assertNext(claims -> {
+                    assertEquals(7, claims.getUsuarioId());
+                    assertEquals("jane.doe@example.com", claims.getEmail());
+                    assertEquals("CLIENTE", claims.getRol());
+                    assertEquals(NOW, claims.getIssuedAt());
+                })
+                .verifyComplete();
+        assertFalse(token.getValue().contains("hash"));
+    }
+
+    @Test
+    @DisplayName("Debe responder desde la caché al verificar de nuevo el mismo token")
+    void shouldCacheVerifiedTokens() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtTokenAdapter adapter = adapter(List.of(oldKey), null, NOW, registry);
+        String token = adapter.issue(usuario).block().getValue();
+
+        // Act
+        adapter.verify(token).block();
+        adapter.verify(token).block();
+
+        // Assert
+        assertEquals(1.0, registry.get("token.verification.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("token.verification.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("token.verification.cache.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token expirado")
+    void shouldRejectExpiredToken() {
+        // Arrange
+        String token = adapter(List.of(oldKey), null, NOW).issue(usuario).block().getValue();
+        JwtTokenAdapter later = adapter(List.of(oldKey), null, NOW.plus(Duration.ofMinutes(16)));
+
+        // Act & Assert
+        StepVerifier.create(later.verify(token))
+                .expectErrorSatisfies(error -> {
+                    assertTrue(error instanceof InvalidTokenException);
+                    assertEquals("El token expiró", error.getMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token alterado o firmado con una llave desconocida")
+    void shouldRejectTamperedOrForeignToken() {
+        // Arrange
+        JwtTokenAdapter adapter = adapter(List.of(oldKey), null, NOW);
+        String token = adapter.issue(usuario).block().getValue();
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "x." + parts[2];
+        String foreign = adapter(List.of(newKey), null, NOW).issue(usuario).block().getValue();
+
+        // Act & Assert
+        StepVerifier.create(adapter.verify(tampered)).expectError(InvalidTokenException.class).verify();
+        StepVerifier.create(adapter.verify(foreign)).expectError(InvalidTokenException.class).verify();
+        StepVerifier.create(adapter.verify("no-es-un-jwt")).expectError(InvalidTokenException.class).verify();
+    }
+
+    @Test
+    @DisplayName("Debe seguir aceptando los tokens de la llave anterior tras rotarla")
+    void shouldAcceptTokensOfRetiredKeyAfterRotation() throws Exception {
+        // Arrange
+        String token = adapter(List.of(oldKey), null, NOW).issue(usuario).block().getValue();
+        JwtTokenAdapter rotated = adapter(List.of(newKey, oldKey), "k2", NOW);
+
+        // Act
+        String rotatedToken = rotated.issue(usuario).block().getValue();
+
+        // Assert
+        StepVerifier.create(rotated.verify(token)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(rotated.verify(rotatedToken)).expectNextCount(1).verifyComplete();
+        JWKSet published = JWKSet.parse(rotated.publicKeySet().block());
+        assertEquals(2, published.getKeys().size());
+        assertTrue(published.getKeys().stream().noneMatch(key -> ((RSAKey) key).isPrivate()));
+    }
+
+    @Test
+    @DisplayName("Debe verificar la firma de los tokens que no están en caché fuera del hilo que la pide")
+    void shouldVerifyUncachedTokensOffTheCallingThread() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtTokenAdapter adapter = adapter(List.of(oldKey), null, NOW, registry);
+        String token = adapter.issue(usuario).block().getValue();
+        AtomicReference<String> verifiedOn = new AtomicReference<>();
+
+        // Act
+        adapter.verify(token).doOnNext(claims -> verifiedOn.set(Thread.currentThread().getName())).block();
+        adapter.destroy();
+
+        // Assert
+        assertTrue(verifiedOn.get().startsWith("token.verification-"));
+        assertEquals(1, registry.get("token.verification.wait").timer().count());
+    }
+
+    private static JwtTokenAdapter adapter(List<String> keys, String activeKeyId, Instant now) {
+        return adapter(keys, activeKeyId, now, new SimpleMeterRegistry());
+    }
+
+    private static JwtTokenAdapter adapter(List<String> keys, String activeKeyId, Instant now,
+                                           SimpleMeterRegistry registry) {
+        return new JwtTokenAdapter(new JwtProperties(null, null, Duration.ZERO, keys, activeKeyId, 100, null, null),
+                registry, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,128 @@
+package co.com.crediya.api.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A limit on the number of requests in flight that follows the latency of the requests, in the manner of the
+ * gradient limits of Netflix's concurrency-limits. A long-term average of the latency stands for the latency of
+ * the service when it is not queueing: while recent requests are as fast as that, the limit grows by about the
+ * square root of itself, and once they are slower the limit shrinks in proportion, down to half per sample. So
+ * when the database slows down the limit falls to what it can serve, and the excess is refused at once instead of
+ * waiting for a connection until it times out.
+ * <p>
+ * The limit only grows while at least half of it is in use, so that a quiet period does not leave it far above
+ * what was ever tested. Samples update it under a lock, which is only held for a few arithmetic operations; taking
+ * and returning a permit is lock-free.
+ */
+public class AdaptiveConcurrencyLimit {
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int longWindow;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder drops = new LongAdder();
+    private volatile double limit;
+    private double longRtt;
+    private int samples;
+
+    /**
+     * Constructor for the AdaptiveConcurrencyLimit.
+     *
+     * @param initialLimit the limit before any request has completed
+     * @param minLimit     the lowest the limit can fall
+     * @param maxLimit     the highest the limit can grow
+     * @param tolerance    how much slower than the long-term average a request can be before the limit shrinks,
+     *                     as a ratio
+     * @param smoothing    how much of each new estimate is applied to the limit, between 0 and 1
+     * @param longWindow   the number of samples the long-term average of the latency spans
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing,
+                                    int longWindow) {
+        if (minLimit < 1 || maxLimit < minLimit || tolerance < 1 || smoothing <= 0 || smoothing > 1 || longWindow < 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longWindow = longWindow;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Takes a permit for a request, unless the limit is reached.
+     *
+     * @return true if the request may proceed, in which case {@link #release(long, boolean)} must be called once
+     * it completes; false if it must be refused
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                drops.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the permit of a request that completed.
+     *
+     * @param rttNanos how long the request took, in nanoseconds
+     * @param sample   whether its latency tells about the service; false for requests cancelled by the client
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inflightAtEnd = inflight.getAndDecrement();
+        if (sample && rttNanos > 0) {
+            update(rttNanos, inflightAtEnd);
+        }
+    }
+
+    /**
+     * @return the current limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of requests in flight
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * @return the number of requests refused since startup
+     */
+    public long getDrops() {
+        return drops.sum();
+    }
+
+    private synchronized void update(long rtt, int inflightAtEnd) {
+        if (samples < WARMUP_SAMPLES) {
+            samples++;
+            longRtt += (rtt - longRtt) / samples;
+        } else {
+            longRtt += (rtt - longRtt) / longWindow;
+        }
+        if (longRtt > 2.0 * rtt) {
+            // The latency dropped well below the average, e.g. after an incident: catch up quickly
+            longRtt *= 0.95;
+        }
+        double current = limit;
+        double gradient = Math.clamp(tolerance * longRtt / rtt, 0.5, 1.0);
+        if (gradient >= 1.0 && inflightAtEnd < current / 2) {
+            return;
+        }
+        double estimate = current * gradient + Math.sqrt(current);
+        limit = Math.clamp(current * (1 - smoothing) + estimate * smoothing, minLimit, maxLimit);
+    }
+}
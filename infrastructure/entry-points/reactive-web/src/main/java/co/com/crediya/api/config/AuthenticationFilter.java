@@ -0,0 +1,116 @@
+package co.com.crediya.api.config;
+
+import co.com.crediya.api.dto.ApiResponse;
+import co.com.crediya.model.exceptions.CapacityExceededException;
+import co.com.crediya.model.exceptions.InvalidTokenException;
+import co.com.crediya.model.token.TokenClaims;
+import co.com.crediya.usecase.token.TokenUseCase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Authenticates the requests that carry an {@code Authorization: Bearer} token. The token is verified locally,
+ * with the public keys and the cache of already verified tokens, so authenticating never reads the database.
+ * The claims of a valid token are left in the {@link #CLAIMS_ATTRIBUTE} attribute of the exchange. A request to
+ * one of the routes in {@link AuthenticationProperties} without a valid token is answered with a 401; on any
+ * other route an invalid token is ignored and the request goes on unauthenticated, so that a client whose token
+ * expired can still log in again. When the verification of tokens is saturated the request is answered with a
+ * 503, since it cannot tell whether the token is valid.
+ */
+@Component
+@Order(AuthenticationFilter.ORDER)
+public class AuthenticationFilter implements WebFilter {
+    /**
+     * Runs after CORS, the security headers, the request log and the latency histograms, which therefore also see
+     * the requests it rejects, and ahead of the filters without an order, which only see the requests it lets through.
+     */
+    public static final int ORDER = 0;
+    /**
+     * The exchange attribute that holds the {@link TokenClaims} of an authenticated request.
+     */
+    public static final String CLAIMS_ATTRIBUTE = AuthenticationFilter.class.getName() + ".claims";
+
+    private static final String BEARER = "Bearer ";
+
+    private final TokenUseCase tokenUseCase;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> protectedPaths;
+
+    public AuthenticationFilter(TokenUseCase tokenUseCase, ObjectMapper objectMapper,
+                                AuthenticationProperties authenticationProperties) {
+        this.tokenUseCase = tokenUseCase;
+        this.objectMapper = objectMapper;
+        this.protectedPaths = authenticationProperties.protectedPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            return isProtected(exchange)
+                    ? unauthorized(exchange, "Se requiere un token de acceso", "Bearer")
+                    : chain.filter(exchange);
+        }
+        return tokenUseCase.verify(authorization.substring(BEARER.length()).trim())
+                .map(claims -> {
+                    exchange.getAttributes().put(CLAIMS_ATTRIBUTE, claims);
+                    return true;
+                })
+                .onErrorResume(InvalidTokenException.class, e -> isProtected(exchange)
+                        ? unauthorized(exchange, e.getMessage(), "Bearer error=\"invalid_token\"").thenReturn(false)
+                        : Mono.just(true))
+                .onErrorResume(CapacityExceededException.class, e -> serviceUnavailable(exchange, e).thenReturn(false))
+                .flatMap(authenticated -> authenticated ? chain.filter(exchange) : Mono.empty());
+    }
+
+    private boolean isProtected(ServerWebExchange exchange) {
+        for (PathPattern pattern : protectedPaths) {
+            if (pattern.matches(exchange.getRequest().getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Mono<Void> unauthorized(ServerWebExchange exchange, String mensaje, String challenge) {
+        exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, challenge);
+        return reject(exchange, HttpStatus.UNAUTHORIZED, mensaje);
+    }
+
+    private Mono<Void> serviceUnavailable(ServerWebExchange exchange, CapacityExceededException e) {
+        long retryAfterSeconds = Math.max(1, e.getRetryAfter().plusMillis(999).toSeconds());
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return reject(exchange, HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status, String mensaje) {
+        ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
+                .codigo(status.value())
+                .mensaje(mensaje)
+                .build();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(objectMapper.writeValueAsBytes(apiResponse))));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package co.com.crediya.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Routes that can only be called with a valid token. Tokens sent to any other route are verified as well, but
+ * the route can also be called without one, or with one that is not valid.
+ *
+ * @param protectedPaths the patterns of the paths that require a token, for every method; by default the token
+ *                       introspection, so that it cannot be used to probe tokens anonymously
+ */
+@ConfigurationProperties(prefix = "routes.auth")
+public record AuthenticationProperties(List<String> protectedPaths) {
+
+    public static final String TOKEN_PATHS = "/api/v1/tokens/**";
+
+    public AuthenticationProperties {
+        protectedPaths = protectedPaths != null ? List.copyOf(protectedPaths) : List.of(TOKEN_PATHS);
+    }
+}
@@ -0,0 +1,20 @@
+package co.com.crediya.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Cache policies of the routes whose responses may be kept by the client. Every other response is sent with
+ * {@code Cache-Control: no-store}.
+ *
+ * @param policies the {@code Cache-Control} value of the {@code GET} and {@code HEAD} responses of a route, by
+ *                 route pattern
+ */
+@ConfigurationProperties(prefix = "routes.cache")
+public record CachePolicyProperties(Map<String, String> policies) {
+
+    public CachePolicyProperties {
+        policies = policies != null ? Map.copyOf(policies) : Map.of();
+    }
+}
@@ -0,0 +1,34 @@
+package co.com.crediya.api.config;
+
+import co.com.crediya.model.caller.CallerContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+
+/**
+ * Puts the id of the calling client in the Reactor context of every request, under {@link CallerContext#KEY}, so
+ * that the persistence adapters can tell the requests of one client apart; the r2dbc adapter uses it to keep
+ * serving the reads of a client from the primary database right after that client writes. The id is the address
+ * of the client, as found by {@link ClientAddressResolver}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CallerContextFilter implements WebFilter {
+    private final ClientAddressResolver clientAddressResolver;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        InetAddress client = clientAddressResolver.resolve(exchange.getRequest());
+        if (client == null) {
+            return chain.filter(exchange);
+        }
+        String caller = client.getHostAddress();
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(CallerContext.KEY, caller));
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.crediya.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * How the address of the client of a request is found. X-Forwarded-For is set by whoever sends the request, so
+ * it is only read when the request comes from a trusted proxy, and then only up to the last address that a
+ * trusted proxy did not add.
+ *
+ * @param trustedProxies the addresses of the proxies in front of the service, each an IP address or a CIDR
+ *                       block such as {@code 10.0.0.0/8}; with none, X-Forwarded-For is ignored
+ */
+@ConfigurationProperties(prefix = "routes.client-address")
+public record ClientAddressProperties(List<String> trustedProxies) {
+
+    public ClientAddressProperties {
+        trustedProxies = trustedProxies != null ? List.copyOf(trustedProxies) : List.of();
+    }
+}
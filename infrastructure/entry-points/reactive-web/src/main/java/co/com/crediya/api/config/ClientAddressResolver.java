@@ -0,0 +1,113 @@
+package co.com.crediya.api.config;
+
+import io.netty.util.NetUtil;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * Finds the address of the client of a request. It is the remote address of the connection, unless that is a
+ * trusted proxy in {@link ClientAddressProperties}: then X-Forwarded-For is read from the right, skipping the
+ * proxies, and the first address that is not one is the client. Addresses to the left of it were written by the
+ * client itself and are never used, so a client cannot pass for another by sending the header.
+ */
+@Component
+public class ClientAddressResolver {
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<Block> trustedProxies;
+
+    /**
+     * Constructor for the ClientAddressResolver.
+     *
+     * @param properties the trusted proxies
+     * @throws IllegalArgumentException if a trusted proxy is not an IP address or a CIDR block
+     */
+    public ClientAddressResolver(ClientAddressProperties properties) {
+        this.trustedProxies = properties.trustedProxies().stream()
+                .map(Block::parse)
+                .toList();
+    }
+
+    /**
+     * Gets the address of the client of a request.
+     *
+     * @param request the request
+     * @return the address of the client, or null if the request has no remote address
+     */
+    public InetAddress resolve(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        InetAddress client = remoteAddress != null ? remoteAddress.getAddress() : null;
+        if (client == null || trustedProxies.isEmpty() || !isTrustedProxy(client)) {
+            return client;
+        }
+        List<String> forwardedFor = request.getHeaders().get(X_FORWARDED_FOR);
+        if (forwardedFor == null) {
+            return client;
+        }
+        for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+            String header = forwardedFor.get(i);
+            int end = header.length();
+            while (end > 0) {
+                int start = header.lastIndexOf(',', end - 1) + 1;
+                InetAddress hop = NetUtil.createInetAddressFromIpAddressString(header.substring(start, end).trim());
+                if (hop == null) {
+                    return client;
+                }
+                client = hop;
+                if (!isTrustedProxy(hop)) {
+                    return client;
+                }
+                end = start - 1;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        for (Block block : trustedProxies) {
+            if (block.contains(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A block of addresses: the addresses whose first {@code prefixLength} bits are those of {@code network}.
+     */
+    private record Block(byte[] network, int prefixLength) {
+
+        static Block parse(String value) {
+            int slash = value.indexOf('/');
+            String address = (slash >= 0 ? value.substring(0, slash) : value).trim();
+            byte[] network = NetUtil.createByteArrayFromIpAddressString(address);
+            if (network == null) {
+                throw new IllegalArgumentException("The trusted proxy " + value + " is not an IP address or CIDR block");
+            }
+            int prefixLength = slash >= 0 ? Integer.parseInt(value.substring(slash + 1).trim()) : network.length * 8;
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("The trusted proxy " + value + " has an invalid prefix length");
+            }
+            return new Block(network, prefixLength);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int bits = prefixLength;
+            for (int i = 0; bits > 0; i++, bits -= 8) {
+                int mask = bits >= 8 ? 0xFF : 0xFF << (8 - bits) & 0xFF;
+                if ((address[i] & mask) != (network[i] & mask)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package co.com.crediya.api.config;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The token buckets of the clients of one rate limit. Each bucket is a single {@link AtomicLong} holding the
+ * time at which it will be full again (the generic cell rate algorithm), so taking a token is one compare-and-set
+ * and allocates nothing; buckets are only created for clients not seen before. Buckets live in a
+ * {@link ConcurrentHashMap}, whose reads take no lock and whose writes lock a single bin.
+ * <p>
+ * A bucket that has been full for the idle timeout is forgotten, which loses nothing, since a new bucket starts
+ * full. Once the max number of clients is reached, idle buckets are swept out, at most once per sweep interval;
+ * if there are still too many, the fullest bucket among a small sample is dropped. A request racing with the
+ * removal of its bucket may be counted against the removed one, which at worst lets through one more request.
+ */
+public class ClientRateLimiter {
+    private static final int EVICTION_SAMPLE = 8;
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long idleNanos;
+    private final int maxClients;
+    private final ConcurrentHashMap<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private volatile long nextSweepAt;
+
+    /**
+     * Constructor for the ClientRateLimiter.
+     *
+     * @param capacity   how many requests a client can make in a burst
+     * @param perSecond  how many requests per second a client can keep making
+     * @param maxClients the max number of clients tracked
+     * @param idleNanos  how long after its bucket fills up again a client is forgotten, in nanoseconds
+     * @param now        the current time, in nanoseconds
+     */
+    public ClientRateLimiter(int capacity, double perSecond, int maxClients, long idleNanos, long now) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / perSecond));
+        this.burstNanos = intervalNanos * (capacity - 1);
+        this.idleNanos = idleNanos;
+        this.maxClients = maxClients;
+        this.nextSweepAt = now;
+    }
+
+    /**
+     * Takes a token from the bucket of a client.
+     *
+     * @param client the key of the client; it must have value equality
+     * @param now    the current time, in nanoseconds
+     * @return 0 if the request is allowed, or else how long until the bucket has a token, in nanoseconds
+     */
+    public long tryAcquire(Object client, long now) {
+        AtomicLong bucket = buckets.get(client);
+        if (bucket == null) {
+            bucket = register(client, now);
+        }
+        while (true) {
+            long fullAt = bucket.get();
+            long from = fullAt - now > 0 ? fullAt : now;
+            long wait = from - burstNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, from + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @return the number of clients tracked
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong register(Object client, long now) {
+        if (buckets.size() >= maxClients || now - nextSweepAt >= 0) {
+            makeRoom(now);
+        }
+        return buckets.computeIfAbsent(client, key -> new AtomicLong(now));
+    }
+
+    private void makeRoom(long now) {
+        if (now - nextSweepAt >= 0) {
+            nextSweepAt = now + SWEEP_INTERVAL_NANOS;
+            buckets.values().removeIf(bucket -> now - bucket.get() >= idleNanos);
+        }
+        if (buckets.size() < maxClients) {
+            return;
+        }
+        Object victim = null;
+        long fullest = Long.MAX_VALUE;
+        Iterator<Map.Entry<Object, AtomicLong>> sample = buckets.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE && sample.hasNext(); i++) {
+            Map.Entry<Object, AtomicLong> candidate = sample.next();
+            long fullAt = candidate.getValue().get() - now;
+            if (fullAt < fullest) {
+                fullest = fullAt;
+                victim = candidate.getKey();
+            }
+        }
+        if (victim != null) {
+            buckets.remove(victim);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package co.com.crediya.api.config;
+
+import co.com.crediya.api.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Sheds the requests to the routes in {@link ConcurrencyLimitProperties} that exceed an
+ * {@link AdaptiveConcurrencyLimit}, answering them at once with a 503 and a {@code Retry-After} instead of letting
+ * them queue for a database connection. Reads and writes have limits of their own. A request holds its permit
+ * until its response is written, so streamed responses count for as long as they read from the database. The
+ * latency of a response that a handler marks with {@link #STREAMING_ATTRIBUTE} is not sampled, though: it grows
+ * with the size of the stream and the pace of the client, not with the load of the database, and would otherwise
+ * shrink the limit of every other request.
+ * <p>
+ * Meters: the {@code http.server.concurrency.limit} and {@code http.server.concurrency.inflight} gauges and
+ * {@code http.server.concurrency.drops}, tagged by kind, read or write.
+ */
+@Component
+@Order(ConcurrencyLimitFilter.ORDER)
+public class ConcurrencyLimitFilter implements WebFilter, MeterBinder {
+    /**
+     * Runs right after {@link RateLimitFilter}, so that the requests of clients over their rate do not take
+     * permits.
+     */
+    public static final int ORDER = RateLimitFilter.ORDER + 1;
+    /**
+     * The exchange attribute that a handler sets to {@code true} when its response is an unbounded stream.
+     */
+    public static final String STREAMING_ATTRIBUTE = ConcurrencyLimitFilter.class.getName() + ".streaming";
+
+    private static final String MENSAJE = "El servicio está saturado, intente de nuevo más tarde";
+
+    private final List<PathPattern> paths;
+    private final AdaptiveConcurrencyLimit reads;
+    private final AdaptiveConcurrencyLimit writes;
+    private final String retryAfter;
+    private final LongSupplier nanoTime;
+    private final byte[] body;
+
+    @Autowired
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper) {
+        this(properties, objectMapper, System::nanoTime);
+    }
+
+    ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper, LongSupplier nanoTime) {
+        this.paths = properties.paths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.reads = limitOf(properties.reads(), properties);
+        this.writes = limitOf(properties.writes(), properties);
+        this.retryAfter = Long.toString(Math.max(1, properties.retryAfter().plusMillis(999).toSeconds()));
+        this.nanoTime = nanoTime;
+        try {
+            this.body = objectMapper.writeValueAsBytes(ApiResponse.<Void>builder()
+                    .codigo(HttpStatus.SERVICE_UNAVAILABLE.value())
+                    .mensaje(MENSAJE)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("The load shedding response cannot be serialized", e);
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!isLimited(request)) {
+            return chain.filter(exchange);
+        }
+        AdaptiveConcurrencyLimit limit = isRead(request.getMethod()) ? reads : writes;
+        if (!limit.tryAcquire()) {
+            return serviceUnavailable(exchange);
+        }
+        long start = nanoTime.getAsLong();
+        return Mono.defer(() -> chain.filter(exchange))
+                .doFinally(signal -> limit.release(nanoTime.getAsLong() - start,
+                        signal != SignalType.CANCEL && !isStreaming(exchange)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "read", reads);
+        bind(registry, "write", writes);
+    }
+
+    private boolean isLimited(ServerHttpRequest request) {
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(request.getPath().pathWithinApplication())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStreaming(ServerWebExchange exchange) {
+        return Boolean.TRUE.equals(exchange.getAttribute(STREAMING_ATTRIBUTE));
+    }
+
+    private static boolean isRead(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    private Mono<Void> serviceUnavailable(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static AdaptiveConcurrencyLimit limitOf(ConcurrencyLimitProperties.Limit limit,
+                                                    ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimit(limit.initial(), limit.min(), limit.max(), properties.tolerance(),
+                properties.smoothing(), properties.longWindow());
+    }
+
+    private static void bind(MeterRegistry registry, String kind, AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("http.server.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("kind", kind)
+                .description("Requests that may be in flight before new ones are shed")
+                .register(registry);
+        Gauge.builder("http.server.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInflight)
+                .tag("kind", kind)
+                .description("Requests in flight")
+                .register(registry);
+        FunctionCounter.builder("http.server.concurrency.drops", limit, AdaptiveConcurrencyLimit::getDrops)
+                .tag("kind", kind)
+                .description("Requests shed for exceeding the concurrency limit")
+                .register(registry);
+    }
+}
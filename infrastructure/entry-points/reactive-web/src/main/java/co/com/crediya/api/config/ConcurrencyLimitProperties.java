@@ -0,0 +1,57 @@
+package co.com.crediya.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Adaptive limits on the requests in flight to the routes that reach the database, one for reads and one for
+ * writes, so that slow writes do not starve reads and the other way around. Requests over the limit are answered
+ * at once with a 503.
+ *
+ * @param paths      the patterns of the paths that are limited
+ * @param reads      the limit of the {@code GET} and {@code HEAD} requests
+ * @param writes     the limit of every other request
+ * @param tolerance  how much slower than the long-term average a request can be before the limits shrink, as a
+ *                   ratio
+ * @param smoothing  how much of each new estimate is applied to the limits, between 0 and 1
+ * @param longWindow the number of requests the long-term average of the latency spans
+ * @param retryAfter how long refused clients are told to wait before retrying
+ */
+@ConfigurationProperties(prefix = "routes.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        List<String> paths,
+        Limit reads,
+        Limit writes,
+        Double tolerance,
+        Double smoothing,
+        Integer longWindow,
+        Duration retryAfter) {
+
+    public ConcurrencyLimitProperties {
+        paths = paths != null ? List.copyOf(paths) : List.of();
+        reads = reads != null ? reads : new Limit(20, 4, 200);
+        writes = writes != null ? writes : new Limit(10, 2, 100);
+        tolerance = tolerance != null ? tolerance : 2.0;
+        smoothing = smoothing != null ? smoothing : 0.2;
+        longWindow = longWindow != null ? longWindow : 600;
+        retryAfter = retryAfter != null ? retryAfter : Duration.ofSeconds(1);
+    }
+
+    /**
+     * The bounds of a limit.
+     *
+     * @param initial the limit before any request has completed
+     * @param min     the lowest the limit can fall
+     * @param max     the highest the limit can grow
+     */
+    public record Limit(Integer initial, Integer min, Integer max) {
+
+        public Limit {
+            if (initial == null || min == null || max == null) {
+                throw new IllegalArgumentException("A concurrency limit needs an initial, a min and a max value");
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package co.com.crediya.api.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsWebFilter;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
@@ -13,7 +15,11 @@ import java.util.List;
 @Configuration
 public class CorsConfig {
 
+    /**
+     * Runs first, so that preflight requests are answered before authentication or rate limiting.
+     */
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     CorsWebFilter corsWebFilter(@Value("${cors.allowed-origins}") String origins) {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowCredentials(true);
@@ -0,0 +1,28 @@
+package co.com.crediya.api.config;
+
+import co.com.crediya.model.usuario.Usuario;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Adjusts how the domain models are written in responses, since the models themselves know nothing of JSON.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Keeps the password hash of a usuario out of every response, even if a read happens to load it.
+     *
+     * @return the customizer of the application ObjectMapper
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer usuarioMixInCustomizer() {
+        return builder -> builder.mixIn(Usuario.class, UsuarioMixIn.class);
+    }
+
+    @JsonIgnoreProperties(value = "passwordHash", allowSetters = true)
+    private abstract static class UsuarioMixIn {
+    }
+}
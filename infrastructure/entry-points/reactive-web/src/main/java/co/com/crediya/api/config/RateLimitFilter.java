@@ -0,0 +1,186 @@
+package co.com.crediya.api.config;
+
+import co.com.crediya.api.dto.ApiResponse;
+import co.com.crediya.model.token.TokenClaims;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the rate of the requests of every client to the routes in {@link RateLimitProperties}, so that a single
+ * client cannot take the whole database pool. A client is the usuario of the token of the request, once
+ * {@link AuthenticationFilter} has verified it, or else its API key, if it is one of the configured keys, or else
+ * its address, as found by {@link ClientAddressResolver}. None of these can be made up by the client to get a
+ * fresh bucket. A request over the limit is answered with a 429 and a {@code Retry-After}
+ * telling when the bucket of the client has a token again.
+ * <p>
+ * Meters: {@code http.server.ratelimit.rejections} and the {@code http.server.ratelimit.clients} gauge, both
+ * tagged by the method and path of the limit.
+ */
+@Component
+@Order(RateLimitFilter.ORDER)
+public class RateLimitFilter implements WebFilter, MeterBinder {
+    /**
+     * Runs right after {@link AuthenticationFilter}, so the clients of authenticated requests are their usuarios.
+     */
+    public static final int ORDER = AuthenticationFilter.ORDER + 1;
+
+    private static final String MENSAJE = "Demasiadas peticiones, intente de nuevo más tarde";
+
+    private final List<RouteLimit> limits;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final ClientAddressResolver clientAddressResolver;
+    private final LongSupplier nanoTime;
+    private final byte[] body;
+
+    @Autowired
+    public RateLimitFilter(RateLimitProperties properties, ClientAddressResolver clientAddressResolver,
+                           ObjectMapper objectMapper) {
+        this(properties, clientAddressResolver, objectMapper, System::nanoTime);
+    }
+
+    RateLimitFilter(RateLimitProperties properties, ClientAddressResolver clientAddressResolver,
+                    ObjectMapper objectMapper, LongSupplier nanoTime) {
+        long now = nanoTime.getAsLong();
+        long idleNanos = properties.idleTimeout().toNanos();
+        this.limits = properties.limits().stream()
+                .map(limit -> RouteLimit.of(limit, new ClientRateLimiter(limit.capacity(), limit.perSecond(),
+                        properties.maxClients(), idleNanos, now)))
+                .toList();
+        this.apiKeyHeader = properties.apiKeyHeader();
+        this.apiKeys = properties.apiKeys();
+        this.clientAddressResolver = clientAddressResolver;
+        this.nanoTime = nanoTime;
+        try {
+            this.body = objectMapper.writeValueAsBytes(ApiResponse.<Void>builder()
+                    .codigo(HttpStatus.TOO_MANY_REQUESTS.value())
+                    .mensaje(MENSAJE)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("The rate limit response cannot be serialized", e);
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        RouteLimit limit = limitOf(exchange.getRequest());
+        if (limit == null) {
+            return chain.filter(exchange);
+        }
+        long wait = limit.buckets().tryAcquire(clientOf(exchange), nanoTime.getAsLong());
+        if (wait <= 0) {
+            return chain.filter(exchange);
+        }
+        limit.rejections().increment();
+        return tooManyRequests(exchange, wait);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RouteLimit limit : limits) {
+            String method = limit.method() != null ? limit.method().name() : "*";
+            FunctionCounter.builder("http.server.ratelimit.rejections", limit.rejections(), LongAdder::sum)
+                    .tag("method", method)
+                    .tag("path", limit.pattern().getPatternString())
+                    .description("Requests rejected for exceeding the rate limit of their client")
+                    .register(registry);
+            Gauge.builder("http.server.ratelimit.clients", limit.buckets(), ClientRateLimiter::size)
+                    .tag("method", method)
+                    .tag("path", limit.pattern().getPatternString())
+                    .description("Clients whose bucket is tracked")
+                    .register(registry);
+        }
+    }
+
+    private RouteLimit limitOf(ServerHttpRequest request) {
+        for (RouteLimit limit : limits) {
+            if ((limit.method() == null || limit.method().equals(request.getMethod()))
+                    && limit.matches(request.getPath().pathWithinApplication())) {
+                return limit;
+            }
+        }
+        return null;
+    }
+
+    private Object clientOf(ServerWebExchange exchange) {
+        TokenClaims claims = exchange.getAttribute(AuthenticationFilter.CLAIMS_ATTRIBUTE);
+        if (claims != null && claims.getUsuarioId() != null) {
+            return claims.getUsuarioId();
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        if (!apiKeys.isEmpty()) {
+            String apiKey = request.getHeaders().getFirst(apiKeyHeader);
+            if (apiKey != null && apiKeys.contains(apiKey)) {
+                return apiKey;
+            }
+        }
+        InetAddress address = clientAddressResolver.resolve(request);
+        return address != null ? address : "";
+    }
+
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange, long waitNanos) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L)));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * A limit and the buckets of its clients. Paths are matched with the pattern of the limit, except that a
+     * pattern that is a plain path, optionally followed by {@code /**}, is matched by comparing strings, which
+     * unlike a pattern match allocates nothing. Paths with escapes or matrix variables always go through the
+     * pattern, so that they cannot slip past a limit.
+     */
+    private record RouteLimit(HttpMethod method, PathPattern pattern, String literal, boolean prefix,
+                              ClientRateLimiter buckets, LongAdder rejections) {
+
+        static RouteLimit of(RateLimitProperties.Limit limit, ClientRateLimiter buckets) {
+            PathPattern pattern = PathPatternParser.defaultInstance.parse(limit.path());
+            String path = pattern.getPatternString();
+            boolean prefix = path.endsWith("/**");
+            String literal = prefix ? path.substring(0, path.length() - 3) : path;
+            if (literal.isEmpty() || literal.chars().anyMatch(c -> "*?{}%;".indexOf(c) >= 0)) {
+                literal = null;
+            }
+            return new RouteLimit(limit.method() != null ? HttpMethod.valueOf(limit.method()) : null, pattern,
+                    literal, prefix, buckets, new LongAdder());
+        }
+
+        boolean matches(PathContainer path) {
+            String value = path.value();
+            if (literal == null || value.indexOf('%') >= 0 || value.indexOf(';') >= 0) {
+                return pattern.matches(path);
+            }
+            return prefix
+                    ? value.startsWith(literal) && (value.length() == literal.length() || value.charAt(literal.length()) == '/')
+                    : value.equals(literal);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package co.com.crediya.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Per-client rate limits of the routes. Each client gets its own bucket on every limited route: the bucket holds
+ * up to {@code capacity} requests and refills at {@code perSecond}, and a request that finds it empty is answered
+ * with a 429. Routes without a limit are not limited.
+ *
+ * @param limits       the limits, the first that matches a request applies
+ * @param maxClients   the max number of clients tracked per limit; once reached, the clients that have been idle
+ *                     the longest are forgotten, which only gives them a full bucket again
+ * @param idleTimeout  how long after its bucket fills up again a client is forgotten
+ * @param apiKeyHeader the header that identifies clients by API key when they send no token
+ * @param apiKeys      the API keys issued to clients; a key that is not one of them is ignored, so a client
+ *                     cannot get a fresh bucket by sending a new key on every request
+ */
+@ConfigurationProperties(prefix = "routes.rate-limit")
+public record RateLimitProperties(List<Limit> limits, Integer maxClients, Duration idleTimeout, String apiKeyHeader,
+                                  Set<String> apiKeys) {
+
+    public RateLimitProperties {
+        limits = limits != null ? List.copyOf(limits) : List.of();
+        maxClients = maxClients != null ? maxClients : 10_000;
+        idleTimeout = idleTimeout != null ? idleTimeout : Duration.ofMinutes(5);
+        apiKeyHeader = apiKeyHeader != null ? apiKeyHeader : "X-Api-Key";
+        apiKeys = apiKeys != null ? Set.copyOf(apiKeys) : Set.of();
+    }
+
+    /**
+     * The rate limit of a route.
+     *
+     * @param method    the HTTP method it applies to, or null for every method
+     * @param path      the pattern of the paths it applies to
+     * @param capacity  how many requests a client can make in a burst
+     * @param perSecond how many requests per second a client can keep making
+     */
+    public record Limit(String method, String path, Integer capacity, Double perSecond) {
+
+        public Limit {
+            if (path == null || capacity == null || capacity < 1 || perSecond == null || perSecond <= 0) {
+                throw new IllegalArgumentException("A rate limit needs a path, a positive capacity and a positive rate");
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package co.com.crediya.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes one structured log line per request, with its method, route, status and duration as key-value
+ * fields. Successful requests are sampled per route, as set in {@link RequestLoggingProperties}, so that busy
+ * routes do not flood the logs; requests that fail or answer with a server error are always logged.
+ */
+@Slf4j
+@Component
+@Order(RequestLogFilter.ORDER)
+public class RequestLogFilter implements WebFilter {
+    /**
+     * Runs ahead of {@link AuthenticationFilter}, so that the requests rejected with a 401, 429 or 503 before
+     * reaching a handler are logged as well.
+     */
+    public static final int ORDER = RouteLatencyFilter.ORDER - 1;
+
+    private final RequestLoggingProperties properties;
+    private final Map<String, AtomicLong> successes = new ConcurrentHashMap<>();
+
+    public RequestLogFilter(RequestLoggingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(done -> log(exchange, start, null))
+                .doOnError(error -> exchange.getResponse().beforeCommit(() -> {
+                    log(exchange, start, error);
+                    return Mono.empty();
+                }));
+    }
+
+    /**
+     * Tells whether the next successful request of a route is logged.
+     *
+     * @param route the route pattern
+     * @return true for one of every {@link RequestLoggingProperties#sampleEvery(String)} calls
+     */
+    boolean sampled(String route) {
+        int every = properties.sampleEvery(route);
+        if (every <= 1) {
+            return every == 1;
+        }
+        return successes.computeIfAbsent(route, key -> new AtomicLong()).getAndIncrement() % every == 0;
+    }
+
+    private void log(ServerWebExchange exchange, long start, Throwable error) {
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.getPatternString() : RouteLatencyFilter.UNMATCHED_ROUTE;
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        int code = status != null ? status.value() : 200;
+        boolean failed = error != null || code >= 500;
+        if (!failed && !sampled(route)) {
+            return;
+        }
+        LoggingEventBuilder event = (failed ? log.atError() : log.atInfo())
+                .addKeyValue("http.method", exchange.getRequest().getMethod().name())
+                .addKeyValue("http.route", route)
+                .addKeyValue("http.status", code)
+                .addKeyValue("duration.ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (error != null) {
+            event = event.addKeyValue("error.type", error.getClass().getName());
+        }
+        event.log(failed ? "Request failed" : "Request completed");
+    }
+}
@@ -0,0 +1,33 @@
+package co.com.crediya.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Sampling of the log lines of successful requests. Failed requests are always logged.
+ *
+ * @param sampleEvery the default sampling: one of every this many successful requests of a route is logged;
+ *                    1 logs them all and 0 none
+ * @param routes      the sampling of specific routes, by route pattern, overriding the default
+ */
+@ConfigurationProperties(prefix = "routes.logging")
+public record RequestLoggingProperties(Integer sampleEvery, Map<String, Integer> routes) {
+
+    public RequestLoggingProperties {
+        if (sampleEvery == null) {
+            sampleEvery = 100;
+        }
+        routes = routes != null ? Map.copyOf(routes) : Map.of();
+    }
+
+    /**
+     * Returns the sampling of a route.
+     *
+     * @param route the route pattern
+     * @return one of every how many successful requests of the route is logged
+     */
+    public int sampleEvery(String route) {
+        return routes.getOrDefault(route, sampleEvery);
+    }
+}
@@ -0,0 +1,27 @@
+package co.com.crediya.api.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint, at /actuator/routelatency, with the p50, p90, p99, p99.9 and max latency of every route
+ * and response status, for the last snapshot interval and since startup.
+ */
+@Component
+@Endpoint(id = "routelatency")
+public class RouteLatencyEndpoint {
+
+    private final RouteLatencyHistograms histograms;
+
+    public RouteLatencyEndpoint(RouteLatencyHistograms histograms) {
+        this.histograms = histograms;
+    }
+
+    @ReadOperation
+    public List<RouteLatencyHistograms.RouteLatencySnapshot> routes() {
+        return histograms.snapshot();
+    }
+}
@@ -0,0 +1,56 @@
+package co.com.crediya.api.config;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records the latency of every request in {@link RouteLatencyHistograms}, by the pattern of the route that
+ * handled it and the status of its response. A request that fails is recorded when the error handler commits
+ * its response, which is when its status is known. Requests that match no route share a single entry, and
+ * requests with a non-standard method share another, so unknown paths and methods cannot grow the number of
+ * histograms.
+ */
+@Component
+@Order(RouteLatencyFilter.ORDER)
+public class RouteLatencyFilter implements WebFilter {
+    /**
+     * Runs ahead of {@link AuthenticationFilter}, so that the requests rejected with a 401, 429 or 503 before
+     * reaching a handler are recorded as well, under the unmatched route.
+     */
+    public static final int ORDER = AuthenticationFilter.ORDER - 1;
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final RouteLatencyHistograms histograms;
+
+    public RouteLatencyFilter(RouteLatencyHistograms histograms) {
+        this.histograms = histograms;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(done -> record(exchange, start))
+                .doOnError(error -> exchange.getResponse().beforeCommit(() -> {
+                    record(exchange, start);
+                    return Mono.empty();
+                }));
+    }
+
+    private void record(ServerWebExchange exchange, long start) {
+        long nanos = System.nanoTime() - start;
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        histograms.record(exchange.getRequest().getMethod().name(),
+                pattern != null ? pattern.getPatternString() : UNMATCHED_ROUTE,
+                status != null ? status.value() : 200,
+                nanos);
+    }
+}
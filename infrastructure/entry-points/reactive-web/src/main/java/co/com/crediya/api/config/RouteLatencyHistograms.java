@@ -0,0 +1,233 @@
+package co.com.crediya.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps one HdrHistogram of the latency of every route and response status. Requests are recorded into a
+ * {@link Recorder}, which is wait-free, so recording never blocks the request threads. The latencies are read in
+ * interval snapshots: reading a route rotates its recorder when the snapshot interval has elapsed, so each
+ * Prometheus scrape sees the latencies of the requests since the previous interval, and the totals keep every
+ * interval since startup.
+ * <p>
+ * The histograms are found by method, then route, then status, without building a key, so recording allocates
+ * nothing once a histogram exists. Methods other than the standard ones share the {@value #OTHER_METHOD} entry, so
+ * clients cannot grow the number of histograms by sending made-up methods.
+ */
+@Component
+public class RouteLatencyHistograms implements MeterBinder {
+    /**
+     * The percentiles published for every route.
+     */
+    static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String[] QUANTILE_TAGS = {"0.5", "0.9", "0.99", "0.999"};
+
+    /**
+     * The method under which requests with a method other than the standard ones are recorded.
+     */
+    static final String OTHER_METHOD = "OTHER";
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE",
+            OTHER_METHOD};
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 999;
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+    private final List<Map<String, AtomicReferenceArray<RouteLatency>>> routesByMethod = new ArrayList<>(METHODS.length);
+    private final List<RouteLatency> latencies = new CopyOnWriteArrayList<>();
+    private final long snapshotIntervalNanos;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public RouteLatencyHistograms(@Value("${routes.latency.snapshot-interval:10s}") Duration snapshotInterval) {
+        this(snapshotInterval, System::nanoTime);
+    }
+
+    RouteLatencyHistograms(Duration snapshotInterval, LongSupplier nanoTime) {
+        this.snapshotIntervalNanos = snapshotInterval.toNanos();
+        this.nanoTime = nanoTime;
+        for (int i = 0; i < METHODS.length; i++) {
+            routesByMethod.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry target) {
+        registry.add(target);
+    }
+
+    /**
+     * Records the latency of a request.
+     *
+     * @param method the HTTP method of the request; methods other than the standard ones are recorded as
+     *               {@value #OTHER_METHOD}
+     * @param route  the pattern of the route that handled it
+     * @param status the status code of the response, clamped to 100-999
+     * @param nanos  the latency, in nanoseconds
+     */
+    public void record(String method, String route, int status, long nanos) {
+        int methodIndex = methodIndex(method);
+        Map<String, AtomicReferenceArray<RouteLatency>> routes = routesByMethod.get(methodIndex);
+        AtomicReferenceArray<RouteLatency> statuses = routes.get(route);
+        if (statuses == null) {
+            statuses = routes.computeIfAbsent(route, r -> new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 1));
+        }
+        int slot = Math.clamp(status, MIN_STATUS, MAX_STATUS) - MIN_STATUS;
+        RouteLatency latency = statuses.get(slot);
+        if (latency == null) {
+            latency = register(statuses, slot, new RouteLatency(METHODS[methodIndex], route, slot + MIN_STATUS));
+        }
+        latency.recorder.recordValue(Math.min(Math.max(nanos / 1_000, 0), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    /**
+     * Returns the latency percentiles of every route and status seen so far, ordered by route.
+     *
+     * @return the latency of each route, for the last interval and since startup
+     */
+    public List<RouteLatencySnapshot> snapshot() {
+        List<RouteLatencySnapshot> snapshots = new ArrayList<>(latencies.size());
+        latencies.forEach(latency -> snapshots.add(latency.snapshot()));
+        snapshots.sort(Comparator.comparing(RouteLatencySnapshot::route)
+                .thenComparing(RouteLatencySnapshot::method)
+                .thenComparingInt(RouteLatencySnapshot::status));
+        return snapshots;
+    }
+
+    private RouteLatency register(AtomicReferenceArray<RouteLatency> statuses, int slot, RouteLatency latency) {
+        if (!statuses.compareAndSet(slot, null, latency)) {
+            return statuses.get(slot);
+        }
+        latencies.add(latency);
+        latency.registerGauges(registry);
+        return latency;
+    }
+
+    private static int methodIndex(String method) {
+        return switch (method) {
+            case "GET" -> 0;
+            case "HEAD" -> 1;
+            case "POST" -> 2;
+            case "PUT" -> 3;
+            case "PATCH" -> 4;
+            case "DELETE" -> 5;
+            case "OPTIONS" -> 6;
+            case "TRACE" -> 7;
+            default -> METHODS.length - 1;
+        };
+    }
+
+    /**
+     * The latency of a route, in milliseconds.
+     *
+     * @param method   the HTTP method of the route
+     * @param route    the pattern of the route
+     * @param status   the status code of the responses
+     * @param interval the percentiles of the last interval
+     * @param total    the percentiles since startup
+     */
+    public record RouteLatencySnapshot(String method, String route, int status, Percentiles interval, Percentiles total) {
+    }
+
+    /**
+     * Latency percentiles, in milliseconds.
+     *
+     * @param count the number of requests
+     * @param p50   the median
+     * @param p90   the 90th percentile
+     * @param p99   the 99th percentile
+     * @param p999  the 99.9th percentile
+     * @param max   the slowest request
+     */
+    public record Percentiles(long count, double p50, double p90, double p99, double p999, double max) {
+        static Percentiles of(Histogram histogram) {
+            return new Percentiles(histogram.getTotalCount(),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[0])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[1])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[2])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[3])),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+
+    private final class RouteLatency {
+        private final String method;
+        private final String route;
+        private final int status;
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private Histogram interval = recorder.getIntervalHistogram();
+        private long rotatedAt = nanoTime.getAsLong();
+
+        private RouteLatency(String method, String route, int status) {
+            this.method = method;
+            this.route = route;
+            this.status = status;
+        }
+
+        private void registerGauges(MeterRegistry registry) {
+            Tags tags = Tags.of("method", method, "route", route, "status", Integer.toString(status));
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                double percentile = PERCENTILES[i];
+                Gauge.builder("http.server.route.latency", this, latency -> latency.intervalSeconds(percentile))
+                        .tags(tags)
+                        .tag("quantile", QUANTILE_TAGS[i])
+                        .baseUnit("seconds")
+                        .description("Latency percentile of the route over the last snapshot interval")
+                        .strongReference(true)
+                        .register(registry);
+            }
+            Gauge.builder("http.server.route.latency.max", this, latency -> latency.intervalSeconds(100.0))
+                    .tags(tags)
+                    .baseUnit("seconds")
+                    .description("Slowest request of the route over the last snapshot interval")
+                    .strongReference(true)
+                    .register(registry);
+        }
+
+        private synchronized double intervalSeconds(double percentile) {
+            rotateIfDue();
+            return interval.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+
+        private synchronized RouteLatencySnapshot snapshot() {
+            rotateIfDue();
+            return new RouteLatencySnapshot(method, route, status,
+                    Percentiles.of(interval), Percentiles.of(total));
+        }
+
+        private void rotateIfDue() {
+            long now = nanoTime.getAsLong();
+            if (now - rotatedAt >= snapshotIntervalNanos) {
+                interval = recorder.getIntervalHistogram(interval);
+                total.add(interval);
+                rotatedAt = now;
+            }
+        }
+    }
+}
@@ -1,25 +1,135 @@
 package co.com.crediya.api.config;
 
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.util.AsciiString;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerResponse;
 
+import java.util.List;
+
+/**
+ * Adds the security headers to every response. The header set is encoded once: on Reactor Netty the names and
+ * values are kept as {@link AsciiString}s and set straight on the native response headers, which Netty writes
+ * by copying their bytes instead of encoding each string again on every response.
+ * <p>
+ * Responses are not stored by the client, except the {@code GET} and {@code HEAD} responses of the routes with a
+ * cache policy in {@link CachePolicyProperties}, which get that policy as their {@code Cache-Control} instead.
+ */
 @Component
+@Order(SecurityHeadersConfig.ORDER)
 public class SecurityHeadersConfig implements WebFilter {
+    /**
+     * Runs right after CORS and ahead of every filter that can answer a request itself, such as
+     * {@link AuthenticationFilter} or {@link RateLimitFilter}, so that their responses get the headers too.
+     */
+    public static final int ORDER = RequestLogFilter.ORDER - 1;
+
+    private static final String[] NAMES = {
+            "Content-Security-Policy",
+            "Strict-Transport-Security",
+            "X-Content-Type-Options",
+            "Server",
+            "Referrer-Policy"
+    };
+    private static final String[] VALUES = {
+            "default-src 'self'; frame-ancestors 'self'; form-action 'self'",
+            "max-age=31536000;",
+            "nosniff",
+            "",
+            "strict-origin-when-cross-origin"
+    };
+    private static final AsciiString[] ASCII_NAMES = ascii(NAMES);
+    private static final AsciiString[] ASCII_VALUES = ascii(VALUES);
+    private static final CachePolicy NO_STORE = new CachePolicy(null, "no-store");
+    private static final String PRAGMA = "no-cache";
+    private static final AsciiString ASCII_PRAGMA = AsciiString.cached(PRAGMA);
+
+    private final List<CachePolicy> cachePolicies;
+
+    public SecurityHeadersConfig(CachePolicyProperties cachePolicyProperties) {
+        this.cachePolicies = cachePolicyProperties.policies().entrySet().stream()
+                .map(policy -> new CachePolicy(PathPatternParser.defaultInstance.parse(policy.getKey()),
+                        policy.getValue()))
+                .toList();
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-        HttpHeaders headers = exchange.getResponse().getHeaders();
-        headers.set("Content-Security-Policy", "default-src 'self'; frame-ancestors 'self'; form-action 'self'");
-        headers.set("Strict-Transport-Security", "max-age=31536000;");
-        headers.set("X-Content-Type-Options", "nosniff");
-        headers.set("Server", "");
-        headers.set("Cache-Control", "no-store");
-        headers.set("Pragma", "no-cache");
-        headers.set("Referrer-Policy", "strict-origin-when-cross-origin");
+        ServerHttpResponse response = exchange.getResponse();
+        CachePolicy cachePolicy = cachePolicy(exchange.getRequest());
+        HttpServerResponse nettyResponse = nettyResponse(response);
+        if (nettyResponse != null) {
+            io.netty.handler.codec.http.HttpHeaders headers = nettyResponse.responseHeaders();
+            for (int i = 0; i < ASCII_NAMES.length; i++) {
+                headers.set(ASCII_NAMES[i], ASCII_VALUES[i]);
+            }
+            headers.set(HttpHeaderNames.CACHE_CONTROL, cachePolicy.asciiValue());
+            if (cachePolicy == NO_STORE) {
+                headers.set(HttpHeaderNames.PRAGMA, ASCII_PRAGMA);
+            }
+        } else {
+            HttpHeaders headers = response.getHeaders();
+            for (int i = 0; i < NAMES.length; i++) {
+                headers.set(NAMES[i], VALUES[i]);
+            }
+            headers.set(HttpHeaders.CACHE_CONTROL, cachePolicy.value());
+            if (cachePolicy == NO_STORE) {
+                headers.set(HttpHeaders.PRAGMA, PRAGMA);
+            }
+        }
         return chain.filter(exchange);
     }
-}
\ No newline at end of file
+
+    private static HttpServerResponse nettyResponse(ServerHttpResponse response) {
+        try {
+            return ServerHttpResponseDecorator.getNativeResponse(response) instanceof HttpServerResponse nettyResponse
+                    ? nettyResponse : null;
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            // Mock and other non-server responses have no native response
+            return null;
+        }
+    }
+
+    private CachePolicy cachePolicy(ServerHttpRequest request) {
+        HttpMethod method = request.getMethod();
+        if (cachePolicies.isEmpty() || (method != HttpMethod.GET && method != HttpMethod.HEAD)) {
+            return NO_STORE;
+        }
+        for (CachePolicy cachePolicy : cachePolicies) {
+            if (cachePolicy.pattern().matches(request.getPath().pathWithinApplication())) {
+                return cachePolicy;
+            }
+        }
+        return NO_STORE;
+    }
+
+    private static AsciiString[] ascii(String[] values) {
+        AsciiString[] ascii = new AsciiString[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ascii[i] = AsciiString.cached(values[i]);
+        }
+        return ascii;
+    }
+
+    /**
+     * The {@code Cache-Control} value of the routes matching a pattern, encoded once.
+     */
+    private record CachePolicy(PathPattern pattern, String value, AsciiString asciiValue) {
+
+        private CachePolicy(PathPattern pattern, String value) {
+            this(pattern, value, AsciiString.cached(value));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package co.com.crediya.api.dto;
+
+/**
+ * Masks personal data before it is written to the logs, keeping just enough of each value to tell
+ * records apart while debugging.
+ */
+public final class PiiMask {
+    private static final String MASK = "***";
+
+    private PiiMask() {
+    }
+
+    /**
+     * Keeps the first letter of a name.
+     *
+     * @param value the name
+     * @return the masked name
+     */
+    public static String initial(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        return value.charAt(0) + MASK;
+    }
+
+    /**
+     * Keeps the first letter of the local part and the whole domain of an email.
+     *
+     * @param email the email
+     * @return the masked email
+     */
+    public static String email(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        return at > 0 ? email.charAt(0) + MASK + email.substring(at) : MASK;
+    }
+
+    /**
+     * Keeps the last digits of a document or phone number.
+     *
+     * @param value the number
+     * @param keep  how many trailing characters to keep
+     * @return the masked number
+     */
+    public static String lastDigits(String value, int keep) {
+        if (value == null) {
+            return null;
+        }
+        return value.length() > keep ? MASK + value.substring(value.length() - keep) : MASK;
+    }
+
+    /**
+     * Hides a value entirely.
+     *
+     * @param value the value
+     * @return the mask, or null when there is no value
+     */
+    public static String hidden(Object value) {
+        return value != null ? MASK : null;
+    }
+}
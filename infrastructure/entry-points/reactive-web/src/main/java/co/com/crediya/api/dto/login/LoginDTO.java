@@ -0,0 +1,31 @@
+package co.com.crediya.api.dto.login;
+
+import co.com.crediya.api.dto.PiiMask;
+import co.com.crediya.api.validator.MaxUtf8Bytes;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Data Transfer Object for the credentials of a login.
+ *
+ * @param email    the email of the user
+ * @param password the password of the user
+ */
+public record LoginDTO(
+        @NotBlank(message = "El email no puede estar vacío")
+        @Email(message = "El email no es válido")
+        String email,
+
+        @NotBlank(message = "La contraseña no puede estar vacía")
+        @MaxUtf8Bytes(value = 72, message = "La contraseña no puede ocupar más de 72 bytes")
+        String password
+) {
+    /**
+     * Describes the credentials with the email masked and without the password, so that they can be logged.
+     */
+    @Override
+    public String toString() {
+        return "LoginDTO[email=" + PiiMask.email(email)
+                + ", password=" + PiiMask.hidden(password) + "]";
+    }
+}
@@ -0,0 +1,32 @@
+package co.com.crediya.api.dto.login;
+
+import co.com.crediya.api.dto.rol.RolDTO;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for the usuario authenticated by a login and its token.
+ *
+ * @param id          the unique identifier of the user
+ * @param email       the email address of the user
+ * @param rol         the user's role
+ * @param accessToken the signed token to send as {@code Authorization: Bearer} on the next requests
+ * @param tokenType   the type of the token, always {@code Bearer}
+ * @param expiresAt   when the token expires
+ */
+public record LoginResultDTO(
+        Integer id,
+        String email,
+        RolDTO rol,
+        String accessToken,
+        String tokenType,
+        Instant expiresAt
+) {
+    /**
+     * Describes the login without its token, so that it can be logged.
+     */
+    @Override
+    public String toString() {
+        return "LoginResultDTO[id=" + id + ", rol=" + rol + ", expiresAt=" + expiresAt + "]";
+    }
+}
@@ -0,0 +1,29 @@
+package co.com.crediya.api.dto.token;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for the introspection of a token. Only an active token has claims; only an inactive one
+ * has a message.
+ *
+ * @param active    whether the token is valid and its usuario still exists
+ * @param usuarioId the ID of the usuario the token was issued to
+ * @param email     the email of the usuario
+ * @param rol       the name of the rol of the usuario when the token was issued
+ * @param issuedAt  when the token was issued
+ * @param expiresAt when the token expires
+ * @param mensaje   why the token is not active
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenIntrospectionDTO(
+        boolean active,
+        Integer usuarioId,
+        String email,
+        String rol,
+        Instant issuedAt,
+        Instant expiresAt,
+        String mensaje
+) {
+}
@@ -0,0 +1,28 @@
+package co.com.crediya.api.dto.token;
+
+import co.com.crediya.usecase.token.TokenUseCase;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a batch of tokens to introspect.
+ *
+ * @param tokens the tokens, in the order their introspections are answered
+ */
+public record TokenIntrospectionRequestDTO(
+        @NotEmpty(message = "Debe enviar al menos un token")
+        @Size(max = TokenUseCase.MAX_INTROSPECTION_BATCH,
+                message = "No se pueden consultar más de " + TokenUseCase.MAX_INTROSPECTION_BATCH + " tokens a la vez")
+        List<@NotBlank(message = "Los tokens no pueden estar vacíos") String> tokens
+) {
+    /**
+     * Describes the batch without its tokens, so that it can be logged.
+     */
+    @Override
+    public String toString() {
+        return "TokenIntrospectionRequestDTO[tokens=" + (tokens != null ? tokens.size() : 0) + "]";
+    }
+}
@@ -1,6 +1,9 @@
 package co.com.crediya.api.dto.usuario;
 
+import co.com.crediya.api.dto.PiiMask;
 import co.com.crediya.api.dto.rol.RolDTO;
+import co.com.crediya.api.validator.MaxUtf8Bytes;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 
@@ -20,6 +23,8 @@ import java.util.Date;
  * @param direccion          the user's address
  * @param salarioBase        the user's base salary
  * @param rol                the user's role
+ * @param password           the user's password, only read on signup and never written back; updates and
+ *                           imports reject it, and a usuario registered without one cannot log in
  */
 public record UsuarioDTO(
         Integer id,
@@ -58,7 +63,29 @@ public record UsuarioDTO(
 
         @NotNull(message = "El rol del usuario no puede ser nulo")
         @Valid
-        RolDTO rol
+        RolDTO rol,
+
+        @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+        @Size(min = 8, message = "La contraseña debe tener al menos 8 caracteres")
+        @MaxUtf8Bytes(value = 72, message = "La contraseña no puede ocupar más de 72 bytes")
+        String password
 ) {
+    /**
+     * Describes the usuario with its personal data masked, so that it can be logged.
+     */
+    @Override
+    public String toString() {
+        return "UsuarioDTO[id=" + id
+                + ", nombres=" + PiiMask.initial(nombres)
+                + ", apellidos=" + PiiMask.initial(apellidos)
+                + ", fechaNacimiento=" + PiiMask.hidden(fechaNacimiento)
+                + ", email=" + PiiMask.email(email)
+                + ", documentoIdentidad=" + PiiMask.lastDigits(documentoIdentidad, 4)
+                + ", telefono=" + PiiMask.lastDigits(telefono, 4)
+                + ", direccion=" + PiiMask.hidden(direccion)
+                + ", salarioBase=" + PiiMask.hidden(salarioBase)
+                + ", rol=" + rol
+                + ", password=" + PiiMask.hidden(password) + "]";
+    }
 }
 
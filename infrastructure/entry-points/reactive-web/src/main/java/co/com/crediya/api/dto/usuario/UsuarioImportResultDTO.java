@@ -0,0 +1,23 @@
+package co.com.crediya.api.dto.usuario;
+
+import co.com.crediya.model.usuario.UsuarioImportStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the outcome of importing one record.
+ *
+ * @param fila    the 1-based position of the record in the request body
+ * @param estado  the outcome of the import
+ * @param id      the ID of the registered usuario, when it was created
+ * @param errores the validation errors by field, when the record is invalid
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UsuarioImportResultDTO(
+        long fila,
+        UsuarioImportStatus estado,
+        Integer id,
+        Map<String, String> errores
+) {
+}
@@ -0,0 +1,17 @@
+package co.com.crediya.api.dto.usuario;
+
+import co.com.crediya.model.usuario.Usuario;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of usuarios.
+ *
+ * @param usuarios  the usuarios of the page
+ * @param siguiente the opaque cursor to request the next page, or null when this is the last one
+ */
+public record UsuarioPageDTO(
+        List<Usuario> usuarios,
+        String siguiente
+) {
+}
@@ -0,0 +1,78 @@
+package co.com.crediya.api.handler;
+
+import co.com.crediya.api.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes an {@link ApiResponse} whose body is a list as a stream of JSON chunks, so the elements are
+ * serialized and sent as they arrive instead of being collected in memory first.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiResponseStreamWriter {
+    private static final byte[] BODY_START = ",\"body\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BODY_END = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams an API response with the given elements as its body.
+     * Nothing is written until the first element (or completion) arrives, so an error raised before that
+     * still reaches the error handlers instead of producing a truncated body.
+     *
+     * @param codigo        the status code to report in the envelope
+     * @param mensaje       the message to report in the envelope
+     * @param elements      the elements of the body
+     * @param bufferFactory the factory for the response buffers
+     * @param <T>           the type of the elements
+     * @return the serialized response as a stream of buffers
+     */
+    public <T> Flux<DataBuffer> writeList(int codigo, String mensaje, Flux<T> elements, DataBufferFactory bufferFactory) {
+        byte[] prefix = envelopePrefix(codigo, mensaje);
+        Flux<DataBuffer> body = elements
+                .index()
+                .map(indexed -> {
+                    byte[] json = toJson(indexed.getT2());
+                    DataBuffer buffer = bufferFactory.allocateBuffer(json.length + 1);
+                    if (indexed.getT1() > 0) {
+                        buffer.write((byte) ',');
+                    }
+                    return buffer.write(json);
+                });
+        return body.switchOnFirst((first, flux) -> first.isOnError()
+                ? flux
+                : Flux.concat(
+                        Mono.fromSupplier(() -> bufferFactory.wrap(prefix)),
+                        flux,
+                        Mono.fromSupplier(() -> bufferFactory.wrap(BODY_END))));
+    }
+
+    private byte[] envelopePrefix(int codigo, String mensaje) {
+        byte[] envelope = toJson(ApiResponse.builder()
+                .codigo(codigo)
+                .mensaje(mensaje)
+                .build());
+        byte[] prefix = new byte[envelope.length - 1 + BODY_START.length];
+        System.arraycopy(envelope, 0, prefix, 0, envelope.length - 1);
+        System.arraycopy(BODY_START, 0, prefix, envelope.length - 1, BODY_START.length);
+        return prefix;
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,21 +1,30 @@
 package co.com.crediya.api.handler;
 
 import co.com.crediya.api.dto.ApiResponse;
+import co.com.crediya.model.exceptions.CapacityExceededException;
 import co.com.crediya.model.exceptions.DocumentoIdentidadAlreadyExistsException;
 import co.com.crediya.model.exceptions.DomainException;
 import co.com.crediya.model.exceptions.EmailAlreadyExistsException;
 import co.com.crediya.model.exceptions.InfrastructureException;
+import co.com.crediya.model.exceptions.InvalidCredentialsException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -23,7 +32,15 @@ import java.util.stream.Collectors;
  * This class handles exceptions thrown by the application and returns a standardized API response.
  */
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    /**
+     * The max number of distinct error messages whose response is kept.
+     */
+    private static final int MAX_CACHED_ERRORS = 32;
+
+    private final ObjectMapper objectMapper;
+    private final Map<CachedError, Mono<ResponseEntity<byte[]>>> cachedErrors = new ConcurrentHashMap<>();
 
     /**
      * Handles validation exceptions for request bodies.
@@ -72,19 +89,30 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles the specific domain exception for when an email already exists.
+     * Handles malformed request input such as invalid query parameters.
      *
      * @param ex the exception
-     * @return a Mono containing the server response with a 409 status code
+     * @return a Mono containing the server response with a 400 status code
      */
-    @ExceptionHandler(EmailAlreadyExistsException.class)
-    public Mono<ResponseEntity<ApiResponse<Void>>> handleEmailAlreadyExistsException(EmailAlreadyExistsException ex) {
+    @ExceptionHandler(ServerWebInputException.class)
+    public Mono<ResponseEntity<ApiResponse<Void>>> handleServerWebInputException(ServerWebInputException ex) {
         ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
-                .codigo(HttpStatus.CONFLICT.value())
-                .mensaje(ex.getMessage())
+                .codigo(HttpStatus.BAD_REQUEST.value())
+                .mensaje(ex.getReason())
                 .build();
 
-        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(apiResponse));
+        return Mono.just(ResponseEntity.badRequest().body(apiResponse));
+    }
+
+    /**
+     * Handles the specific domain exception for when an email already exists.
+     *
+     * @param ex the exception
+     * @return a Mono containing the server response with a 409 status code
+     */
+    @ExceptionHandler(EmailAlreadyExistsException.class)
+    public Mono<ResponseEntity<byte[]>> handleEmailAlreadyExistsException(EmailAlreadyExistsException ex) {
+        return cached(HttpStatus.CONFLICT, ex.getMessage());
     }
 
     /**
@@ -94,13 +122,19 @@ public class GlobalExceptionHandler {
      * @return a Mono containing the server response with a 409 status code
      */
     @ExceptionHandler(DocumentoIdentidadAlreadyExistsException.class)
-    public Mono<ResponseEntity<ApiResponse<Void>>> handleDocumentoIdentidadAlreadyExistsException(DocumentoIdentidadAlreadyExistsException ex) {
-        ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
-                .codigo(HttpStatus.CONFLICT.value())
-                .mensaje(ex.getMessage())
-                .build();
+    public Mono<ResponseEntity<byte[]>> handleDocumentoIdentidadAlreadyExistsException(DocumentoIdentidadAlreadyExistsException ex) {
+        return cached(HttpStatus.CONFLICT, ex.getMessage());
+    }
 
-        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(apiResponse));
+    /**
+     * Handles the specific domain exception for when the credentials of a login are wrong.
+     *
+     * @param ex the exception
+     * @return a Mono containing the server response with a 401 status code
+     */
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public Mono<ResponseEntity<byte[]>> handleInvalidCredentialsException(InvalidCredentialsException ex) {
+        return cached(HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
     /**
@@ -119,6 +153,26 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.badRequest().body(apiResponse));
     }
 
+    /**
+     * Handles the infrastructure exception for when a bounded resource is saturated, telling the client when to
+     * retry.
+     *
+     * @param ex the exception
+     * @return a Mono containing the server response with a 503 status code and a Retry-After header
+     */
+    @ExceptionHandler(CapacityExceededException.class)
+    public Mono<ResponseEntity<ApiResponse<Void>>> handleCapacityExceededException(CapacityExceededException ex) {
+        ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
+                .codigo(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .mensaje(ex.getMessage())
+                .build();
+        long retryAfterSeconds = Math.max(1, ex.getRetryAfter().plusMillis(999).toSeconds());
+
+        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(apiResponse));
+    }
+
     /**
      * Handles generic infrastructure exceptions as a fallback.
      *
@@ -134,5 +188,40 @@ public class GlobalExceptionHandler {
 
         return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(apiResponse));
     }
-}
 
+    /**
+     * Answers an error with a response built once per status and message. Conflicts and failed logins are raised
+     * with a few fixed messages, so the body of each one is serialized the first time it is seen and the same
+     * response is reused afterwards, which keeps a flood of duplicated signups or wrong passwords from allocating
+     * a new envelope and JSON body per request.
+     */
+    private Mono<ResponseEntity<byte[]>> cached(HttpStatus status, String mensaje) {
+        CachedError key = new CachedError(status, mensaje);
+        Mono<ResponseEntity<byte[]>> response = cachedErrors.get(key);
+        if (response != null) {
+            return response;
+        }
+        response = errorResponse(status, mensaje);
+        if (cachedErrors.size() < MAX_CACHED_ERRORS) {
+            cachedErrors.putIfAbsent(key, response);
+        }
+        return response;
+    }
+
+    private Mono<ResponseEntity<byte[]>> errorResponse(HttpStatus status, String mensaje) {
+        ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
+                .codigo(status.value())
+                .mensaje(mensaje)
+                .build();
+        try {
+            return Mono.just(ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(objectMapper.writeValueAsBytes(apiResponse)));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+
+    private record CachedError(HttpStatus status, String mensaje) {
+    }
+}
@@ -0,0 +1,52 @@
+package co.com.crediya.api.handler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times how long each request holds a pooled connection for its transaction. A transaction takes its
+ * connection when it begins and gives it back when it commits or rolls back, so the time from subscribing to
+ * a transactional step until it terminates is the time the connection is unavailable to other requests.
+ */
+@Component
+public class TransactionHoldMeter implements MeterBinder {
+
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public void bindTo(MeterRegistry target) {
+        registry.add(target);
+    }
+
+    /**
+     * Records the hold time of a transactional step under the given operation.
+     *
+     * @param operation   the name of the operation, used as the tag of the timer
+     * @param transaction the step wrapped in its transaction
+     * @param <T>         the type of the result
+     * @return the timed step
+     */
+    public <T> Mono<T> time(String operation, Mono<T> transaction) {
+        Timer timer = timers.computeIfAbsent(operation, this::timer);
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return transaction.doFinally(signal -> sample.stop(timer));
+        });
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("usuario.transaction.hold")
+                .tag("operation", operation)
+                .description("Time a request held a pooled connection for its transaction")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,69 @@
+package co.com.crediya.api.handler.login;
+
+import co.com.crediya.api.dto.ApiResponse;
+import co.com.crediya.api.dto.login.LoginDTO;
+import co.com.crediya.api.dto.login.LoginResultDTO;
+import co.com.crediya.api.dto.rol.RolDTO;
+import co.com.crediya.api.validator.RequestValidator;
+import co.com.crediya.model.token.AccessToken;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.usecase.login.LoginUseCase;
+import co.com.crediya.usecase.token.TokenUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Handler for login requests.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginHandler {
+    private final LoginUseCase loginUseCase;
+    private final TokenUseCase tokenUseCase;
+    private final RequestValidator requestValidator;
+
+    /**
+     * Handles the request to log in with an email and a password, answering with a signed token for the usuario.
+     * Checking the password runs on the bounded hashing pool, never on the event loop; when that pool is saturated
+     * the request is rejected with a 503.
+     *
+     * @param serverRequest the server request
+     * @return a Mono containing the server response
+     */
+    public Mono<ServerResponse> listenLogin(ServerRequest serverRequest) {
+        log.debug("Request received for listenLogin");
+
+        return serverRequest.bodyToMono(LoginDTO.class)
+                .doOnNext(dto -> log.debug("Request body: {}", dto))
+                .flatMap(requestValidator::validate)
+                .flatMap(dto -> loginUseCase.login(dto.email(), dto.password()))
+                .flatMap(usuario -> tokenUseCase.issue(usuario)
+                        .map(token -> toDTO(usuario, token)))
+                .flatMap(result -> {
+                    log.debug("Successfully logged in user with ID: {}", result.id());
+                    ApiResponse<LoginResultDTO> apiResponse = ApiResponse.<LoginResultDTO>builder()
+                            .codigo(HttpStatus.OK.value())
+                            .mensaje("Inicio de sesión exitoso")
+                            .body(result)
+                            .build();
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(apiResponse);
+                });
+    }
+
+    private static LoginResultDTO toDTO(Usuario usuario, AccessToken token) {
+        RolDTO rol = usuario.getRol() != null
+                ? new RolDTO(usuario.getRol().getId(), usuario.getRol().getNombre(), usuario.getRol().getDescripcion())
+                : null;
+        return new LoginResultDTO(usuario.getId(), usuario.getEmail(), rol, token.getValue(), "Bearer",
+                token.getExpiresAt());
+    }
+}
@@ -0,0 +1,79 @@
+package co.com.crediya.api.handler.token;
+
+import co.com.crediya.api.dto.ApiResponse;
+import co.com.crediya.api.dto.token.TokenIntrospectionDTO;
+import co.com.crediya.api.dto.token.TokenIntrospectionRequestDTO;
+import co.com.crediya.api.validator.RequestValidator;
+import co.com.crediya.model.token.TokenClaims;
+import co.com.crediya.model.token.TokenIntrospection;
+import co.com.crediya.usecase.token.TokenUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Handler for requests related to the tokens issued by the service.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenHandler {
+    private final TokenUseCase tokenUseCase;
+    private final RequestValidator requestValidator;
+
+    /**
+     * Handles the request for the public keys that tokens are verified with. The document only changes when the
+     * keys are rotated, so it is served as is and may be cached by clients, as set in the route cache policies.
+     *
+     * @param serverRequest the server request
+     * @return a Mono containing the server response
+     */
+    public Mono<ServerResponse> listenGetPublicKeys(ServerRequest serverRequest) {
+        return tokenUseCase.getPublicKeySet()
+                .flatMap(publicKeySet -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(publicKeySet));
+    }
+
+    /**
+     * Handles the request to introspect a batch of tokens, for services that cannot verify them locally. Every
+     * token gets its introspection, in the order they were sent; a token that is not active is not an error.
+     *
+     * @param serverRequest the server request
+     * @return a Mono containing the server response
+     */
+    public Mono<ServerResponse> listenIntrospectBatch(ServerRequest serverRequest) {
+        log.debug("Request received for listenIntrospectBatch");
+
+        return serverRequest.bodyToMono(TokenIntrospectionRequestDTO.class)
+                .doOnNext(dto -> log.debug("Request body: {}", dto))
+                .flatMap(requestValidator::validate)
+                .flatMap(dto -> tokenUseCase.introspect(dto.tokens()))
+                .flatMap(introspections -> {
+                    ApiResponse<List<TokenIntrospectionDTO>> apiResponse = ApiResponse.<List<TokenIntrospectionDTO>>builder()
+                            .codigo(HttpStatus.OK.value())
+                            .mensaje("Tokens consultados exitosamente")
+                            .body(introspections.stream().map(TokenHandler::toDTO).toList())
+                            .build();
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(apiResponse);
+                });
+    }
+
+    private static TokenIntrospectionDTO toDTO(TokenIntrospection introspection) {
+        TokenClaims claims = introspection.getClaims();
+        if (!introspection.isActive() || claims == null) {
+            return new TokenIntrospectionDTO(false, null, null, null, null, null, introspection.getMensaje());
+        }
+        return new TokenIntrospectionDTO(true, claims.getUsuarioId(), claims.getEmail(), claims.getRol(),
+                claims.getIssuedAt(), claims.getExpiresAt(), null);
+    }
+}
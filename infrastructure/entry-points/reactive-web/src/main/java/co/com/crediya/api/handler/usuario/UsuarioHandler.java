@@ -1,20 +1,48 @@
 package co.com.crediya.api.handler.usuario;
 
+import co.com.crediya.api.config.ConcurrencyLimitFilter;
 import co.com.crediya.api.dto.ApiResponse;
 import co.com.crediya.api.dto.usuario.UsuarioDTO;
+import co.com.crediya.api.dto.usuario.UsuarioImportResultDTO;
+import co.com.crediya.api.dto.usuario.UsuarioPageDTO;
+import co.com.crediya.api.handler.ApiResponseStreamWriter;
+import co.com.crediya.api.handler.TransactionHoldMeter;
+import co.com.crediya.api.mapper.usuario.UsuarioCursorMapper;
 import co.com.crediya.api.mapper.usuario.UsuarioMapper;
+import co.com.crediya.api.mapper.usuario.UsuarioPatchMapper;
 import co.com.crediya.api.validator.RequestValidator;
+import co.com.crediya.model.exceptions.DomainException;
 import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioImportStatus;
+import co.com.crediya.model.usuario.UsuarioSort;
 import co.com.crediya.usecase.usuario.UsuarioUseCase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Handler for requests related to Usuarios.
@@ -23,29 +51,57 @@ import reactor.core.publisher.Mono;
 @Component
 @RequiredArgsConstructor
 public class UsuarioHandler {
+    /**
+     * The page size used when a page is requested without a limit.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    /**
+     * The number of imported records written with a single statement.
+     */
+    public static final int IMPORT_BATCH_SIZE = 500;
+    /**
+     * The max number of import batches written at the same time by a single request.
+     */
+    public static final int IMPORT_CONCURRENCY = 2;
+    /**
+     * The media type of a JSON merge patch, as defined by RFC 7396.
+     */
+    public static final MediaType APPLICATION_MERGE_PATCH_JSON = new MediaType("application", "merge-patch+json");
+
+    private static final String REGISTRO = "registro";
+    private static final String VALOR_NO_VALIDO = "El valor no tiene el tipo esperado";
+    private static final String CUERPO_NO_VALIDO = "El cuerpo no es JSON válido a partir de este registro";
+    private static final String PASSWORD = "password";
+    private static final String PASSWORD_NO_PERMITIDA = "La contraseña solo se puede asignar al registrar un usuario";
+
     private final UsuarioUseCase usuarioUseCase;
     private final RequestValidator requestValidator;
     private final UsuarioMapper usuarioMapper;
     private final TransactionalOperator transactionalOperator;
+    private final ApiResponseStreamWriter apiResponseStreamWriter;
+    private final UsuarioCursorMapper usuarioCursorMapper;
+    private final UsuarioPatchMapper usuarioPatchMapper;
+    private final TransactionHoldMeter transactionHoldMeter;
+    private final ObjectMapper objectMapper;
 
     /**
      * Handles the request to save a new usuario.
+     * The transaction only spans the write: the body is decoded and validated, and the password hashed, before a
+     * connection is taken.
      *
      * @param serverRequest the server request
      * @return a Mono containing the server response
      */
     public Mono<ServerResponse> listenSaveUsuario(ServerRequest serverRequest) {
-        log.info("Request received for listenSaveUsuario");
+        log.debug("Request received for listenSaveUsuario");
 
-        Mono<Usuario> saveFlow = serverRequest.bodyToMono(UsuarioDTO.class)
+        return serverRequest.bodyToMono(UsuarioDTO.class)
                 .doOnNext(dto -> log.debug("Request body: {}", dto))
                 .flatMap(requestValidator::validate)
-                .map(usuarioMapper::toModel)
-                .flatMap(usuarioUseCase::saveUsuario);
-
-        return transactionalOperator.transactional(saveFlow)
+                .flatMap(dto -> usuarioUseCase.withPassword(usuarioMapper.toModel(dto), dto.password()))
+                .flatMap(usuario -> inTransaction("save", usuarioUseCase.saveUsuario(usuario)))
                 .flatMap(savedUsuario -> {
-                    log.info("Successfully saved user with ID: {}", savedUsuario.getId());
+                    log.debug("Successfully saved user with ID: {}", savedUsuario.getId());
                     ApiResponse<Usuario> apiResponse = ApiResponse.<Usuario>builder()
                             .codigo(HttpStatus.OK.value())
                             .mensaje("Usuario guardado exitosamente")
@@ -54,28 +110,71 @@ public class UsuarioHandler {
                     return ServerResponse.ok()
                             .contentType(MediaType.APPLICATION_JSON)
                             .bodyValue(apiResponse);
-                })
-                .doOnError(err -> log.error("Error processing save user request", err));
+                });
+    }
+
+    /**
+     * Handles the request to import usuarios in bulk.
+     * The body, either a JSON array or NDJSON, is decoded one record at a time and written in batches of
+     * {@link #IMPORT_BATCH_SIZE}, so memory use does not grow with the size of the import. Every record is
+     * read and validated on its own, so a record that cannot be read as a usuario is reported as invalid like any
+     * other, and so is a record with a password, since imported usuarios are stored without one; a body that stops
+     * being JSON ends the import with an invalid record at that position, after the outcomes of the records before
+     * it. The outcome of each record is streamed back in the order of the body, as
+     * NDJSON when the client accepts {@code application/x-ndjson} and as a chunked {@link ApiResponse} otherwise.
+     *
+     * @param serverRequest the server request
+     * @return a Mono containing the server response
+     */
+    public Mono<ServerResponse> listenImportUsuarios(ServerRequest serverRequest) {
+        log.debug("Request received for listenImportUsuarios");
+
+        Flux<UsuarioImportResultDTO> report = serverRequest.bodyToFlux(JsonNode.class)
+                .map(this::toImportRow)
+                .onErrorResume(UsuarioHandler::isDecodingError,
+                        e -> Mono.just(ImportRow.invalid(REGISTRO, CUERPO_NO_VALIDO)))
+                .index()
+                .buffer(IMPORT_BATCH_SIZE)
+                .flatMapSequential(this::importBatch, IMPORT_CONCURRENCY)
+                // The response is already committed when the stream fails, so the request log cannot report it
+                .doOnError(err -> !(err instanceof DomainException),
+                        err -> log.error("Error processing import users request", err));
+
+        markStreaming(serverRequest);
+        if (acceptsNdjson(serverRequest)) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(report, UsuarioImportResultDTO.class);
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromDataBuffers(apiResponseStreamWriter.writeList(
+                        HttpStatus.OK.value(),
+                        "Importación de usuarios procesada",
+                        report,
+                        serverRequest.exchange().getResponse().bufferFactory())));
     }
 
     /**
      * Handles the request to update an existing usuario.
+     * The transaction only spans the write: the body is decoded and validated before a connection is taken.
+     * A body with a password is rejected, since an update does not change it.
      *
      * @param serverRequest the server request
      * @return a Mono containing the server response
      */
     public Mono<ServerResponse> listenUpdateUsuario(ServerRequest serverRequest) {
-        log.info("Request received for listenUpdateUsuario");
+        log.debug("Request received for listenUpdateUsuario");
 
-        Mono<Usuario> updateFlow = serverRequest.bodyToMono(UsuarioDTO.class)
+        return serverRequest.bodyToMono(UsuarioDTO.class)
                 .doOnNext(dto -> log.debug("Request body: {}", dto))
                 .flatMap(requestValidator::validate)
-                .map(usuarioMapper::toModel)
-                .flatMap(usuarioUseCase::updateUsuario);
-
-        return transactionalOperator.transactional(updateFlow)
+                .flatMap(dto -> dto.password() == null
+                        ? Mono.just(usuarioMapper.toModel(dto))
+                        : Mono.error(new ServerWebInputException(PASSWORD_NO_PERMITIDA)))
+                .flatMap(usuario -> inTransaction("update", usuarioUseCase.updateUsuario(usuario)))
                 .flatMap(savedUsuario -> {
-                    log.info("Successfully updated user with ID: {}", savedUsuario.getId());
+                    log.debug("Successfully updated user with ID: {}", savedUsuario.getId());
                     ApiResponse<Usuario> apiResponse = ApiResponse.<Usuario>builder()
                             .codigo(HttpStatus.OK.value())
                             .mensaje("Usuario actualizado exitosamente")
@@ -85,56 +184,136 @@ public class UsuarioHandler {
                             .contentType(MediaType.APPLICATION_JSON)
                             .bodyValue(apiResponse);
                 })
-                .doOnError(err -> log.error("Error processing update user request", err));
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.status(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(ApiResponse.<Void>builder()
+                                .codigo(HttpStatus.NOT_FOUND.value())
+                                .mensaje("No se encontró el usuario a actualizar")
+                                .build())));
     }
 
     /**
-     * Handles the request to get all usuarios.
+     * Handles the request to change some fields of an existing usuario with a JSON merge patch.
+     * Only the fields present in the patch are validated and written; a field set to null is rejected like an
+     * empty one, since every field of a usuario is required. The write is a single statement, so it runs
+     * without an explicit transaction.
      *
      * @param serverRequest the server request
      * @return a Mono containing the server response
      */
-    public Mono<ServerResponse> listenGetAllUsuarios(ServerRequest serverRequest) {
-        log.info("Request received for listenGetAllUsuarios");
-        return usuarioUseCase.getAllUsuarios().collectList()
-                .flatMap(usuarios -> {
-                    ApiResponse<Object> apiResponse = ApiResponse.builder()
+    public Mono<ServerResponse> listenPatchUsuario(ServerRequest serverRequest) {
+        String id = serverRequest.pathVariable("id");
+        log.debug("Request received for listenPatchUsuario with ID: {}", id);
+
+        return serverRequest.bodyToMono(ObjectNode.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("El cuerpo de la petición no puede estar vacío")))
+                .flatMap(patch -> {
+                    Set<String> properties = usuarioPatchMapper.toProperties(patch);
+                    return requestValidator.validateProperties(usuarioPatchMapper.toDTO(patch), properties)
+                            .map(values -> usuarioPatchMapper.toModel(Integer.valueOf(id), properties, values));
+                })
+                .flatMap(usuarioUseCase::patchUsuario)
+                .flatMap(savedUsuario -> {
+                    log.debug("Successfully patched user with ID: {}", savedUsuario.getId());
+                    ApiResponse<Usuario> apiResponse = ApiResponse.<Usuario>builder()
                             .codigo(HttpStatus.OK.value())
-                            .mensaje("Usuarios obtenidos exitosamente")
-                            .body(usuarios)
+                            .mensaje("Usuario actualizado exitosamente")
+                            .body(savedUsuario)
                             .build();
                     return ServerResponse.ok()
                             .contentType(MediaType.APPLICATION_JSON)
                             .bodyValue(apiResponse);
-                });
+                })
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.status(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(ApiResponse.<Void>builder()
+                                .codigo(HttpStatus.NOT_FOUND.value())
+                                .mensaje("No se encontró el usuario a actualizar")
+                                .build())));
+    }
+
+    /**
+     * Handles the request to get all usuarios.
+     * When {@code after} or {@code limit} is given a single page is returned; otherwise the usuarios are
+     * streamed as they are read, as NDJSON when the client accepts {@code application/x-ndjson} and
+     * as a chunked {@link ApiResponse} otherwise.
+     *
+     * @param serverRequest the server request
+     * @return a Mono containing the server response
+     */
+    public Mono<ServerResponse> listenGetAllUsuarios(ServerRequest serverRequest) {
+        log.debug("Request received for listenGetAllUsuarios");
+        if (serverRequest.queryParam("after").isPresent() || serverRequest.queryParam("limit").isPresent()) {
+            return Mono.defer(() -> listenGetUsuariosPage(serverRequest));
+        }
+        Flux<Usuario> usuarios = usuarioUseCase.getAllUsuarios();
+        markStreaming(serverRequest);
+        if (acceptsNdjson(serverRequest)) {
+            return ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(usuarios, Usuario.class);
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromDataBuffers(apiResponseStreamWriter.writeList(
+                        HttpStatus.OK.value(),
+                        "Usuarios obtenidos exitosamente",
+                        usuarios,
+                        serverRequest.exchange().getResponse().bufferFactory())));
+    }
+
+    /**
+     * Handles the request to check whether an email or identity document is already registered.
+     * Answers 200 when it is and 404 when it is not, without a body.
+     *
+     * @param serverRequest the server request
+     * @return a Mono containing the server response
+     */
+    public Mono<ServerResponse> listenCheckUsuarioExists(ServerRequest serverRequest) {
+        log.debug("Request received for listenCheckUsuarioExists");
+        Mono<Boolean> registered = serverRequest.queryParam("email")
+                .map(usuarioUseCase::isEmailRegistered)
+                .or(() -> serverRequest.queryParam("documentoIdentidad").map(usuarioUseCase::isDocumentoIdentidadRegistered))
+                .orElseThrow(() -> new ServerWebInputException("Se requiere el parámetro 'email' o 'documentoIdentidad'"));
+        return registered.flatMap(exists -> exists
+                ? ServerResponse.ok().build()
+                : ServerResponse.notFound().build());
     }
 
     /**
      * Handles the request to get a usuario by its ID.
+     * The response carries a strong ETag built from the usuario ID and its version, read in the same statement as
+     * the usuario, so the ETag always describes the body it comes with. Only a request with If-None-Match reads
+     * the version first, so that one that still matches is answered with a 304 without loading or serializing the
+     * usuario.
      *
      * @param serverRequest the server request
      * @return a Mono containing the server response
      */
     public Mono<ServerResponse> listenGetUsuarioById(ServerRequest serverRequest) {
         String id = serverRequest.pathVariable("id");
-        log.info("Request received for listenGetUsuarioById with ID: {}", id);
-        return usuarioUseCase.getUsuarioById(Long.valueOf(id))
-                .flatMap(usuario -> {
-                    ApiResponse<Usuario> apiResponse = ApiResponse.<Usuario>builder()
-                            .codigo(HttpStatus.OK.value())
-                            .mensaje("Usuario obtenido exitosamente")
-                            .body(usuario)
-                            .build();
-                    return ServerResponse.ok()
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .bodyValue(apiResponse);
-                })
-                .switchIfEmpty(ServerResponse.status(HttpStatus.NOT_FOUND)
+        log.debug("Request received for listenGetUsuarioById with ID: {}", id);
+        Long usuarioId = Long.valueOf(id);
+        Mono<ServerResponse> usuario = Mono.defer(() -> usuarioUseCase.getVersionedUsuarioById(usuarioId))
+                .flatMap(versioned -> ServerResponse.ok()
+                        .eTag(etag(id, versioned.getVersion()))
                         .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(ApiResponse.<Void>builder()
-                                .codigo(HttpStatus.NOT_FOUND.value())
-                                .mensaje("No se encontraron datos para el ID proporcionado: " + id)
+                        .bodyValue(ApiResponse.<Usuario>builder()
+                                .codigo(HttpStatus.OK.value())
+                                .mensaje("Usuario obtenido exitosamente")
+                                .body(versioned.getUsuario())
                                 .build()));
+        Mono<ServerResponse> response = serverRequest.headers().header(HttpHeaders.IF_NONE_MATCH).isEmpty()
+                ? usuario
+                : usuarioUseCase.getUsuarioVersion(usuarioId)
+                        .flatMap(version -> serverRequest.checkNotModified(etag(id, version))
+                                .switchIfEmpty(usuario));
+        return response.switchIfEmpty(Mono.defer(() -> ServerResponse.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ApiResponse.<Void>builder()
+                        .codigo(HttpStatus.NOT_FOUND.value())
+                        .mensaje("No se encontraron datos para el ID proporcionado: " + id)
+                        .build())));
     }
 
     /**
@@ -145,8 +324,151 @@ public class UsuarioHandler {
      */
     public Mono<ServerResponse> listenDeleteUsuario(ServerRequest serverRequest) {
         String id = serverRequest.pathVariable("id");
-        log.info("Request received for listenDeleteUsuario with ID: {}", id);
+        log.debug("Request received for listenDeleteUsuario with ID: {}", id);
         return usuarioUseCase.deleteUsuario(Long.valueOf(id))
                 .then(ServerResponse.noContent().build());
     }
+
+    private Mono<ServerResponse> listenGetUsuariosPage(ServerRequest serverRequest) {
+        UsuarioCursor after = serverRequest.queryParam("after")
+                .map(usuarioCursorMapper::toCursor)
+                .orElse(null);
+        UsuarioSort sort = toSort(serverRequest.queryParam("sort").orElse(null));
+        if (after != null && sort != null && after.getSort() != sort) {
+            throw new ServerWebInputException("El cursor no corresponde al orden solicitado");
+        }
+        int limit = serverRequest.queryParam("limit")
+                .map(this::toLimit)
+                .orElse(DEFAULT_PAGE_SIZE);
+        UsuarioSort pageSort = after != null ? after.getSort() : sort != null ? sort : UsuarioSort.ID;
+
+        return usuarioUseCase.getUsuariosPage(after, limit, pageSort)
+                .flatMap(page -> {
+                    ApiResponse<UsuarioPageDTO> apiResponse = ApiResponse.<UsuarioPageDTO>builder()
+                            .codigo(HttpStatus.OK.value())
+                            .mensaje("Usuarios obtenidos exitosamente")
+                            .body(new UsuarioPageDTO(page.getUsuarios(), usuarioCursorMapper.toToken(page.getNext())))
+                            .build();
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(apiResponse);
+                });
+    }
+
+    private ImportRow toImportRow(JsonNode node) {
+        try {
+            UsuarioDTO usuario = objectMapper.treeToValue(node, UsuarioDTO.class);
+            Map<String, String> errores = requestValidator.findViolations(usuario);
+            if (usuario.password() != null) {
+                errores = new TreeMap<>(errores);
+                errores.put(PASSWORD, PASSWORD_NO_PERMITIDA);
+            }
+            return new ImportRow(usuario, errores);
+        } catch (JsonMappingException e) {
+            List<JsonMappingException.Reference> path = e.getPath();
+            String field = path.isEmpty() || path.get(0).getFieldName() == null ? REGISTRO : path.get(0).getFieldName();
+            return ImportRow.invalid(field, VALOR_NO_VALIDO);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return ImportRow.invalid(REGISTRO, VALOR_NO_VALIDO);
+        }
+    }
+
+    private Flux<UsuarioImportResultDTO> importBatch(List<Tuple2<Long, ImportRow>> rows) {
+        UsuarioImportResultDTO[] results = new UsuarioImportResultDTO[rows.size()];
+        List<Integer> positions = new ArrayList<>(rows.size());
+        List<Usuario> usuarios = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Tuple2<Long, ImportRow> row = rows.get(i);
+            Map<String, String> errores = row.getT2().errores();
+            if (errores.isEmpty()) {
+                positions.add(i);
+                usuarios.add(usuarioMapper.toModel(row.getT2().usuario()));
+            } else {
+                results[i] = new UsuarioImportResultDTO(row.getT1() + 1, UsuarioImportStatus.INVALID, null, errores);
+            }
+        }
+
+        if (usuarios.isEmpty()) {
+            return Flux.fromArray(results);
+        }
+        return usuarioUseCase.importUsuarios(usuarios)
+                .index()
+                .doOnNext(imported -> {
+                    int position = positions.get(imported.getT1().intValue());
+                    UsuarioImportStatus status = imported.getT2().getStatus();
+                    Integer id = status == UsuarioImportStatus.CREATED ? imported.getT2().getUsuario().getId() : null;
+                    results[position] = new UsuarioImportResultDTO(rows.get(position).getT1() + 1, status, id, null);
+                })
+                .thenMany(Flux.defer(() -> Flux.fromArray(results)));
+    }
+
+    /**
+     * Tells whether an error of the body stream comes from decoding it, however the codec or the server request
+     * wrapped the {@link DecodingException}.
+     */
+    private static boolean isDecodingError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DecodingException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private UsuarioSort toSort(String sort) {
+        if (sort == null) {
+            return null;
+        }
+        return switch (sort) {
+            case "id" -> UsuarioSort.ID;
+            case "dateCreated" -> UsuarioSort.DATE_CREATED;
+            default -> throw new ServerWebInputException("El orden debe ser 'id' o 'dateCreated'");
+        };
+    }
+
+    private int toLimit(String limit) {
+        try {
+            int value = Integer.parseInt(limit);
+            if (value < 1 || value > UsuarioUseCase.MAX_PAGE_SIZE) {
+                throw new ServerWebInputException("El límite debe estar entre 1 y " + UsuarioUseCase.MAX_PAGE_SIZE);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("El límite debe ser un número entero");
+        }
+    }
+
+    /**
+     * Runs a persistence step in its own transaction, timing how long it holds its connection.
+     */
+    private <T> Mono<T> inTransaction(String operation, Mono<T> persistence) {
+        return transactionHoldMeter.time(operation, transactionalOperator.transactional(persistence));
+    }
+
+    /**
+     * Keeps the latency of a streamed response out of the samples of the concurrency limit, since it depends on the
+     * size of the stream rather than on the load of the database.
+     */
+    private static void markStreaming(ServerRequest serverRequest) {
+        serverRequest.attributes().put(ConcurrencyLimitFilter.STREAMING_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    private static String etag(String id, String version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    private boolean acceptsNdjson(ServerRequest serverRequest) {
+        return serverRequest.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+    /**
+     * A record of an import, with the usuario read from it and its validation errors by field.
+     */
+    private record ImportRow(UsuarioDTO usuario, Map<String, String> errores) {
+
+        static ImportRow invalid(String field, String mensaje) {
+            return new ImportRow(null, Map.of(field, mensaje));
+        }
+    }
 }
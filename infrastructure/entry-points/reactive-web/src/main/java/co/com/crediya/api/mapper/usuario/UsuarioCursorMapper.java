@@ -0,0 +1,66 @@
+package co.com.crediya.api.mapper.usuario;
+
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioSort;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Mapper for converting between UsuarioCursor and the opaque cursor strings exposed by the API. A cursor by
+ * creation date of a usuario without one carries an empty date.
+ */
+@Component
+public class UsuarioCursorMapper {
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Converts a cursor to its opaque string form.
+     *
+     * @param cursor the cursor to convert
+     * @return the opaque cursor, or null if there is no cursor
+     */
+    public String toToken(UsuarioCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.getSort().name() + SEPARATOR + cursor.getId()
+                + (cursor.getSort() == UsuarioSort.DATE_CREATED ? SEPARATOR + dateOf(cursor) : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Converts an opaque cursor string back to a cursor.
+     *
+     * @param token the opaque cursor
+     * @return the decoded cursor
+     * @throws ServerWebInputException if the token was not produced by {@link #toToken(UsuarioCursor)}
+     */
+    public UsuarioCursor toCursor(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(Pattern.quote(SEPARATOR), -1);
+            UsuarioSort sort = UsuarioSort.valueOf(parts[0]);
+            int expectedParts = sort == UsuarioSort.DATE_CREATED ? 3 : 2;
+            if (parts.length != expectedParts) {
+                throw new ServerWebInputException("El cursor no es válido");
+            }
+            return UsuarioCursor.builder()
+                    .sort(sort)
+                    .id(Integer.valueOf(parts[1]))
+                    .dateCreated(sort == UsuarioSort.DATE_CREATED && !parts[2].isEmpty() ? LocalDateTime.parse(parts[2]) : null)
+                    .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ServerWebInputException("El cursor no es válido");
+        }
+    }
+
+    private static String dateOf(UsuarioCursor cursor) {
+        return cursor.getDateCreated() != null ? cursor.getDateCreated().toString() : "";
+    }
+}
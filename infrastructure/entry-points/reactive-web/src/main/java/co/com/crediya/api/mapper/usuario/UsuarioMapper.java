@@ -56,7 +56,8 @@ public class UsuarioMapper {
                 usuario.getTelefono(),
                 usuario.getDireccion(),
                 usuario.getSalarioBase(),
-                toDTO(usuario.getRol())
+                toDTO(usuario.getRol()),
+                null
         );
     }
 
@@ -0,0 +1,88 @@
+package co.com.crediya.api.mapper.usuario;
+
+import co.com.crediya.api.dto.usuario.UsuarioDTO;
+import co.com.crediya.model.usuario.UsuarioField;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper for converting a JSON merge patch of a usuario into a UsuarioPatch.
+ */
+@Component
+@RequiredArgsConstructor
+public class UsuarioPatchMapper {
+    private static final Map<String, UsuarioField> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("nombres", UsuarioField.NOMBRES);
+        FIELDS.put("apellidos", UsuarioField.APELLIDOS);
+        FIELDS.put("fechaNacimiento", UsuarioField.FECHA_NACIMIENTO);
+        FIELDS.put("email", UsuarioField.EMAIL);
+        FIELDS.put("documentoIdentidad", UsuarioField.DOCUMENTO_IDENTIDAD);
+        FIELDS.put("telefono", UsuarioField.TELEFONO);
+        FIELDS.put("direccion", UsuarioField.DIRECCION);
+        FIELDS.put("salarioBase", UsuarioField.SALARIO_BASE);
+        FIELDS.put("rol", UsuarioField.ROL);
+    }
+
+    private final ObjectMapper objectMapper;
+    private final UsuarioMapper usuarioMapper;
+
+    /**
+     * Gets the names of the UsuarioDTO properties that a merge patch changes. Members that are not a
+     * changeable property, such as the ID, are ignored.
+     *
+     * @param patch the merge patch
+     * @return the names of the changed properties
+     */
+    public Set<String> toProperties(ObjectNode patch) {
+        return patch.properties().stream()
+                .map(Map.Entry::getKey)
+                .filter(FIELDS::containsKey)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Reads the values of a merge patch. Properties that the patch does not change are null.
+     *
+     * @param patch the merge patch
+     * @return a UsuarioDTO with the values of the patch
+     * @throws ServerWebInputException if a value does not have the type of its property
+     */
+    public UsuarioDTO toDTO(ObjectNode patch) {
+        try {
+            return objectMapper.treeToValue(patch, UsuarioDTO.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new ServerWebInputException("El cuerpo de la petición no es válido", null, e);
+        }
+    }
+
+    /**
+     * Converts the changed properties of a usuario and their values into a UsuarioPatch.
+     *
+     * @param id         the ID of the usuario to change
+     * @param properties the names of the changed properties, as given by {@link #toProperties(ObjectNode)}
+     * @param values     the values of the patch, as given by {@link #toDTO(ObjectNode)}
+     * @return the converted UsuarioPatch
+     */
+    public UsuarioPatch toModel(Integer id, Set<String> properties, UsuarioDTO values) {
+        Set<UsuarioField> fields = EnumSet.noneOf(UsuarioField.class);
+        properties.forEach(property -> fields.add(FIELDS.get(property)));
+        return UsuarioPatch.builder()
+                .id(id)
+                .fields(fields)
+                .changes(usuarioMapper.toModel(values))
+                .build();
+    }
+}
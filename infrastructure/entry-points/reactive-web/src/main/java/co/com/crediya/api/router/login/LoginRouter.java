@@ -0,0 +1,54 @@
+package co.com.crediya.api.router.login;
+
+import co.com.crediya.api.dto.login.LoginDTO;
+import co.com.crediya.api.handler.login.LoginHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.RouterOperation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Router for the login endpoint.
+ */
+@Configuration
+@Tag(name = "Login", description = "Autenticación de usuarios")
+public class LoginRouter {
+    private static final String BASE_URL = "/api/v1/login";
+
+    /**
+     * Route for logging in with an email and a password.
+     *
+     * @param loginHandler the handler for the request
+     * @return a RouterFunction
+     */
+    @Bean
+    @RouterOperation(path = BASE_URL, produces = {
+            "application/json"}, method = RequestMethod.POST, beanClass = LoginHandler.class, beanMethod = "listenLogin",
+            operation = @Operation(operationId = "listenLogin",
+                    summary = "Iniciar sesión",
+                    description = "Verifica el email y la contraseña de un usuario. La respuesta no indica si el email está registrado.",
+                    requestBody = @RequestBody(required = true, description = "Credenciales del usuario", content = @Content(schema = @Schema(implementation = LoginDTO.class))),
+                    responses = {
+                            @ApiResponse(responseCode = "200", description = "Inicio de sesión exitoso", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+                            @ApiResponse(responseCode = "400", description = "Solicitud inválida", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+                            @ApiResponse(responseCode = "401", description = "Credenciales inválidas", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+                            @ApiResponse(responseCode = "503", description = "Servicio de autenticación saturado, reintentar después del tiempo indicado en Retry-After", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+                    }
+            ))
+    public RouterFunction<ServerResponse> loginRoute(LoginHandler loginHandler) {
+        return route(POST(BASE_URL).and(accept(APPLICATION_JSON)), loginHandler::listenLogin);
+    }
+}
@@ -2,9 +2,11 @@ package co.com.crediya.api.router.rol;
 
 import co.com.crediya.api.handler.usuario.UsuarioHandler;
 import co.com.crediya.api.dto.usuario.UsuarioDTO;
+import co.com.crediya.api.dto.usuario.UsuarioImportResultDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
+import static co.com.crediya.api.handler.usuario.UsuarioHandler.APPLICATION_MERGE_PATCH_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.web.reactive.function.server.RequestPredicates.*;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
@@ -51,6 +54,27 @@ public class UsuarioRouter {
         return route(POST(BASE_URL).and(accept(APPLICATION_JSON)), usuarioHandler::listenSaveUsuario);
     }
 
+    /**
+     * Route for importing usuarios in bulk.
+     *
+     * @param usuarioHandler the handler for the request
+     * @return a RouterFunction
+     */
+    @Bean
+    @RouterOperation(path = BASE_URL + "/importaciones", produces = {
+            "application/json", "application/x-ndjson"}, method = RequestMethod.POST, beanClass = UsuarioHandler.class, beanMethod = "listenImportUsuarios",
+            operation = @Operation(operationId = "listenImportUsuarios",
+                    summary = "Importar usuarios de forma masiva",
+                    description = "Registra los usuarios enviados como arreglo JSON o como NDJSON (un usuario por línea). Cada registro se valida por separado y la respuesta indica, en el mismo orden, si fue creado, si su correo o documento ya estaban registrados o si es inválido. Con Accept: application/x-ndjson se envía un resultado por línea.",
+                    requestBody = @RequestBody(required = true, description = "Usuarios a importar", content = @Content(array = @ArraySchema(schema = @Schema(implementation = UsuarioDTO.class)))),
+                    responses = {
+                            @ApiResponse(responseCode = "200", description = "Importación procesada", content = @Content(array = @ArraySchema(schema = @Schema(implementation = UsuarioImportResultDTO.class))))
+                    }
+            ))
+    public RouterFunction<ServerResponse> importUsuariosRoute(UsuarioHandler usuarioHandler) {
+        return route(POST(BASE_URL + "/importaciones"), usuarioHandler::listenImportUsuarios);
+    }
+
     /**
      * Route for updating an existing usuario.
      *
@@ -66,13 +90,42 @@ public class UsuarioRouter {
                     requestBody = @RequestBody(required = true, description = "Datos del usuario a actualizar", content = @Content(schema = @Schema(implementation = UsuarioDTO.class))),
                     responses = {
                             @ApiResponse(responseCode = "200", description = "Usuario actualizado exitosamente", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
-                            @ApiResponse(responseCode = "400", description = "Solicitud inválida", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+                            @ApiResponse(responseCode = "400", description = "Solicitud inválida", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+                            @ApiResponse(responseCode = "404", description = "Usuario no encontrado", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
                     }
             ))
     public RouterFunction<ServerResponse> updateUsuarioRoute(UsuarioHandler usuarioHandler) {
         return route(PUT(BASE_URL).and(accept(APPLICATION_JSON)), usuarioHandler::listenUpdateUsuario);
     }
 
+    /**
+     * Route for changing some fields of an existing usuario with a JSON merge patch.
+     *
+     * @param usuarioHandler the handler for the request
+     * @return a RouterFunction
+     */
+    @Bean
+    @RouterOperation(path = BASE_URL + "/{id}", consumes = {"application/merge-patch+json", "application/json"}, produces = {
+            "application/json"}, method = RequestMethod.PATCH, beanClass = UsuarioHandler.class, beanMethod = "listenPatchUsuario",
+            operation = @Operation(operationId = "listenPatchUsuario",
+                    summary = "Actualizar parcialmente un usuario existente",
+                    description = "Aplica un JSON merge patch (RFC 7396): solo se validan y actualizan los campos enviados, el resto conserva su valor.",
+                    parameters = {
+                            @Parameter(in = ParameterIn.PATH, name = "id", description = "ID del usuario a actualizar", required = true, schema = @Schema(type = "integer", format = "int64"))
+                    },
+                    requestBody = @RequestBody(required = true, description = "Campos del usuario a actualizar", content = @Content(mediaType = "application/merge-patch+json", schema = @Schema(implementation = UsuarioDTO.class))),
+                    responses = {
+                            @ApiResponse(responseCode = "200", description = "Usuario actualizado exitosamente", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+                            @ApiResponse(responseCode = "400", description = "Solicitud inválida", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+                            @ApiResponse(responseCode = "404", description = "Usuario no encontrado", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+                            @ApiResponse(responseCode = "409", description = "El email o documento pertenece a otro usuario", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+                    }
+            ))
+    public RouterFunction<ServerResponse> patchUsuarioRoute(UsuarioHandler usuarioHandler) {
+        return route(PATCH(BASE_URL + "/{id}").and(contentType(APPLICATION_MERGE_PATCH_JSON, APPLICATION_JSON)),
+                usuarioHandler::listenPatchUsuario);
+    }
+
     /**
      * Route for getting a usuario by its ID.
      *
@@ -97,6 +150,32 @@ public class UsuarioRouter {
         return route(GET(BASE_URL + "/{id}"), usuarioHandler::listenGetUsuarioById);
     }
 
+    /**
+     * Route for checking whether an email or identity document is registered.
+     * Declared before the route for getting all usuarios, which would otherwise also answer HEAD requests.
+     *
+     * @param usuarioHandler the handler for the request
+     * @return a RouterFunction
+     */
+    @Bean
+    @RouterOperation(path = BASE_URL, method = RequestMethod.HEAD, beanClass = UsuarioHandler.class, beanMethod = "listenCheckUsuarioExists",
+            operation = @Operation(operationId = "listenCheckUsuarioExists",
+                    summary = "Verificar si un email o documento ya está registrado",
+                    description = "Responde 200 si existe un usuario con el email o documento indicado y 404 si no existe. No retorna cuerpo.",
+                    parameters = {
+                            @Parameter(in = ParameterIn.QUERY, name = "email", description = "Email a verificar", schema = @Schema(type = "string")),
+                            @Parameter(in = ParameterIn.QUERY, name = "documentoIdentidad", description = "Documento de identidad a verificar, si no se envía email", schema = @Schema(type = "string"))
+                    },
+                    responses = {
+                            @ApiResponse(responseCode = "200", description = "El email o documento ya está registrado"),
+                            @ApiResponse(responseCode = "400", description = "No se indicó email ni documento"),
+                            @ApiResponse(responseCode = "404", description = "El email o documento está disponible")
+                    }
+            ))
+    public RouterFunction<ServerResponse> checkUsuarioExistsRoute(UsuarioHandler usuarioHandler) {
+        return route(HEAD(BASE_URL), usuarioHandler::listenCheckUsuarioExists);
+    }
+
     /**
      * Route for getting all usuarios.
      *
@@ -105,10 +184,15 @@ public class UsuarioRouter {
      */
     @Bean
     @RouterOperation(path = BASE_URL, produces = {
-            "application/json"}, method = RequestMethod.GET, beanClass = UsuarioHandler.class, beanMethod = "listenGetAllUsuarios",
+            "application/json", "application/x-ndjson"}, method = RequestMethod.GET, beanClass = UsuarioHandler.class, beanMethod = "listenGetAllUsuarios",
             operation = @Operation(operationId = "listenGetAllUsuarios",
                     summary = "Obtener todos los usuarios",
-                    description = "Retorna una lista de todos los usuarios registrados en el sistema.",
+                    description = "Retorna todos los usuarios registrados en el sistema a medida que se leen. Con Accept: application/x-ndjson se envía un usuario por línea. Con 'after' o 'limit' retorna una sola página y el cursor de la siguiente.",
+                    parameters = {
+                            @Parameter(in = ParameterIn.QUERY, name = "after", description = "Cursor de la página a obtener, tomado del campo 'siguiente' de la respuesta anterior", schema = @Schema(type = "string")),
+                            @Parameter(in = ParameterIn.QUERY, name = "limit", description = "Cantidad máxima de usuarios por página (1 a 100)", schema = @Schema(type = "integer", defaultValue = "20")),
+                            @Parameter(in = ParameterIn.QUERY, name = "sort", description = "Orden de la página: 'id' o 'dateCreated'", schema = @Schema(type = "string", defaultValue = "id"))
+                    },
                     responses = {
                             @ApiResponse(responseCode = "200", description = "Lista de usuarios obtenida exitosamente", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
                     }
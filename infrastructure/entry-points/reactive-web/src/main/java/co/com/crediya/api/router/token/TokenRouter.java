@@ -0,0 +1,75 @@
+package co.com.crediya.api.router.token;
+
+import co.com.crediya.api.dto.token.TokenIntrospectionRequestDTO;
+import co.com.crediya.api.handler.token.TokenHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.RouterOperation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Router for the endpoints related to the tokens issued by the service.
+ */
+@Configuration
+@Tag(name = "Token", description = "Verificación de los tokens emitidos por el servicio")
+public class TokenRouter {
+    private static final String JWKS_URL = "/.well-known/jwks.json";
+    private static final String INTROSPECT_BATCH_URL = "/api/v1/tokens/introspect:batch";
+
+    /**
+     * Route for getting the public keys that tokens are verified with.
+     *
+     * @param tokenHandler the handler for the request
+     * @return a RouterFunction
+     */
+    @Bean
+    @RouterOperation(path = JWKS_URL, produces = {
+            "application/json"}, method = RequestMethod.GET, beanClass = TokenHandler.class, beanMethod = "listenGetPublicKeys",
+            operation = @Operation(operationId = "listenGetPublicKeys",
+                    summary = "Obtener las llaves públicas de los tokens",
+                    description = "Retorna el JSON Web Key Set con las llaves públicas vigentes, para verificar los tokens localmente. Si un token trae un kid desconocido, se debe volver a consultar.",
+                    responses = {
+                            @ApiResponse(responseCode = "200", description = "Llaves públicas vigentes")
+                    }
+            ))
+    public RouterFunction<ServerResponse> publicKeysRoute(TokenHandler tokenHandler) {
+        return route(GET(JWKS_URL), tokenHandler::listenGetPublicKeys);
+    }
+
+    /**
+     * Route for introspecting a batch of tokens. The caller must authenticate with a token of its own, see
+     * {@link co.com.crediya.api.config.AuthenticationProperties}.
+     *
+     * @param tokenHandler the handler for the request
+     * @return a RouterFunction
+     */
+    @Bean
+    @RouterOperation(path = INTROSPECT_BATCH_URL, produces = {
+            "application/json"}, method = RequestMethod.POST, beanClass = TokenHandler.class, beanMethod = "listenIntrospectBatch",
+            operation = @Operation(operationId = "listenIntrospectBatch",
+                    summary = "Consultar un lote de tokens",
+                    description = "Indica para cada token, en el orden enviado, si está activo y sus claims o el motivo por el que no lo está. Admite hasta 100 tokens por petición.",
+                    requestBody = @RequestBody(required = true, description = "Tokens a consultar", content = @Content(schema = @Schema(implementation = TokenIntrospectionRequestDTO.class))),
+                    responses = {
+                            @ApiResponse(responseCode = "200", description = "Tokens consultados exitosamente"),
+                            @ApiResponse(responseCode = "400", description = "Lote vacío, con tokens vacíos o con más tokens de los permitidos"),
+                            @ApiResponse(responseCode = "401", description = "Falta el token de acceso del llamador o no es válido"),
+                            @ApiResponse(responseCode = "503", description = "El servicio de autenticación está saturado")
+                    }
+            ))
+    public RouterFunction<ServerResponse> introspectBatchRoute(TokenHandler tokenHandler) {
+        return route(POST(INTROSPECT_BATCH_URL), tokenHandler::listenIntrospectBatch);
+    }
+}
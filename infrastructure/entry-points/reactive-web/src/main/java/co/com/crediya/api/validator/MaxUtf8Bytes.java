@@ -0,0 +1,32 @@
+package co.com.crediya.api.validator;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated string must not take more than the given number of bytes when encoded as UTF-8. Null values
+ * are valid.
+ */
+@Documented
+@Constraint(validatedBy = MaxUtf8BytesValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxUtf8Bytes {
+
+    /**
+     * @return the max number of bytes
+     */
+    int value();
+
+    String message() default "El valor ocupa demasiados bytes";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
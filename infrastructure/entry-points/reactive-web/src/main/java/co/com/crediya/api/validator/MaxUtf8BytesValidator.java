@@ -0,0 +1,29 @@
+package co.com.crediya.api.validator;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Validator of {@link MaxUtf8Bytes}.
+ */
+public class MaxUtf8BytesValidator implements ConstraintValidator<MaxUtf8Bytes, String> {
+    private int max;
+
+    @Override
+    public void initialize(MaxUtf8Bytes constraint) {
+        this.max = constraint.value();
+    }
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        if (value.length() > max) {
+            return false;
+        }
+        return value.length() * 3 <= max || value.getBytes(StandardCharsets.UTF_8).length <= max;
+    }
+}
@@ -7,7 +7,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * A generic request validator that uses Jakarta Bean Validation.
@@ -32,4 +36,39 @@ public class RequestValidator {
         }
         return Mono.error(new ConstraintViolationException(violations));
     }
+
+    /**
+     * Validates only some properties of a given object, ignoring the constraints of the others.
+     *
+     * @param object     the object to validate
+     * @param properties the names of the properties to validate
+     * @param <T>        the type of the object
+     * @return a Mono containing the object, or a Mono.error with a ConstraintViolationException if validation fails
+     */
+    public <T> Mono<T> validateProperties(T object, Collection<String> properties) {
+        Set<ConstraintViolation<T>> violations = new HashSet<>();
+        properties.forEach(property -> violations.addAll(validator.validateProperty(object, property)));
+        if (violations.isEmpty()) {
+            return Mono.just(object);
+        }
+        return Mono.error(new ConstraintViolationException(violations));
+    }
+
+    /**
+     * Collects the validation errors of a given object without failing.
+     *
+     * @param object the object to validate
+     * @param <T>    the type of the object
+     * @return the error messages by property path, empty if the object is valid
+     */
+    public <T> Map<String, String> findViolations(T object) {
+        Set<ConstraintViolation<T>> violations = validator.validate(object);
+        if (violations.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> errors = new TreeMap<>();
+        violations.forEach(violation -> errors.merge(violation.getPropertyPath().toString(), violation.getMessage(),
+                (first, second) -> first + "; " + second));
+        return errors;
+    }
 }
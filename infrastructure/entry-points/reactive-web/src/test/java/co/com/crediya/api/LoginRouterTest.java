@@ -0,0 +1,142 @@
+package co.com.crediya.api;
+
+import co.com.crediya.api.handler.GlobalExceptionHandler;
+import co.com.crediya.api.handler.login.LoginHandler;
+import co.com.crediya.api.router.login.LoginRouter;
+import co.com.crediya.api.validator.RequestValidator;
+import co.com.crediya.model.exceptions.CapacityExceededException;
+import co.com.crediya.model.exceptions.InvalidCredentialsException;
+import co.com.crediya.model.rol.Rol;
+import co.com.crediya.model.token.AccessToken;
+import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.usecase.login.LoginUseCase;
+import co.com.crediya.usecase.token.TokenUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ContextConfiguration(classes = {
+        LoginRouter.class,
+        LoginHandler.class,
+        GlobalExceptionHandler.class,
+        RequestValidator.class
+})
+@WebFluxTest
+class LoginRouterTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private LoginUseCase loginUseCase;
+
+    @MockitoBean
+    private TokenUseCase tokenUseCase;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToApplicationContext(context).build();
+    }
+
+    @Test
+    @DisplayName("Debe iniciar sesión con credenciales válidas y devolver un token")
+    void shouldLoginWithValidCredentials() {
+        // Arrange
+        Usuario usuario = Usuario.builder()
+                .id(1)
+                .email("jane.doe@example.com")
+                .rol(Rol.builder().id(1).nombre("CLIENTE").build())
+                .build();
+        when(loginUseCase.login("jane.doe@example.com", "secreto123")).thenReturn(Mono.just(usuario));
+        when(tokenUseCase.issue(usuario)).thenReturn(Mono.just(
+                AccessToken.builder().value("a.b.c").expiresAt(Instant.parse("2026-01-01T00:15:00Z")).build()));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", "jane.doe@example.com", "password", "secreto123"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.codigo").isEqualTo(200)
+                .jsonPath("$.body.id").isEqualTo(1)
+                .jsonPath("$.body.rol.nombre").isEqualTo("CLIENTE")
+                .jsonPath("$.body.accessToken").isEqualTo("a.b.c")
+                .jsonPath("$.body.tokenType").isEqualTo("Bearer")
+                .jsonPath("$.body.passwordHash").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Debe devolver 401 por credenciales inválidas")
+    void shouldReturnUnauthorizedForInvalidCredentials() {
+        // Arrange
+        when(loginUseCase.login("jane.doe@example.com", "incorrecta"))
+                .thenReturn(Mono.error(new InvalidCredentialsException("Credenciales inválidas")));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", "jane.doe@example.com", "password", "incorrecta"))
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody()
+                .jsonPath("$.codigo").isEqualTo(401)
+                .jsonPath("$.mensaje").isEqualTo("Credenciales inválidas");
+    }
+
+    @Test
+    @DisplayName("Debe devolver 503 con Retry-After cuando el servicio de hash está saturado")
+    void shouldReturnServiceUnavailableWhenHashingIsSaturated() {
+        // Arrange
+        when(loginUseCase.login("jane.doe@example.com", "secreto123"))
+                .thenReturn(Mono.error(new CapacityExceededException("Saturado", Duration.ofMillis(1500))));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", "jane.doe@example.com", "password", "secreto123"))
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "2")
+                .expectBody()
+                .jsonPath("$.codigo").isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("Debe devolver 400 sin verificar la contraseña si el email no es válido")
+    void shouldReturnBadRequestForInvalidEmail() {
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("email", "no-es-un-correo", "password", "secreto123"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.body.email").isEqualTo("El email no es válido");
+        verify(loginUseCase, never()).login(anyString(), anyString());
+    }
+}
@@ -0,0 +1,103 @@
+package co.com.crediya.api;
+
+import co.com.crediya.api.handler.GlobalExceptionHandler;
+import co.com.crediya.api.handler.token.TokenHandler;
+import co.com.crediya.api.router.token.TokenRouter;
+import co.com.crediya.api.validator.RequestValidator;
+import co.com.crediya.model.token.TokenClaims;
+import co.com.crediya.model.token.TokenIntrospection;
+import co.com.crediya.usecase.token.TokenUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ContextConfiguration(classes = {
+        TokenRouter.class,
+        TokenHandler.class,
+        GlobalExceptionHandler.class,
+        RequestValidator.class
+})
+@WebFluxTest
+class TokenRouterTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @MockitoBean
+    private TokenUseCase tokenUseCase;
+
+    @Test
+    @DisplayName("Debe publicar las llaves públicas de los tokens")
+    void shouldPublishPublicKeys() {
+        // Arrange
+        WebTestClient webTestClient = WebTestClient.bindToApplicationContext(context).build();
+        when(tokenUseCase.getPublicKeySet()).thenReturn(Mono.just("{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"k1\"}]}"));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/.well-known/jwks.json")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.keys[0].kid").isEqualTo("k1");
+    }
+
+    @Test
+    @DisplayName("Debe consultar un lote de tokens y responder en el orden enviado")
+    void shouldIntrospectBatch() {
+        // Arrange
+        WebTestClient webTestClient = WebTestClient.bindToApplicationContext(context).build();
+        TokenClaims claims = TokenClaims.builder().usuarioId(1).email("john.doe@example.com").rol("CLIENTE").build();
+        when(tokenUseCase.introspect(List.of("t1", "t2"))).thenReturn(Mono.just(List.of(
+                TokenIntrospection.builder().active(true).claims(claims).build(),
+                TokenIntrospection.builder().active(false).mensaje("El token expiró").build())));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/tokens/introspect:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("tokens", List.of("t1", "t2")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.body[0].active").isEqualTo(true)
+                .jsonPath("$.body[0].usuarioId").isEqualTo(1)
+                .jsonPath("$.body[0].mensaje").doesNotExist()
+                .jsonPath("$.body[1].active").isEqualTo(false)
+                .jsonPath("$.body[1].usuarioId").doesNotExist()
+                .jsonPath("$.body[1].mensaje").isEqualTo("El token expiró");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un lote con más tokens de los permitidos")
+    void shouldRejectOversizedBatch() {
+        // Arrange
+        WebTestClient webTestClient = WebTestClient.bindToApplicationContext(context).build();
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/tokens/introspect:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("tokens", Collections.nCopies(TokenUseCase.MAX_INTROSPECTION_BATCH + 1, "t")))
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(tokenUseCase, never()).introspect(anyList());
+    }
+}
@@ -1,17 +1,33 @@
 package co.com.crediya.api;
 
 import co.com.crediya.api.dto.rol.RolDTO;
+import co.com.crediya.api.config.JacksonConfig;
 import co.com.crediya.api.dto.usuario.UsuarioDTO;
+import co.com.crediya.api.handler.ApiResponseStreamWriter;
 import co.com.crediya.api.handler.GlobalExceptionHandler;
+import co.com.crediya.api.handler.TransactionHoldMeter;
 import co.com.crediya.api.handler.usuario.UsuarioHandler;
+import co.com.crediya.api.mapper.usuario.UsuarioCursorMapper;
 import co.com.crediya.api.mapper.usuario.UsuarioMapper;
+import co.com.crediya.api.mapper.usuario.UsuarioPatchMapper;
 import co.com.crediya.api.router.rol.UsuarioRouter;
 import co.com.crediya.api.validator.RequestValidator;
 import co.com.crediya.model.exceptions.DocumentoIdentidadAlreadyExistsException;
 import co.com.crediya.model.exceptions.EmailAlreadyExistsException;
 import co.com.crediya.model.rol.Rol;
 import co.com.crediya.model.usuario.Usuario;
+import co.com.crediya.model.usuario.UsuarioCursor;
+import co.com.crediya.model.usuario.UsuarioField;
+import co.com.crediya.model.usuario.UsuarioImportResult;
+import co.com.crediya.model.usuario.UsuarioImportStatus;
+import co.com.crediya.model.usuario.UsuarioPage;
+import co.com.crediya.model.usuario.UsuarioPatch;
+import co.com.crediya.model.usuario.UsuarioSort;
+import co.com.crediya.model.usuario.VersionedUsuario;
 import co.com.crediya.usecase.usuario.UsuarioUseCase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -26,20 +43,34 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ContextConfiguration(classes = {
         UsuarioRouter.class,
+        JacksonConfig.class,
         UsuarioHandler.class,
         GlobalExceptionHandler.class,
+        ApiResponseStreamWriter.class,
+        TransactionHoldMeter.class,
         UsuarioMapper.class,
+        UsuarioCursorMapper.class,
+        UsuarioPatchMapper.class,
         RequestValidator.class
 })
 @WebFluxTest
@@ -48,6 +79,9 @@ class UsuarioRouterTest {
     @Autowired
     private ApplicationContext context;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private WebTestClient webTestClient;
 
     @MockitoBean
@@ -74,7 +108,8 @@ class UsuarioRouterTest {
                 "3109876543",
                 "Calle Falsa 123",
                 new BigDecimal("6000000"),
-                rolDTO
+                rolDTO,
+                null
         );
 
         validUsuario = Usuario.builder()
@@ -91,6 +126,7 @@ class UsuarioRouterTest {
                 .build();
 
         when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(usuarioUseCase.withPassword(any(Usuario.class), any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
     }
 
     @Nested
@@ -116,11 +152,61 @@ class UsuarioRouterTest {
                     .jsonPath("$.body.nombres").isEqualTo(validUsuario.getNombres());
         }
 
+        @Test
+        @DisplayName("Debe guardar el hash de la contraseña sin devolverlo")
+        void shouldSaveHashedPasswordWithoutReturningIt() {
+            // Arrange
+            String body = """
+                    {"nombres": "Jane", "apellidos": "Doe", "fechaNacimiento": "1995-05-10", "email": "jane.doe@example.com",
+                     "documentoIdentidad": "987654321", "telefono": "3109876543", "direccion": "Calle Falsa 123",
+                     "salarioBase": 6000000, "rol": {"id": 1}, "password": "secreto123"}
+                    """;
+            when(usuarioUseCase.withPassword(any(Usuario.class), eq("secreto123")))
+                    .thenAnswer(invocation -> Mono.just(invocation.<Usuario>getArgument(0).toBuilder().passwordHash("$2a$10$hash").build()));
+            when(usuarioUseCase.saveUsuario(any(Usuario.class)))
+                    .thenAnswer(invocation -> Mono.just(invocation.<Usuario>getArgument(0).toBuilder().id(1).build()));
+
+            // Act & Assert
+            webTestClient.post()
+                    .uri("/api/v1/usuarios")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.body.id").isEqualTo(1)
+                    .jsonPath("$.body.passwordHash").doesNotExist()
+                    .jsonPath("$.body.password").doesNotExist();
+            verify(usuarioUseCase).saveUsuario(argThat(usuario -> "$2a$10$hash".equals(usuario.getPasswordHash())));
+        }
+
+        @Test
+        @DisplayName("Debe devolver 400 por contraseña demasiado larga")
+        void shouldReturnBadRequestForPasswordTooLong() {
+            // Arrange
+            String body = """
+                    {"nombres": "Jane", "apellidos": "Doe", "fechaNacimiento": "1995-05-10", "email": "jane.doe@example.com",
+                     "documentoIdentidad": "987654321", "telefono": "3109876543", "direccion": "Calle Falsa 123",
+                     "salarioBase": 6000000, "rol": {"id": 1}, "password": "%s"}
+                    """.formatted("ñ".repeat(40));
+
+            // Act & Assert
+            webTestClient.post()
+                    .uri("/api/v1/usuarios")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.body.password").isEqualTo("La contraseña no puede ocupar más de 72 bytes");
+            verify(usuarioUseCase, never()).withPassword(any(Usuario.class), any());
+        }
+
         @Test
         @DisplayName("Debe devolver 400 por nombre inválido")
         void shouldReturnBadRequestForInvalidNombres() {
             // Arrange
-            UsuarioDTO invalidDto = new UsuarioDTO(null, "Jane123", "Doe", validUsuarioDTO.fechaNacimiento(), validUsuarioDTO.email(), validUsuarioDTO.documentoIdentidad(), validUsuarioDTO.telefono(), "Calle Falsa 123", validUsuarioDTO.salarioBase(), validUsuarioDTO.rol());
+            UsuarioDTO invalidDto = new UsuarioDTO(null, "Jane123", "Doe", validUsuarioDTO.fechaNacimiento(), validUsuarioDTO.email(), validUsuarioDTO.documentoIdentidad(), validUsuarioDTO.telefono(), "Calle Falsa 123", validUsuarioDTO.salarioBase(), validUsuarioDTO.rol(), null);
 
             // Act & Assert
             webTestClient.post()
@@ -133,6 +219,7 @@ class UsuarioRouterTest {
                     .jsonPath("$.codigo").isEqualTo(400)
                     .jsonPath("$.mensaje").isEqualTo("Error de validación de infraestructura")
                     .jsonPath("$.body.nombres").isEqualTo("Los nombres solo deben contener letras y espacios");
+            verify(transactionalOperator, never()).transactional(any(Mono.class));
         }
 
         @Test
@@ -174,6 +261,176 @@ class UsuarioRouterTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/usuarios/importaciones")
+    class ImportUsuarios {
+        @Test
+        @DisplayName("Debe reportar el resultado de cada registro en el orden recibido")
+        void shouldReportEveryRecordInOrder() {
+            // Arrange
+            UsuarioDTO duplicated = new UsuarioDTO(null, "John", "Doe", validUsuarioDTO.fechaNacimiento(), "john.doe@example.com", "123456789", validUsuarioDTO.telefono(), "Calle Falsa 123", validUsuarioDTO.salarioBase(), validUsuarioDTO.rol(), null);
+            UsuarioDTO invalid = new UsuarioDTO(null, "Jane123", "Doe", validUsuarioDTO.fechaNacimiento(), "otro@example.com", "555555555", validUsuarioDTO.telefono(), "Calle Falsa 123", validUsuarioDTO.salarioBase(), validUsuarioDTO.rol(), null);
+            when(usuarioUseCase.importUsuarios(anyList())).thenAnswer(invocation -> {
+                List<Usuario> usuarios = invocation.getArgument(0);
+                return Flux.just(
+                        new UsuarioImportResult(UsuarioImportStatus.CREATED, validUsuario),
+                        new UsuarioImportResult(UsuarioImportStatus.DUPLICATE_EMAIL, usuarios.get(1)));
+            });
+
+            // Act & Assert
+            webTestClient.post()
+                    .uri("/api/v1/usuarios/importaciones")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(List.of(validUsuarioDTO, invalid, duplicated))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.codigo").isEqualTo(200)
+                    .jsonPath("$.mensaje").isEqualTo("Importación de usuarios procesada")
+                    .jsonPath("$.body.length()").isEqualTo(3)
+                    .jsonPath("$.body[0].fila").isEqualTo(1)
+                    .jsonPath("$.body[0].estado").isEqualTo("CREATED")
+                    .jsonPath("$.body[0].id").isEqualTo(validUsuario.getId())
+                    .jsonPath("$.body[1].fila").isEqualTo(2)
+                    .jsonPath("$.body[1].estado").isEqualTo("INVALID")
+                    .jsonPath("$.body[1].errores.nombres").isEqualTo("Los nombres solo deben contener letras y espacios")
+                    .jsonPath("$.body[2].fila").isEqualTo(3)
+                    .jsonPath("$.body[2].estado").isEqualTo("DUPLICATE_EMAIL")
+                    .jsonPath("$.body[2].id").doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Debe leer y responder NDJSON cuando el cliente lo acepta")
+        void shouldImportNdjson() {
+            // Arrange
+            when(usuarioUseCase.importUsuarios(anyList()))
+                    .thenReturn(Flux.just(new UsuarioImportResult(UsuarioImportStatus.DUPLICATE_DOCUMENTO_IDENTIDAD, validUsuario)));
+
+            // Act
+            Flux<String> lines = webTestClient.post()
+                    .uri("/api/v1/usuarios/importaciones")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .body(Flux.just(validUsuarioDTO), UsuarioDTO.class)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                    .returnResult(String.class)
+                    .getResponseBody();
+
+            // Assert
+            StepVerifier.create(lines)
+                    .expectNext("{\"fila\":1,\"estado\":\"DUPLICATE_DOCUMENTO_IDENTIDAD\"}")
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Debe reportar como inválido un registro que no se puede leer sin descartar los demás")
+        void shouldReportUnreadableRecordAsInvalid() throws JsonProcessingException {
+            // Arrange
+            when(usuarioUseCase.importUsuarios(anyList()))
+                    .thenReturn(Flux.just(new UsuarioImportResult(UsuarioImportStatus.CREATED, validUsuario)));
+            String body = "[{\"salarioBase\":\"no-es-un-número\"}, 5, " + objectMapper.writeValueAsString(validUsuarioDTO) + ", {\"nombres\":";
+
+            // Act & Assert
+            webTestClient.post()
+                    .uri("/api/v1/usuarios/importaciones")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.body.length()").isEqualTo(4)
+                    .jsonPath("$.body[0].estado").isEqualTo("INVALID")
+                    .jsonPath("$.body[0].errores.salarioBase").isEqualTo("El valor no tiene el tipo esperado")
+                    .jsonPath("$.body[1].estado").isEqualTo("INVALID")
+                    .jsonPath("$.body[1].errores.registro").isEqualTo("El valor no tiene el tipo esperado")
+                    .jsonPath("$.body[2].estado").isEqualTo("CREATED")
+                    .jsonPath("$.body[3].fila").isEqualTo(4)
+                    .jsonPath("$.body[3].estado").isEqualTo("INVALID")
+                    .jsonPath("$.body[3].errores.registro").isEqualTo("El cuerpo no es JSON válido a partir de este registro");
+        }
+
+        @Test
+        @DisplayName("No debe llamar al caso de uso cuando ningún registro es válido")
+        void shouldNotImportWhenEveryRecordIsInvalid() {
+            // Arrange
+            UsuarioDTO invalid = new UsuarioDTO(null, "", "Doe", validUsuarioDTO.fechaNacimiento(), "no-es-un-correo", "555555555", validUsuarioDTO.telefono(), "Calle Falsa 123", validUsuarioDTO.salarioBase(), validUsuarioDTO.rol(), null);
+
+            // Act & Assert
+            webTestClient.post()
+                    .uri("/api/v1/usuarios/importaciones")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(List.of(invalid))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.body[0].estado").isEqualTo("INVALID")
+                    .jsonPath("$.body[0].errores.email").exists()
+                    .jsonPath("$.body[0].errores.nombres").exists();
+            verify(usuarioUseCase, never()).importUsuarios(any());
+        }
+
+        @Test
+        @DisplayName("Debe reportar como inválido un registro con contraseña")
+        void shouldReportRecordWithPasswordAsInvalid() {
+            // Arrange
+            ObjectNode withPassword = objectMapper.<ObjectNode>valueToTree(validUsuarioDTO).put("password", "secreta123");
+
+            // Act & Assert
+            webTestClient.post()
+                    .uri("/api/v1/usuarios/importaciones")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(List.of(withPassword))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.body[0].estado").isEqualTo("INVALID")
+                    .jsonPath("$.body[0].errores.password").isEqualTo("La contraseña solo se puede asignar al registrar un usuario");
+            verify(usuarioUseCase, never()).importUsuarios(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("HEAD /api/v1/usuarios")
+    class HeadUsuarios {
+        @Test
+        @DisplayName("Debe devolver 200 cuando el email ya está registrado")
+        void shouldReturnOkWhenEmailIsRegistered() {
+            // Arrange
+            when(usuarioUseCase.isEmailRegistered("jane.doe@example.com")).thenReturn(Mono.just(true));
+
+            // Act & Assert
+            webTestClient.head()
+                    .uri("/api/v1/usuarios?email=jane.doe@example.com")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody().isEmpty();
+        }
+
+        @Test
+        @DisplayName("Debe devolver 404 cuando el documento está disponible")
+        void shouldReturnNotFoundWhenDocumentoIsAvailable() {
+            // Arrange
+            when(usuarioUseCase.isDocumentoIdentidadRegistered("987654321")).thenReturn(Mono.just(false));
+
+            // Act & Assert
+            webTestClient.head()
+                    .uri("/api/v1/usuarios?documentoIdentidad=987654321")
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+
+        @Test
+        @DisplayName("Debe devolver 400 cuando no se indica email ni documento")
+        void shouldReturnBadRequestWithoutParameters() {
+            webTestClient.head()
+                    .uri("/api/v1/usuarios")
+                    .exchange()
+                    .expectStatus().isBadRequest();
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/usuarios")
     class GetUsuarios {
@@ -194,16 +451,143 @@ class UsuarioRouterTest {
                     .jsonPath("$.mensaje").isEqualTo("Usuarios obtenidos exitosamente")
                     .jsonPath("$.body[0].nombres").isEqualTo(validUsuario.getNombres());
         }
+
+        @Test
+        @DisplayName("Debe devolver un cuerpo vacío con la envoltura cuando no hay usuarios")
+        void shouldGetEmptyUsuariosEnvelope() {
+            // Arrange
+            when(usuarioUseCase.getAllUsuarios()).thenReturn(Flux.empty());
+
+            // Act & Assert
+            webTestClient.get()
+                    .uri("/api/v1/usuarios")
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.codigo").isEqualTo(200)
+                    .jsonPath("$.body").isArray()
+                    .jsonPath("$.body").isEmpty();
+        }
+
+        @Test
+        @DisplayName("Debe transmitir los usuarios como NDJSON")
+        void shouldStreamUsuariosAsNdjson() {
+            // Arrange
+            Usuario otroUsuario = validUsuario.toBuilder().id(2).build();
+            when(usuarioUseCase.getAllUsuarios()).thenReturn(Flux.just(validUsuario, otroUsuario));
+
+            // Act
+            Flux<Usuario> body = webTestClient.get()
+                    .uri("/api/v1/usuarios")
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                    .returnResult(Usuario.class)
+                    .getResponseBody();
+
+            // Assert
+            StepVerifier.create(body.map(Usuario::getId))
+                    .expectNext(1, 2)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/usuarios?after=&limit=")
+    class GetUsuariosPage {
+        @Test
+        @DisplayName("Debe obtener la primera página con el cursor de la siguiente")
+        void shouldGetFirstPage() {
+            // Arrange
+            UsuarioCursor next = new UsuarioCursor(UsuarioSort.ID, 1, null);
+            when(usuarioUseCase.getUsuariosPage(isNull(), eq(1), eq(UsuarioSort.ID)))
+                    .thenReturn(Mono.just(new UsuarioPage(List.of(validUsuario), next)));
+
+            // Act & Assert
+            webTestClient.get()
+                    .uri("/api/v1/usuarios?limit=1")
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.codigo").isEqualTo(200)
+                    .jsonPath("$.body.usuarios[0].id").isEqualTo(validUsuario.getId())
+                    .jsonPath("$.body.siguiente").isEqualTo(new UsuarioCursorMapper().toToken(next));
+        }
+
+        @Test
+        @DisplayName("Debe continuar desde el cursor recibido")
+        void shouldGetPageAfterCursor() {
+            // Arrange
+            UsuarioCursor after = new UsuarioCursor(UsuarioSort.ID, 1, null);
+            when(usuarioUseCase.getUsuariosPage(eq(after), eq(20), eq(UsuarioSort.ID)))
+                    .thenReturn(Mono.just(new UsuarioPage(List.of(), null)));
+
+            // Act & Assert
+            webTestClient.get()
+                    .uri("/api/v1/usuarios?after={after}", new UsuarioCursorMapper().toToken(after))
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.body.usuarios").isEmpty()
+                    .jsonPath("$.body.siguiente").doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Debe continuar desde el cursor de un usuario sin fecha de creación")
+        void shouldGetPageAfterCursorWithoutDateCreated() {
+            // Arrange
+            UsuarioCursor after = new UsuarioCursor(UsuarioSort.DATE_CREATED, 1, null);
+            when(usuarioUseCase.getUsuariosPage(eq(after), eq(20), eq(UsuarioSort.DATE_CREATED)))
+                    .thenReturn(Mono.just(new UsuarioPage(List.of(), null)));
+
+            // Act & Assert
+            webTestClient.get()
+                    .uri("/api/v1/usuarios?after={after}", new UsuarioCursorMapper().toToken(after))
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.body.usuarios").isEmpty();
+        }
+
+        @Test
+        @DisplayName("Debe devolver 400 por cursor inválido")
+        void shouldReturnBadRequestForInvalidCursor() {
+            webTestClient.get()
+                    .uri("/api/v1/usuarios?after=no-es-un-cursor")
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.codigo").isEqualTo(400)
+                    .jsonPath("$.mensaje").isEqualTo("El cursor no es válido");
+        }
+
+        @Test
+        @DisplayName("Debe devolver 400 por límite fuera de rango")
+        void shouldReturnBadRequestForInvalidLimit() {
+            webTestClient.get()
+                    .uri("/api/v1/usuarios?limit=0")
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.codigo").isEqualTo(400);
+        }
     }
 
     @Nested
     @DisplayName("GET /api/v1/usuarios/{id}")
     class GetUsuarioById {
         @Test
-        @DisplayName("Debe obtener un usuario por su ID")
+        @DisplayName("Debe obtener un usuario por su ID con su ETag en una sola lectura")
         void shouldGetUsuarioById() {
             // Arrange
-            when(usuarioUseCase.getUsuarioById(any(Long.class))).thenReturn(Mono.just(validUsuario));
+            when(usuarioUseCase.getVersionedUsuarioById(1L)).thenReturn(Mono.just(new VersionedUsuario(validUsuario, "742.15")));
 
             // Act & Assert
             webTestClient.get()
@@ -211,17 +595,54 @@ class UsuarioRouterTest {
                     .accept(MediaType.APPLICATION_JSON)
                     .exchange()
                     .expectStatus().isOk()
+                    .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-742.15\"")
                     .expectBody()
                     .jsonPath("$.codigo").isEqualTo(200)
                     .jsonPath("$.mensaje").isEqualTo("Usuario obtenido exitosamente")
                     .jsonPath("$.body.id").isEqualTo(validUsuario.getId());
+            verify(usuarioUseCase, never()).getUsuarioVersion(any(Long.class));
+        }
+
+        @Test
+        @DisplayName("Debe devolver 304 sin cargar el usuario cuando su ETag no cambió")
+        void shouldReturnNotModifiedWithoutLoadingUsuario() {
+            // Arrange
+            when(usuarioUseCase.getUsuarioVersion(1L)).thenReturn(Mono.just("742.15"));
+
+            // Act & Assert
+            webTestClient.get()
+                    .uri("/api/v1/usuarios/1")
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"1-700.15\", \"1-742.15\"")
+                    .exchange()
+                    .expectStatus().isNotModified()
+                    .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-742.15\"")
+                    .expectBody().isEmpty();
+            verify(usuarioUseCase, never()).getVersionedUsuarioById(any(Long.class));
+        }
+
+        @Test
+        @DisplayName("Debe devolver el usuario con el ETag de la versión leída junto a él cuando su ETag cambió")
+        void shouldGetUsuarioWhenEtagChanged() {
+            // Arrange
+            when(usuarioUseCase.getUsuarioVersion(1L)).thenReturn(Mono.just("801.15"));
+            when(usuarioUseCase.getVersionedUsuarioById(1L)).thenReturn(Mono.just(new VersionedUsuario(validUsuario, "802.15")));
+
+            // Act & Assert
+            webTestClient.get()
+                    .uri("/api/v1/usuarios/1")
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"1-742.15\"")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-802.15\"")
+                    .expectBody()
+                    .jsonPath("$.body.id").isEqualTo(validUsuario.getId());
         }
 
         @Test
         @DisplayName("Debe devolver 404 si el usuario no se encuentra")
         void shouldReturnNotFoundIfUsuarioNotFound() {
             // Arrange
-            when(usuarioUseCase.getUsuarioById(any(Long.class))).thenReturn(Mono.empty());
+            when(usuarioUseCase.getVersionedUsuarioById(any(Long.class))).thenReturn(Mono.empty());
 
             // Act & Assert
             webTestClient.get()
@@ -257,6 +678,42 @@ class UsuarioRouterTest {
                     .jsonPath("$.body.id").isEqualTo(validUsuario.getId());
         }
 
+        @Test
+        @DisplayName("Debe devolver 400 si el cuerpo trae una contraseña")
+        void shouldRejectPasswordOnUpdate() {
+            // Arrange
+            ObjectNode withPassword = objectMapper.<ObjectNode>valueToTree(validUsuarioDTO).put("password", "secreta123");
+
+            // Act & Assert
+            webTestClient.put()
+                    .uri("/api/v1/usuarios")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(withPassword)
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.codigo").isEqualTo(400)
+                    .jsonPath("$.mensaje").isEqualTo("La contraseña solo se puede asignar al registrar un usuario");
+            verify(usuarioUseCase, never()).updateUsuario(any());
+        }
+
+        @Test
+        @DisplayName("Debe devolver 404 si el usuario a actualizar no existe")
+        void shouldReturnNotFoundWhenUpdatingMissingUsuario() {
+            // Arrange
+            when(usuarioUseCase.updateUsuario(any(Usuario.class))).thenReturn(Mono.empty());
+
+            // Act & Assert
+            webTestClient.put()
+                    .uri("/api/v1/usuarios")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(validUsuarioDTO)
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.codigo").isEqualTo(404);
+        }
+
         @Test
         @DisplayName("Debe devolver 409 por email existente en otro usuario")
         void shouldReturnConflictForExistingEmailInAnotherUser() {
@@ -296,6 +753,87 @@ class UsuarioRouterTest {
         }
     }
 
+    @Nested
+    @DisplayName("PATCH /api/v1/usuarios/{id}")
+    class PatchUsuario {
+
+        @Test
+        @DisplayName("Debe actualizar solo los campos enviados en el parche")
+        void shouldPatchOnlySuppliedFields() {
+            // Arrange
+            when(usuarioUseCase.patchUsuario(any(UsuarioPatch.class))).thenReturn(Mono.just(validUsuario));
+
+            // Act & Assert
+            webTestClient.patch()
+                    .uri("/api/v1/usuarios/1")
+                    .contentType(UsuarioHandler.APPLICATION_MERGE_PATCH_JSON)
+                    .bodyValue("{\"id\": 7, \"telefono\": \"3209876543\"}")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.codigo").isEqualTo(200)
+                    .jsonPath("$.mensaje").isEqualTo("Usuario actualizado exitosamente")
+                    .jsonPath("$.body.id").isEqualTo(1);
+            verify(usuarioUseCase).patchUsuario(argThat(patch -> patch.getId() == 1
+                    && patch.getFields().equals(Set.of(UsuarioField.TELEFONO))
+                    && "3209876543".equals(patch.getChanges().getTelefono())));
+            verify(transactionalOperator, never()).transactional(any(Mono.class));
+        }
+
+        @Test
+        @DisplayName("Debe devolver 400 si un campo enviado no es válido")
+        void shouldReturnBadRequestForInvalidSuppliedField() {
+            // Act & Assert
+            webTestClient.patch()
+                    .uri("/api/v1/usuarios/1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"telefono\": \"abc\", \"email\": null}")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.codigo").isEqualTo(400)
+                    .jsonPath("$.body.telefono").isEqualTo("El teléfono debe contener solo números y tener entre 7 y 15 dígitos")
+                    .jsonPath("$.body.email").isEqualTo("El email no puede estar vacío")
+                    .jsonPath("$.body.nombres").doesNotExist();
+            verify(usuarioUseCase, never()).patchUsuario(any(UsuarioPatch.class));
+        }
+
+        @Test
+        @DisplayName("Debe devolver 404 si el usuario a actualizar no existe")
+        void shouldReturnNotFoundIfUsuarioNotFound() {
+            // Arrange
+            when(usuarioUseCase.patchUsuario(any(UsuarioPatch.class))).thenReturn(Mono.empty());
+
+            // Act & Assert
+            webTestClient.patch()
+                    .uri("/api/v1/usuarios/99")
+                    .contentType(UsuarioHandler.APPLICATION_MERGE_PATCH_JSON)
+                    .bodyValue("{\"direccion\": \"Calle 2\"}")
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.mensaje").isEqualTo("No se encontró el usuario a actualizar");
+        }
+
+        @Test
+        @DisplayName("Debe devolver 409 si el nuevo email pertenece a otro usuario")
+        void shouldReturnConflictForExistingEmail() {
+            // Arrange
+            when(usuarioUseCase.patchUsuario(any(UsuarioPatch.class)))
+                    .thenReturn(Mono.error(new EmailAlreadyExistsException("El correo electrónico ya está registrado por otro usuario")));
+
+            // Act & Assert
+            webTestClient.patch()
+                    .uri("/api/v1/usuarios/1")
+                    .contentType(UsuarioHandler.APPLICATION_MERGE_PATCH_JSON)
+                    .bodyValue("{\"email\": \"john.doe@example.com\"}")
+                    .exchange()
+                    .expectStatus().isEqualTo(409)
+                    .expectBody()
+                    .jsonPath("$.mensaje").isEqualTo("El correo electrónico ya está registrado por otro usuario");
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /api/v1/usuarios/{id}")
     class DeleteUsuario {
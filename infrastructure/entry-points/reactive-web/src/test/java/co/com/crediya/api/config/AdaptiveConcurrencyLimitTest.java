@@ -0,0 +1,67 @@
+package co.com.crediya.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    @DisplayName("Debe aumentar el límite mientras la latencia se mantiene y está en uso")
+    void shouldGrowWhileLatencyHolds() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100, 2.0, 0.2, 600);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            fill(limit);
+            drain(limit, 10 * MILLI);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() > 10);
+        assertEquals(0, limit.getInflight());
+    }
+
+    @Test
+    @DisplayName("Debe reducir el límite cuando la latencia crece y rechazar el exceso")
+    void shouldShrinkWhenLatencyRisesAndShedExcess() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 2, 100, 2.0, 0.2, 600);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(10 * MILLI, true);
+        }
+        int before = limit.getLimit();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            fill(limit);
+            drain(limit, 200 * MILLI);
+        }
+        fill(limit);
+
+        // Assert
+        assertTrue(limit.getLimit() < before);
+        assertFalse(limit.tryAcquire());
+        assertEquals(limit.getLimit(), limit.getInflight());
+        assertTrue(limit.getDrops() > 0);
+    }
+
+    private static void fill(AdaptiveConcurrencyLimit limit) {
+        while (limit.tryAcquire()) {
+            // Takes every permit
+        }
+    }
+
+    private static void drain(AdaptiveConcurrencyLimit limit, long rttNanos) {
+        while (limit.getInflight() > 0) {
+            limit.release(rttNanos, true);
+        }
+    }
+}
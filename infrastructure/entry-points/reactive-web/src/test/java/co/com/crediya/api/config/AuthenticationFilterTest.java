@@ -0,0 +1,159 @@
+package co.com.crediya.api.config;
+
+import co.com.crediya.model.exceptions.CapacityExceededException;
+import co.com.crediya.model.exceptions.InvalidTokenException;
+import co.com.crediya.model.token.TokenClaims;
+import co.com.crediya.usecase.token.TokenUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+class AuthenticationFilterTest {
+
+    private final TokenUseCase tokenUseCase = Mockito.mock(TokenUseCase.class);
+    private final AuthenticationFilter filter = new AuthenticationFilter(tokenUseCase,
+            Jackson2ObjectMapperBuilder.json().build(),
+            new AuthenticationProperties(List.of("/api/v1/usuarios/{id}")));
+
+    @Test
+    @DisplayName("Debe dejar los claims del token válido en el intercambio")
+    void shouldAuthenticateValidToken() {
+        // Arrange
+        TokenClaims claims = TokenClaims.builder().usuarioId(1).rol("ADMIN").build();
+        when(tokenUseCase.verify("a.b.c")).thenReturn(Mono.just(claims));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer a.b.c"));
+        AtomicBoolean called = new AtomicBoolean();
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, ex -> {
+            called.set(true);
+            return Mono.empty();
+        })).verifyComplete();
+
+        // Assert
+        assertTrue(called.get());
+        assertSame(claims, exchange.getAttribute(AuthenticationFilter.CLAIMS_ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("Debe devolver 401 por un token inválido en una ruta protegida sin continuar la cadena")
+    void shouldRejectInvalidToken() {
+        // Arrange
+        when(tokenUseCase.verify("malo")).thenReturn(Mono.error(new InvalidTokenException("El token no es válido")));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer malo"));
+        AtomicBoolean called = new AtomicBoolean();
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, ex -> {
+            called.set(true);
+            return Mono.empty();
+        })).verifyComplete();
+
+        // Assert
+        assertFalse(called.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertEquals("Bearer error=\"invalid_token\"", exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE));
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext("{\"codigo\":401,\"mensaje\":\"El token no es válido\"}")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe ignorar un token inválido en una ruta libre y continuar sin autenticar")
+    void shouldIgnoreInvalidTokenOnUnprotectedRoute() {
+        // Arrange
+        when(tokenUseCase.verify("vencido")).thenReturn(Mono.error(new InvalidTokenException("El token expiró")));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/login")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer vencido"));
+        AtomicBoolean called = new AtomicBoolean();
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, ex -> {
+            called.set(true);
+            return Mono.empty();
+        })).verifyComplete();
+
+        // Assert
+        assertTrue(called.get());
+        assertNull(exchange.getResponse().getStatusCode());
+        assertNull(exchange.getAttribute(AuthenticationFilter.CLAIMS_ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("Debe exigir token solo en las rutas protegidas")
+    void shouldRequireTokenOnlyOnProtectedRoutes() {
+        // Arrange
+        MockServerWebExchange protegida = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios/1"));
+        MockServerWebExchange libre = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/login"));
+
+        // Act
+        StepVerifier.create(filter.filter(protegida, ex -> Mono.empty())).verifyComplete();
+        StepVerifier.create(filter.filter(libre, ex -> Mono.empty())).verifyComplete();
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, protegida.getResponse().getStatusCode());
+        assertEquals("Bearer", protegida.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE));
+        assertNull(libre.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Debe exigir token para la introspección de tokens por defecto")
+    void shouldProtectTokenIntrospectionByDefault() {
+        // Arrange
+        AuthenticationFilter defaults = new AuthenticationFilter(tokenUseCase, Jackson2ObjectMapperBuilder.json().build(),
+                new AuthenticationProperties(null));
+        MockServerWebExchange introspeccion = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/api/v1/tokens/introspect:batch"));
+        MockServerWebExchange llaves = MockServerWebExchange.from(MockServerHttpRequest.get("/.well-known/jwks.json"));
+
+        // Act
+        StepVerifier.create(defaults.filter(introspeccion, ex -> Mono.empty())).verifyComplete();
+        StepVerifier.create(defaults.filter(llaves, ex -> Mono.empty())).verifyComplete();
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, introspeccion.getResponse().getStatusCode());
+        assertNull(llaves.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Debe devolver 503 con Retry-After si la verificación de tokens está saturada")
+    void shouldShedWhenVerificationIsSaturated() {
+        // Arrange
+        when(tokenUseCase.verify("a.b.c")).thenReturn(Mono.error(
+                new CapacityExceededException("El servicio de autenticación está saturado", Duration.ofSeconds(1))));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/login")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer a.b.c"));
+        AtomicBoolean called = new AtomicBoolean();
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, ex -> {
+            called.set(true);
+            return Mono.empty();
+        })).verifyComplete();
+
+        // Assert
+        assertFalse(called.get());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals("1", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
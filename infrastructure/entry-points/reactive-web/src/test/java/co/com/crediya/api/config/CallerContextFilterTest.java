@@ -0,0 +1,65 @@
+package co.com.crediya.api.config;
+
+import co.com.crediya.model.caller.CallerContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CallerContextFilterTest {
+
+    private final CallerContextFilter filter = new CallerContextFilter(
+            new ClientAddressResolver(new ClientAddressProperties(List.of("10.0.0.0/8"))));
+
+    @Test
+    @DisplayName("Debe identificar al cliente por la dirección que reporta un proxy de confianza")
+    void shouldUseAddressForwardedByTrustedProxy() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/usuarios")
+                .header("X-Forwarded-For", "203.0.113.7")
+                .remoteAddress(new InetSocketAddress("10.0.0.2", 41000))
+                .build();
+
+        assertEquals("203.0.113.7", callerSeenDownstream(request));
+    }
+
+    @Test
+    @DisplayName("Debe ignorar X-Forwarded-For cuando la petición no viene de un proxy de confianza")
+    void shouldIgnoreForwardedForFromUntrustedClient() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/usuarios")
+                .header("X-Forwarded-For", "203.0.113.7")
+                .remoteAddress(new InetSocketAddress("198.51.100.4", 41000))
+                .build();
+
+        assertEquals("198.51.100.4", callerSeenDownstream(request));
+    }
+
+    @Test
+    @DisplayName("Debe continuar sin identificador cuando no se conoce al cliente")
+    void shouldContinueWithoutCaller() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/usuarios").build();
+
+        assertNull(callerSeenDownstream(request));
+    }
+
+    private String callerSeenDownstream(MockServerHttpRequest request) {
+        AtomicReference<String> caller = new AtomicReference<>();
+        WebFilterChain chain = exchange -> Mono.deferContextual(context -> {
+            caller.set(context.<String>getOrEmpty(CallerContext.KEY).orElse(null));
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(request), chain))
+                .verifyComplete();
+        return caller.get();
+    }
+}
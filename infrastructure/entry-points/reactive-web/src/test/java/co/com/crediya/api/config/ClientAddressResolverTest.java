@@ -0,0 +1,64 @@
+package co.com.crediya.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClientAddressResolverTest {
+
+    private final ClientAddressResolver resolver = new ClientAddressResolver(
+            new ClientAddressProperties(List.of("10.0.0.0/8", "192.0.2.10")));
+
+    @Test
+    @DisplayName("Debe tomar la primera dirección desde la derecha que no es un proxy de confianza")
+    void shouldSkipTrustedProxiesFromTheRight() {
+        // Arrange
+        MockServerHttpRequest request = MockServerHttpRequest.get("/")
+                .header("X-Forwarded-For", "198.51.100.1, 203.0.113.7, 192.0.2.10")
+                .header("X-Forwarded-For", "10.1.2.3")
+                .remoteAddress(new InetSocketAddress("10.0.0.2", 41000))
+                .build();
+
+        // Act & Assert
+        assertEquals("203.0.113.7", resolver.resolve(request).getHostAddress());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar X-Forwarded-For cuando la conexión no viene de un proxy de confianza")
+    void shouldIgnoreForwardedForFromUntrustedPeer() {
+        // Arrange
+        MockServerHttpRequest request = MockServerHttpRequest.get("/")
+                .header("X-Forwarded-For", "203.0.113.7")
+                .remoteAddress(new InetSocketAddress("198.51.100.4", 41000))
+                .build();
+
+        // Act & Assert
+        assertEquals("198.51.100.4", resolver.resolve(request).getHostAddress());
+    }
+
+    @Test
+    @DisplayName("Debe quedarse con el último proxy cuando la dirección que reporta no es válida")
+    void shouldStopAtUnparseableHop() {
+        // Arrange
+        MockServerHttpRequest request = MockServerHttpRequest.get("/")
+                .header("X-Forwarded-For", "no-es-una-ip, 10.0.0.9")
+                .remoteAddress(new InetSocketAddress("10.0.0.2", 41000))
+                .build();
+
+        // Act & Assert
+        assertEquals("10.0.0.9", resolver.resolve(request).getHostAddress());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un proxy de confianza que no es una dirección ni un bloque CIDR")
+    void shouldRejectInvalidTrustedProxy() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ClientAddressResolver(new ClientAddressProperties(List.of("proxy.local"))));
+    }
+}
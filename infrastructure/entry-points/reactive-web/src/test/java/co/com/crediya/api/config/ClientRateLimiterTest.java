@@ -0,0 +1,44 @@
+package co.com.crediya.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Debe permitir la ráfaga configurada y recargar el balde al ritmo configurado")
+    void shouldAllowBurstThenRefill() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(3, 2, 100, 60 * SECOND, 0);
+
+        // Act & Assert
+        assertEquals(0, limiter.tryAcquire("a", 0));
+        assertEquals(0, limiter.tryAcquire("a", 0));
+        assertEquals(0, limiter.tryAcquire("a", 0));
+        assertEquals(SECOND / 2, limiter.tryAcquire("a", 0));
+        assertEquals(0, limiter.tryAcquire("b", 0));
+        assertEquals(0, limiter.tryAcquire("a", SECOND / 2));
+        assertTrue(limiter.tryAcquire("a", SECOND / 2) > 0);
+    }
+
+    @Test
+    @DisplayName("Debe olvidar los clientes inactivos y no superar el máximo de clientes")
+    void shouldEvictIdleClientsAndStayBounded() {
+        // Arrange
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, 10 * SECOND, 0);
+        limiter.tryAcquire("a", 0);
+        limiter.tryAcquire("b", 0);
+
+        // Act
+        limiter.tryAcquire("c", 0);
+        limiter.tryAcquire("d", 20 * SECOND);
+
+        // Assert
+        assertEquals(1, limiter.size());
+    }
+}
@@ -0,0 +1,102 @@
+package co.com.crediya.api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(new ConcurrencyLimitProperties(
+            List.of("/api/v1/usuarios/**"),
+            new ConcurrencyLimitProperties.Limit(1, 1, 10),
+            new ConcurrencyLimitProperties.Limit(1, 1, 10),
+            null, null, null, Duration.ofMillis(1500)),
+            Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    @DisplayName("Debe responder 503 con Retry-After al superar el límite, con límites separados para lecturas y escrituras")
+    void shouldShedRequestsOverLimit() {
+        // Arrange
+        Sinks.Empty<Void> pending = Sinks.empty();
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios/1"));
+        MockServerWebExchange shed = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios"));
+        MockServerWebExchange write = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/usuarios"));
+        MockServerWebExchange otherRoute = MockServerWebExchange.from(MockServerHttpRequest.get("/.well-known/jwks.json"));
+
+        // Act
+        filter.filter(first, ex -> pending.asMono()).subscribe();
+        StepVerifier.create(filter.filter(shed, ex -> Mono.empty())).verifyComplete();
+        StepVerifier.create(filter.filter(write, ex -> Mono.empty())).verifyComplete();
+        StepVerifier.create(filter.filter(otherRoute, ex -> Mono.empty())).verifyComplete();
+        pending.tryEmitEmpty();
+        MockServerWebExchange afterRelease = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios"));
+        StepVerifier.create(filter.filter(afterRelease, ex -> Mono.empty())).verifyComplete();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, shed.getResponse().getStatusCode());
+        assertEquals("2", shed.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNull(write.getResponse().getStatusCode());
+        assertNull(otherRoute.getResponse().getStatusCode());
+        assertNull(afterRelease.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Debe mantener el permiso de las respuestas en flujo sin tomar su latencia como muestra")
+    void shouldNotSampleStreamedResponses() {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        ConcurrencyLimitFilter sampling = new ConcurrencyLimitFilter(new ConcurrencyLimitProperties(
+                List.of("/api/v1/usuarios/**"),
+                new ConcurrencyLimitProperties.Limit(10, 1, 10),
+                new ConcurrencyLimitProperties.Limit(10, 1, 10),
+                null, null, null, null),
+                Jackson2ObjectMapperBuilder.json().build(), clock::get);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sampling.bindTo(registry);
+        for (int i = 0; i < 50; i++) {
+            get(sampling, clock, Duration.ofMillis(1), false);
+        }
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            get(sampling, clock, Duration.ofSeconds(10), true);
+        }
+        double afterStreams = limit(registry);
+        get(sampling, clock, Duration.ofSeconds(10), false);
+
+        // Assert
+        assertEquals(10.0, afterStreams);
+        assertTrue(limit(registry) < 10.0);
+    }
+
+    private static void get(ConcurrencyLimitFilter filter, AtomicLong clock, Duration latency, boolean streaming) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios"));
+        StepVerifier.create(filter.filter(exchange, ex -> {
+            if (streaming) {
+                ex.getAttributes().put(ConcurrencyLimitFilter.STREAMING_ATTRIBUTE, Boolean.TRUE);
+            }
+            clock.addAndGet(latency.toNanos());
+            return Mono.empty();
+        })).verifyComplete();
+    }
+
+    private static double limit(SimpleMeterRegistry registry) {
+        return registry.get("http.server.concurrency.limit").tag("kind", "read").gauge().value();
+    }
+}
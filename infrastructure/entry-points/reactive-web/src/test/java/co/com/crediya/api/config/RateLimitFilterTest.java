@@ -0,0 +1,126 @@
+package co.com.crediya.api.config;
+
+import co.com.crediya.model.token.TokenClaims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTest {
+
+    private final RateLimitFilter filter = new RateLimitFilter(
+            new RateLimitProperties(List.of(new RateLimitProperties.Limit("POST", "/api/v1/usuarios", 2, 0.5)),
+                    100, Duration.ofMinutes(5), null, Set.of("clave-emitida")),
+            new ClientAddressResolver(new ClientAddressProperties(List.of("192.168.0.1"))),
+            Jackson2ObjectMapperBuilder.json().build(), () -> 0L);
+
+    @Test
+    @DisplayName("Debe responder 429 con Retry-After cuando el cliente agota su balde")
+    void shouldRejectClientOverLimit() {
+        // Act
+        MockServerWebExchange first = post("10.0.0.1");
+        MockServerWebExchange second = post("10.0.0.1");
+        MockServerWebExchange third = post("10.0.0.1");
+        MockServerWebExchange otherClient = post("10.0.0.2");
+        MockServerWebExchange otherRoute = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 40000)));
+        StepVerifier.create(filter.filter(otherRoute, ex -> Mono.empty())).verifyComplete();
+
+        // Assert
+        assertNull(first.getResponse().getStatusCode());
+        assertNull(second.getResponse().getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+        assertEquals("2", third.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNull(otherClient.getResponse().getStatusCode());
+        assertNull(otherRoute.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Debe limitar por usuario del token, aunque cambie la dirección del cliente")
+    void shouldLimitByTokenSubject() {
+        // Act
+        post("10.0.0.1", 7);
+        post("10.0.0.2", 7);
+        MockServerWebExchange third = post("10.0.0.3", 7);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Debe limitar por la dirección de la conexión, aunque el cliente envíe X-Forwarded-For")
+    void shouldIgnoreForwardedForOfUntrustedPeers() {
+        // Act
+        post(request("10.0.0.1").header("X-Forwarded-For", "1.1.1.1"), null);
+        post(request("10.0.0.1").header("X-Forwarded-For", "2.2.2.2"), null);
+        MockServerWebExchange third = post(request("10.0.0.1").header("X-Forwarded-For", "3.3.3.3"), null);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Debe limitar por la dirección que reporta un proxy de confianza")
+    void shouldLimitByAddressForwardedByTrustedProxy() {
+        // Act
+        post(request("192.168.0.1").header("X-Forwarded-For", "10.0.0.1"), null);
+        post(request("192.168.0.1").header("X-Forwarded-For", "10.0.0.1"), null);
+        MockServerWebExchange third = post(request("192.168.0.1").header("X-Forwarded-For", "10.0.0.1"), null);
+        MockServerWebExchange otherClient = post(request("192.168.0.1").header("X-Forwarded-For", "10.0.0.2"), null);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+        assertNull(otherClient.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Debe limitar por API key solo si es una de las configuradas")
+    void shouldLimitByConfiguredApiKeysOnly() {
+        // Act
+        post(request("10.0.0.1").header("X-Api-Key", "clave-emitida"), null);
+        post(request("10.0.0.2").header("X-Api-Key", "clave-emitida"), null);
+        MockServerWebExchange third = post(request("10.0.0.3").header("X-Api-Key", "clave-emitida"), null);
+        post(request("10.0.0.4").header("X-Api-Key", "inventada-1"), null);
+        post(request("10.0.0.4").header("X-Api-Key", "inventada-2"), null);
+        MockServerWebExchange invented = post(request("10.0.0.4").header("X-Api-Key", "inventada-3"), null);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, invented.getResponse().getStatusCode());
+    }
+
+    private MockServerWebExchange post(String address) {
+        return post(address, null);
+    }
+
+    private MockServerWebExchange post(String address, Integer usuarioId) {
+        return post(request(address), usuarioId);
+    }
+
+    private MockServerHttpRequest.BodyBuilder request(String address) {
+        return MockServerHttpRequest.post("/api/v1/usuarios").remoteAddress(new InetSocketAddress(address, 40000));
+    }
+
+    private MockServerWebExchange post(MockServerHttpRequest.BodyBuilder request, Integer usuarioId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        if (usuarioId != null) {
+            exchange.getAttributes().put(AuthenticationFilter.CLAIMS_ATTRIBUTE,
+                    TokenClaims.builder().usuarioId(usuarioId).build());
+        }
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())).verifyComplete();
+        return exchange;
+    }
+}
@@ -0,0 +1,72 @@
+package co.com.crediya.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestLogFilterTest {
+
+    @Test
+    @DisplayName("Debe registrar una de cada N peticiones exitosas de cada ruta")
+    void shouldSampleEveryNthSuccess() {
+        // Arrange
+        RequestLogFilter filter = new RequestLogFilter(new RequestLoggingProperties(3, null));
+
+        // Act
+        boolean[] sampled = new boolean[7];
+        IntStream.range(0, sampled.length).forEach(i -> sampled[i] = filter.sampled("/api/v1/usuarios/{id}"));
+
+        // Assert
+        assertArrayEquals(new boolean[]{true, false, false, true, false, false, true}, sampled);
+        assertTrue(filter.sampled("/api/v1/usuarios"));
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el muestreo configurado para una ruta sobre el general")
+    void shouldUseRouteSampling() {
+        // Arrange
+        RequestLogFilter filter = new RequestLogFilter(new RequestLoggingProperties(100,
+                Map.of("/api/v1/usuarios", 1, "/api/v1/usuarios/{id}", 0)));
+
+        // Act & Assert
+        assertTrue(filter.sampled("/api/v1/usuarios"));
+        assertTrue(filter.sampled("/api/v1/usuarios"));
+        assertFalse(filter.sampled("/api/v1/usuarios/{id}"));
+    }
+
+    @Test
+    @DisplayName("Debe muestrear una de cada cien peticiones exitosas cuando no se configura")
+    void shouldDefaultSampling() {
+        // Act
+        RequestLoggingProperties properties = new RequestLoggingProperties(null, null);
+
+        // Assert
+        assertEquals(100, properties.sampleEvery("/api/v1/usuarios"));
+    }
+
+    @Test
+    @DisplayName("Debe continuar la cadena tanto si la petición termina bien como si falla")
+    void shouldPassThroughSignals() {
+        // Arrange
+        RequestLogFilter filter = new RequestLogFilter(new RequestLoggingProperties(1, null));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios"));
+
+        // Act & Assert
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty()))
+                .verifyComplete();
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.error(new IllegalStateException("fallo"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+}
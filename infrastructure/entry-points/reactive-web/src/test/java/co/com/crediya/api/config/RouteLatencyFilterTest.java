@@ -0,0 +1,80 @@
+package co.com.crediya.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RouteLatencyFilterTest {
+
+    private final RouteLatencyHistograms histograms = mock(RouteLatencyHistograms.class);
+    private final RouteLatencyFilter filter = new RouteLatencyFilter(histograms);
+
+    @Test
+    @DisplayName("Debe registrar la latencia por patrón de ruta y estado de la respuesta")
+    void shouldRecordByRoutePattern() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios/7"));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, ex -> {
+                    ex.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                            PathPatternParser.defaultInstance.parse("/api/v1/usuarios/{id}"));
+                    ex.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+                    return Mono.delay(Duration.ofMillis(5)).then();
+                }))
+                .verifyComplete();
+
+        // Assert
+        verify(histograms).record(eq("GET"), eq("/api/v1/usuarios/{id}"), eq(404), anyLong());
+    }
+
+    @Test
+    @DisplayName("Debe agrupar las peticiones sin ruta en una sola entrada")
+    void shouldGroupUnmatchedRequests() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/wp-admin/login.php"));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty()))
+                .verifyComplete();
+
+        // Assert
+        verify(histograms).record(eq("GET"), eq(RouteLatencyFilter.UNMATCHED_ROUTE), eq(200), anyLong());
+    }
+
+    @Test
+    @DisplayName("Debe registrar una petición fallida con el estado que le asigna el manejador de errores")
+    void shouldRecordFailedRequestOnCommit() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.put("/api/v1/usuarios"));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, ex -> {
+                    ex.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                            PathPatternParser.defaultInstance.parse("/api/v1/usuarios"));
+                    return Mono.error(new IllegalStateException("fallo"));
+                }))
+                .expectError(IllegalStateException.class)
+                .verify();
+        verify(histograms, never()).record(eq("PUT"), eq("/api/v1/usuarios"), eq(500), anyLong());
+        exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+        StepVerifier.create(exchange.getResponse().setComplete()).verifyComplete();
+
+        // Assert
+        verify(histograms).record(eq("PUT"), eq("/api/v1/usuarios"), eq(500), anyLong());
+    }
+}
@@ -0,0 +1,96 @@
+package co.com.crediya.api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteLatencyHistogramsTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final RouteLatencyHistograms histograms = new RouteLatencyHistograms(Duration.ofSeconds(10), now::get);
+
+    @Test
+    @DisplayName("Debe publicar los percentiles de cada ruta y estado del último intervalo")
+    void shouldReportIntervalPercentiles() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        histograms.bindTo(registry);
+        for (int i = 1; i <= 1000; i++) {
+            histograms.record("GET", "/api/v1/usuarios/{id}", 200, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        histograms.record("GET", "/api/v1/usuarios/{id}", 404, TimeUnit.MILLISECONDS.toNanos(3));
+
+        // Act
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        List<RouteLatencyHistograms.RouteLatencySnapshot> snapshots = histograms.snapshot();
+
+        // Assert
+        assertEquals(2, snapshots.size());
+        RouteLatencyHistograms.Percentiles interval = snapshots.get(0).interval();
+        assertEquals(200, snapshots.get(0).status());
+        assertEquals(1000, interval.count());
+        assertEquals(500, interval.p50(), 5);
+        assertEquals(990, interval.p99(), 10);
+        assertEquals(1000, interval.max(), 10);
+        assertEquals(0.999, registry.get("http.server.route.latency")
+                .tags("method", "GET", "route", "/api/v1/usuarios/{id}", "status", "200", "quantile", "0.999")
+                .gauge().value(), 0.01);
+        assertEquals(0.003, registry.get("http.server.route.latency.max").tag("status", "404").gauge().value(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Debe iniciar un nuevo intervalo al vencer el anterior y conservar el total")
+    void shouldRotateIntervals() {
+        // Arrange
+        histograms.record("POST", "/api/v1/usuarios", 200, TimeUnit.MILLISECONDS.toNanos(40));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        histograms.snapshot();
+        histograms.record("POST", "/api/v1/usuarios", 200, TimeUnit.MILLISECONDS.toNanos(80));
+
+        // Act
+        RouteLatencyHistograms.RouteLatencySnapshot beforeDue = histograms.snapshot().get(0);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        RouteLatencyHistograms.RouteLatencySnapshot afterDue = histograms.snapshot().get(0);
+
+        // Assert
+        assertEquals(1, beforeDue.interval().count());
+        assertEquals(40, beforeDue.interval().max(), 1);
+        assertEquals(1, afterDue.interval().count());
+        assertEquals(80, afterDue.interval().max(), 1);
+        assertEquals(2, afterDue.total().count());
+    }
+
+    @Test
+    @DisplayName("Debe acotar las latencias mayores a la máxima registrable")
+    void shouldClampSlowRequests() {
+        // Act
+        histograms.record("GET", "/api/v1/usuarios", 200, TimeUnit.MINUTES.toNanos(5));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // Assert
+        assertTrue(histograms.snapshot().get(0).interval().max() >= TimeUnit.MINUTES.toMillis(1) * 0.99);
+    }
+
+    @Test
+    @DisplayName("Debe agrupar los métodos no estándar en un único histograma")
+    void shouldShareHistogramForUnknownMethods() {
+        // Act
+        histograms.record("FOO", RouteLatencyFilter.UNMATCHED_ROUTE, 404, TimeUnit.MILLISECONDS.toNanos(1));
+        histograms.record("BAR", RouteLatencyFilter.UNMATCHED_ROUTE, 404, TimeUnit.MILLISECONDS.toNanos(2));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        List<RouteLatencyHistograms.RouteLatencySnapshot> snapshots = histograms.snapshot();
+
+        // Assert
+        assertEquals(1, snapshots.size());
+        assertEquals(RouteLatencyHistograms.OTHER_METHOD, snapshots.get(0).method());
+        assertEquals(2, snapshots.get(0).interval().count());
+    }
+}
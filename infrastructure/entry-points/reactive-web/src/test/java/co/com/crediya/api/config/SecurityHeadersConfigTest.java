@@ -0,0 +1,86 @@
+package co.com.crediya.api.config;
+
+import co.com.crediya.usecase.token.TokenUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.WebFilter;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+class SecurityHeadersConfigTest {
+
+    private final SecurityHeadersConfig filter = new SecurityHeadersConfig(
+            new CachePolicyProperties(Map.of("/api/v1/usuarios/{id}", "private, no-cache")));
+
+    @Test
+    @DisplayName("Debe aplicar la política de caché de la ruta a las consultas")
+    void shouldApplyRouteCachePolicy() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios/1"));
+
+        // Act
+        StepVerifier.create(filter.filter(exchange, ex -> Mono.empty())).verifyComplete();
+
+        // Assert
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertEquals("private, no-cache", headers.getCacheControl());
+        assertNull(headers.getFirst(HttpHeaders.PRAGMA));
+        assertEquals("nosniff", headers.getFirst("X-Content-Type-Options"));
+    }
+
+    @Test
+    @DisplayName("Debe impedir guardar las respuestas de rutas sin política o que no son consultas")
+    void shouldNotStoreOtherResponses() {
+        // Arrange
+        MockServerWebExchange list = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/usuarios"));
+        MockServerWebExchange update = MockServerWebExchange.from(MockServerHttpRequest.put("/api/v1/usuarios/1"));
+
+        // Act
+        StepVerifier.create(filter.filter(list, ex -> Mono.empty())).verifyComplete();
+        StepVerifier.create(filter.filter(update, ex -> Mono.empty())).verifyComplete();
+
+        // Assert
+        for (MockServerWebExchange exchange : new MockServerWebExchange[]{list, update}) {
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            assertEquals("no-store", headers.getCacheControl());
+            assertEquals("no-cache", headers.getFirst(HttpHeaders.PRAGMA));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe agregar los encabezados también a las respuestas que rechaza la autenticación")
+    void shouldAddHeadersToRejectedRequests() {
+        // Arrange
+        AuthenticationFilter authenticationFilter = new AuthenticationFilter(Mockito.mock(TokenUseCase.class),
+                Jackson2ObjectMapperBuilder.json().build(), new AuthenticationProperties(List.of("/api/v1/usuarios/{id}")));
+        List<WebFilter> filters = new ArrayList<>(List.of(authenticationFilter, filter));
+        AnnotationAwareOrderComparator.sort(filters);
+        WebTestClient client = WebTestClient
+                .bindToRouterFunction(route(GET("/api/v1/usuarios/{id}"), request -> ServerResponse.ok().build()))
+                .webFilter(filters.toArray(WebFilter[]::new))
+                .build();
+
+        // Act & Assert
+        client.get().uri("/api/v1/usuarios/1")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().valueEquals("X-Content-Type-Options", "nosniff");
+    }
+}
@@ -0,0 +1,46 @@
+package co.com.crediya.api.dto;
+
+import co.com.crediya.api.dto.rol.RolDTO;
+import co.com.crediya.api.dto.usuario.UsuarioDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PiiMaskTest {
+
+    @Test
+    @DisplayName("Debe enmascarar cada tipo de dato personal")
+    void shouldMaskValues() {
+        assertEquals("J***", PiiMask.initial("Jane"));
+        assertEquals("j***@example.com", PiiMask.email("jane@example.com"));
+        assertEquals("***", PiiMask.email("no-es-un-correo"));
+        assertEquals("***3456", PiiMask.lastDigits("123456", 4));
+        assertEquals("***", PiiMask.lastDigits("123", 4));
+        assertEquals("***", PiiMask.hidden(BigDecimal.TEN));
+        assertNull(PiiMask.hidden(null));
+    }
+
+    @Test
+    @DisplayName("Debe ocultar los datos personales al describir un usuario")
+    void shouldMaskUsuarioDescription() {
+        // Arrange
+        UsuarioDTO usuario = new UsuarioDTO(7, "Jane", "Doe", new Date(0), "jane@example.com", "1234567890",
+                "3101234567", "Calle 1 # 2-3", new BigDecimal("5000000"), new RolDTO(1, "ADMIN", null), "secreto123");
+
+        // Act
+        String description = usuario.toString();
+
+        // Assert
+        assertEquals("UsuarioDTO[id=7, nombres=J***, apellidos=D***, fechaNacimiento=***, email=j***@example.com, "
+                + "documentoIdentidad=***7890, telefono=***4567, direccion=***, salarioBase=***, "
+                + "rol=RolDTO[id=1, nombre=ADMIN, descripcion=null], password=***]", description);
+        assertFalse(description.contains("Calle"));
+        assertFalse(description.contains("secreto"));
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.crediya.api.handler;
+
+import co.com.crediya.model.exceptions.DocumentoIdentidadAlreadyExistsException;
+import co.com.crediya.model.exceptions.EmailAlreadyExistsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    @DisplayName("Debe reutilizar la respuesta 409 ya serializada para el mismo mensaje")
+    void shouldReuseSerializedConflict() {
+        // Act
+        ResponseEntity<byte[]> first = handler.handleEmailAlreadyExistsException(
+                new EmailAlreadyExistsException("El correo electrónico ya está registrado")).block();
+        ResponseEntity<byte[]> second = handler.handleEmailAlreadyExistsException(
+                new EmailAlreadyExistsException("El correo electrónico ya está registrado")).block();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(409, first.getStatusCode().value());
+        assertEquals(MediaType.APPLICATION_JSON, first.getHeaders().getContentType());
+        assertEquals("{\"codigo\":409,\"mensaje\":\"El correo electrónico ya está registrado\"}",
+                new String(first.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar las excepciones de negocio sin capturar la traza")
+    void shouldRaiseStacklessDomainExceptions() {
+        // Act
+        DocumentoIdentidadAlreadyExistsException ex =
+                new DocumentoIdentidadAlreadyExistsException("El documento de identidad ya está registrado");
+        ex.addSuppressed(new IllegalStateException("checkpoint"));
+
+        // Assert
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals(0, ex.getSuppressed().length);
+    }
+}
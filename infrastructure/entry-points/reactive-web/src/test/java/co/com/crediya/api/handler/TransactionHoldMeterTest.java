@@ -0,0 +1,39 @@
+package co.com.crediya.api.handler;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionHoldMeterTest {
+
+    @Test
+    @DisplayName("Debe medir el tiempo de cada transacción, también cuando falla")
+    void shouldTimeEveryTransaction() {
+        // Arrange
+        TransactionHoldMeter meter = new TransactionHoldMeter();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        meter.bindTo(registry);
+
+        // Act
+        StepVerifier.create(meter.time("save", Mono.just(1).delayElement(Duration.ofMillis(50))))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(meter.time("save", Mono.error(new IllegalStateException("rollback"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Assert
+        Timer timer = registry.get("usuario.transaction.hold").tag("operation", "save").timer();
+        assertEquals(2, timer.count());
+        assertTrue(timer.max(TimeUnit.MILLISECONDS) >= 50);
+    }
+}